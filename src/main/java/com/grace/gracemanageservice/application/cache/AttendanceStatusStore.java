@@ -0,0 +1,209 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.application.event.AttendanceDailyChangedEvent;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.repository.AttendanceDailyRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.response.AttendanceStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory per-user daily attendance status keyed by (userId, epoch-day).
+ * Entries are built lazily from the user row and its T_ATTENDANCE_DAILY row on first read,
+ * then kept current by committed rollup snapshots, so getStatus is answered without SQL.
+ * Snapshots carry the row version and only a newer version replaces an older one, which makes
+ * a DB load and a concurrent update commute - whichever lands first, the latest row wins.
+ * Events only arrive for writes committed on this node, so an entry older than max-age-ms is
+ * re-read from the database on its next read to pick up check-ins written through other nodes.
+ */
+@Slf4j
+@Component
+public class AttendanceStatusStore {
+
+    private final AttendanceDailyRepository attendanceDailyRepository;
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final long maxAgeMs;
+
+    private final ConcurrentMap<Long, ConcurrentMap<Long, DailyStatus>> days = new ConcurrentHashMap<>();
+    private volatile long currentEpochDay = Long.MIN_VALUE;
+
+    @Autowired
+    public AttendanceStatusStore(AttendanceDailyRepository attendanceDailyRepository, UserRepository userRepository,
+            @Value("${attendance.status.max-age-ms:15000}") long maxAgeMs) {
+        this(attendanceDailyRepository, userRepository, Clock.systemDefaultZone(), maxAgeMs);
+    }
+
+    AttendanceStatusStore(AttendanceDailyRepository attendanceDailyRepository, UserRepository userRepository,
+            Clock clock, long maxAgeMs) {
+        this.attendanceDailyRepository = attendanceDailyRepository;
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * Get today's status for a user, loading it from the database on a miss
+     */
+    public AttendanceStatusResponse getStatus(Long userId) {
+        LocalDate today = LocalDate.now(clock);
+        ConcurrentMap<Long, DailyStatus> day = dayFor(today.toEpochDay());
+
+        DailyStatus status = day.get(userId);
+        if (status == null) {
+            DailyStatus created = new DailyStatus();
+            status = day.putIfAbsent(userId, created);
+            if (status == null) {
+                status = created;
+                try {
+                    load(userId, today, created);
+                } catch (RuntimeException ex) {
+                    day.remove(userId, created);
+                    throw ex;
+                }
+            }
+        }
+
+        if (!status.ready) {
+            // Another request is still loading this entry - answer from the database this once
+            DailyStatus transientStatus = new DailyStatus();
+            load(userId, today, transientStatus);
+            return transientStatus.toResponse();
+        }
+        if (isStale(status)) {
+            // Re-read rows other nodes may have written; offer() keeps whichever version is newer
+            try {
+                load(userId, today, status);
+            } catch (RuntimeException ex) {
+                day.remove(userId, status);
+                throw ex;
+            }
+        }
+        return status.toResponse();
+    }
+
+    /**
+     * True for the one caller that gets to refresh an expired entry; others keep serving it meanwhile
+     */
+    private boolean isStale(DailyStatus status) {
+        if (maxAgeMs <= 0) {
+            return false;
+        }
+        long now = clock.millis();
+        long loadedAt = status.loadedAt.get();
+        return now - loadedAt >= maxAgeMs && status.loadedAt.compareAndSet(loadedAt, now);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendanceDailyChanged(AttendanceDailyChangedEvent event) {
+        AttendanceDaily daily = event.daily();
+        ConcurrentMap<Long, DailyStatus> day = days.get(daily.getWorkDate().toEpochDay());
+        if (day == null) {
+            return;
+        }
+        DailyStatus status = day.get(daily.getUserId());
+        if (status != null) {
+            // Entries not yet present will read this row when they load from the database
+            status.offer(daily);
+        }
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        days.values().forEach(day -> day.remove(userId));
+    }
+
+    /**
+     * Drop everything, e.g. after rollup rows were rebuilt outside the write path
+     */
+    public void clear() {
+        days.clear();
+    }
+
+    private void load(Long userId, LocalDate today, DailyStatus target) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        target.advanceLastCheckIn(user.getLastCheckInTime());
+        target.advanceLastCheckOut(user.getLastCheckOutTime());
+
+        attendanceDailyRepository.findByUserIdAndWorkDate(userId, today).ifPresent(target::offer);
+        target.loadedAt.set(clock.millis());
+        target.ready = true;
+        log.debug("Loaded attendance status for user {} on {}", userId, today);
+    }
+
+    /**
+     * Day maps are created on demand; when the date moves on, everything older than
+     * yesterday is dropped so late events for the previous day still find their entries.
+     */
+    private ConcurrentMap<Long, DailyStatus> dayFor(long epochDay) {
+        if (epochDay != currentEpochDay) {
+            currentEpochDay = epochDay;
+            days.keySet().removeIf(d -> d < epochDay - 1);
+        }
+        return days.computeIfAbsent(epochDay, d -> new ConcurrentHashMap<>());
+    }
+
+    int cachedDayCount() {
+        return days.size();
+    }
+
+    static final class DailyStatus {
+        private final AtomicReference<AttendanceDaily> snapshot = new AtomicReference<>();
+        private final AtomicReference<LocalDateTime> lastCheckIn = new AtomicReference<>();
+        private final AtomicReference<LocalDateTime> lastCheckOut = new AtomicReference<>();
+        private final AtomicLong loadedAt = new AtomicLong();
+        private volatile boolean ready;
+
+        void offer(AttendanceDaily daily) {
+            snapshot.accumulateAndGet(daily, (current, candidate) ->
+                    current == null || candidate.getVersion() > current.getVersion() ? candidate : current);
+            advanceLastCheckIn(daily.getLastCheckIn());
+            advanceLastCheckOut(daily.getLastCheckOut());
+        }
+
+        void advanceLastCheckIn(LocalDateTime time) {
+            advance(lastCheckIn, time);
+        }
+
+        void advanceLastCheckOut(LocalDateTime time) {
+            advance(lastCheckOut, time);
+        }
+
+        private static void advance(AtomicReference<LocalDateTime> ref, LocalDateTime time) {
+            if (time != null) {
+                ref.accumulateAndGet(time, (current, candidate) ->
+                        current == null || candidate.isAfter(current) ? candidate : current);
+            }
+        }
+
+        AttendanceStatusResponse toResponse() {
+            AttendanceDaily daily = snapshot.get();
+            int in = daily != null ? daily.getCheckInCount() : 0;
+            int out = daily != null ? daily.getCheckOutCount() : 0;
+            // User is checked in if check-ins > check-outs for today
+            return new AttendanceStatusResponse(in > out, lastCheckIn.get(), lastCheckOut.get(), in, out);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import com.grace.gracemanageservice.domain.entity.Role;
+import com.grace.gracemanageservice.domain.repository.RoleRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Authorization decisions per (roleId, permission), answered from one cached PermissionCode bitmask per role:
+ * the mask holds the decision for every permission of the role, so a check is a map read and an AND.
+ * Masks are loaded on first use and dropped once a role update or delete commits (RoleChangedEvent,
+ * published by UpdateRoleUseCase and DeleteRoleUseCase). A load that overlaps an invalidation is not kept.
+ * Roles changed on other nodes are picked up when the whole cache is dropped every refresh-ms.
+ */
+@Component
+public class RolePermissionCache {
+
+    private final RoleRepository roleRepository;
+
+    private final ConcurrentMap<Long, Long> masks = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RolePermissionCache(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    public boolean isGranted(Long roleId, PermissionCode permission) {
+        return (maskOf(roleId) & permission.getMask()) != 0;
+    }
+
+    /**
+     * Unknown permission codes are never granted
+     */
+    public boolean isGranted(Long roleId, String permissionCode) {
+        long bit = PermissionCode.maskOf(permissionCode);
+        return bit != 0 && (maskOf(roleId) & bit) != 0;
+    }
+
+    public Set<PermissionCode> permissionsOf(Long roleId) {
+        return PermissionCode.fromMask(maskOf(roleId));
+    }
+
+    /**
+     * Permission bitmask of the role; 0 for no role or an unknown one
+     */
+    public long maskOf(Long roleId) {
+        if (roleId == null) {
+            return 0L;
+        }
+        Long cached = masks.get(roleId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        Long loaded = roleRepository.findById(roleId).map(Role::getPermissionMask).orElse(0L);
+        masks.put(roleId, loaded);
+        if (invalidations.get() != generation) {
+            // A role changed while this was loading - the value may predate it
+            masks.remove(roleId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Runs before the principal cache drops its entries, so a principal reloaded in between sees the new mask
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        invalidations.incrementAndGet();
+        masks.remove(event.roleId());
+    }
+
+    @Scheduled(fixedDelayString = "${security.permission-cache.refresh-ms:60000}",
+            initialDelayString = "${security.permission-cache.refresh-ms:60000}")
+    public void refresh() {
+        invalidations.incrementAndGet();
+        masks.clear();
+    }
+
+    int size() {
+        return masks.size();
+    }
+}
@@ -0,0 +1,513 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.domain.entity.UserView;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead index over username, email local part and first/last name.
+ * Text is lower-cased and stripped of diacritics ("Nguyễn" finds "nguyen"), then split into terms.
+ * Every term contributes its trigrams and its one- and two-character prefixes as grams (a term that short
+ * also adds itself); each gram keeps a posting list of document ordinals. A query token of three or more
+ * characters takes the rarest of its trigrams' lists as candidates, a shorter one its prefix gram's list,
+ * and candidates are then checked against the terms themselves, so results are exact. All tokens must match.
+ * Prefix lists are kept in rank order, so a lone one- or two-character query - the first keystroke, which
+ * matches a large share of the directory - stops once nothing further down can make the top.
+ * Updates append a new ordinal and leave a tombstone at the old one; tombstones are compacted away once
+ * they outnumber live documents. Searches share a read lock, updates take the write lock.
+ */
+public final class UserSearchIndex {
+
+    private static final int SCORE_EXACT = 4;
+    private static final int SCORE_PREFIX = 3;
+    private static final int SCORE_SUBSTRING = 1;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    // Keeps the score gap within the top bits of a rank key
+    private static final int MAX_QUERY_TOKENS = 8;
+    // Gram tags: 1-2 prefix, 3 trigram, 4-5 whole one- or two-character term
+    private static final int TRIGRAM = 3;
+    private static final int SHORT_TERM_TAG = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private Entry[] entries = new Entry[16];
+    private int nextOrdinal;
+    private int tombstones;
+
+    /**
+     * Normalize and tokenize a user ahead of indexing - safe to call from many threads at once
+     */
+    public static Entry entryOf(UserView user) {
+        List<String> terms = new ArrayList<>();
+        addTerms(terms, user.username());
+        if (user.username() != null) {
+            // "john_doe" is also found by "johnd"
+            addTerm(terms, normalize(user.username()).replaceAll("[^\\p{L}\\p{N}]", ""));
+        }
+        String email = user.email();
+        addTerms(terms, email != null && email.indexOf('@') >= 0 ? email.substring(0, email.indexOf('@')) : email);
+        addTerms(terms, user.firstName());
+        addTerms(terms, user.lastName());
+
+        long[] grams = terms.stream().flatMapToLong(term -> Arrays.stream(gramsOf(term))).distinct().toArray();
+        Arrays.sort(grams);
+        return new Entry(user, terms, grams);
+    }
+
+    public void put(UserView user) {
+        put(entryOf(user));
+    }
+
+    public void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            putLocked(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add many prepared entries under one lock acquisition, then put the prefix lists back in rank order
+     */
+    public void putAll(List<Entry> batch) {
+        lock.writeLock().lock();
+        try {
+            batch.forEach(this::putLocked);
+            sortPrefixPostings();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.remove(userId);
+            if (ordinal != null) {
+                entries[ordinal] = null;
+                tombstones++;
+                compactIfSparse();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matches first: per token an exact term beats a term prefix beats a substring;
+     * ties go to the shorter username, then the lower id
+     */
+    public List<UserView> search(String query, int limit) {
+        String[] tokens = tokenize(query);
+        if (tokens.length > MAX_QUERY_TOKENS) {
+            tokens = Arrays.copyOf(tokens, MAX_QUERY_TOKENS);
+        }
+        if (tokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            TopMatches top = new TopMatches(limit, SCORE_EXACT * tokens.length);
+            if (tokens.length == 1 && tokens[0].length() < TRIGRAM) {
+                searchShortToken(tokens[0], top);
+            } else {
+                searchTokens(tokens, top);
+            }
+            return top.users();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A lone one- or two-character token: whole-term matches first, then the prefix list in rank order until
+     * a prefix match can no longer make the top. Ordinals added since the last sort are all scored.
+     */
+    private void searchShortToken(String token, TopMatches top) {
+        Postings exact = postings.get(gram(token, 0, token.length(), SHORT_TERM_TAG + token.length()));
+        if (exact != null) {
+            for (int i = 0; i < exact.size; i++) {
+                Entry entry = entries[exact.values[i]];
+                if (entry != null) {
+                    top.offer(entry, SCORE_EXACT);
+                }
+            }
+        }
+
+        Postings prefix = postings.get(gram(token, 0, token.length(), token.length()));
+        if (prefix == null) {
+            return;
+        }
+        for (int i = 0; i < prefix.sorted; i++) {
+            Entry entry = entries[prefix.values[i]];
+            if (entry != null && !top.offerPrefix(entry, token)) {
+                break;
+            }
+        }
+        for (int i = prefix.sorted; i < prefix.size; i++) {
+            Entry entry = entries[prefix.values[i]];
+            if (entry != null) {
+                top.offerPrefix(entry, token);
+            }
+        }
+    }
+
+    /**
+     * General case: score every candidate of the token with the fewest
+     */
+    private void searchTokens(String[] tokens, TopMatches top) {
+        Postings driver = null;
+        for (String token : tokens) {
+            Postings candidates = candidatesFor(token);
+            if (candidates == null) {
+                return;
+            }
+            if (driver == null || candidates.size < driver.size) {
+                driver = candidates;
+            }
+        }
+
+        for (int i = 0; i < driver.size; i++) {
+            Entry entry = entries[driver.values[i]];
+            if (entry == null) {
+                continue;
+            }
+            int score = 0;
+            for (String token : tokens) {
+                int tokenScore = entry.score(token);
+                if (tokenScore == 0) {
+                    score = 0;
+                    break;
+                }
+                score += tokenScore;
+            }
+            if (score > 0) {
+                top.offer(entry, score);
+            }
+        }
+    }
+
+    /**
+     * Ordinals that may contain the token: the shortest posting list among its grams, or null if a gram
+     * has no postings. Candidates are verified term by term afterwards, so one list is enough.
+     */
+    private Postings candidatesFor(String token) {
+        Postings best = null;
+        for (long gram : queryGramsOf(token)) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return null;
+            }
+            if (best == null || list.size < best.size) {
+                best = list;
+            }
+        }
+        return best;
+    }
+
+    private void putLocked(Entry entry) {
+        Integer previous = ordinalById.get(entry.user.id());
+        if (previous != null) {
+            entries[previous] = null;
+            tombstones++;
+        }
+        if (nextOrdinal == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        int ordinal = nextOrdinal++;
+        entries[ordinal] = entry;
+        ordinalById.put(entry.user.id(), ordinal);
+        for (long gram : entry.grams) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(ordinal);
+        }
+        compactIfSparse();
+    }
+
+    private void compactIfSparse() {
+        if (tombstones < MIN_TOMBSTONES_TO_COMPACT || tombstones < ordinalById.size()) {
+            return;
+        }
+        Entry[] live = Arrays.stream(entries, 0, nextOrdinal).filter(entry -> entry != null).toArray(Entry[]::new);
+        postings.clear();
+        ordinalById.clear();
+        entries = new Entry[Math.max(16, live.length * 2)];
+        nextOrdinal = 0;
+        tombstones = 0;
+        for (Entry entry : live) {
+            putLocked(entry);
+        }
+        sortPrefixPostings();
+    }
+
+    /**
+     * Reorder every prefix list by rank key and drop its tombstoned ordinals
+     */
+    private void sortPrefixPostings() {
+        // Rank keys are unique (they end in the id), so a key's position in sorted order is its rank
+        long[] ranked = new long[ordinalById.size()];
+        int live = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (entries[ordinal] != null) {
+                ranked[live++] = entries[ordinal].rankKey;
+            }
+        }
+        Arrays.sort(ranked, 0, live);
+        int[] rankPosition = new int[nextOrdinal];
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (entries[ordinal] != null) {
+                rankPosition[ordinal] = Arrays.binarySearch(ranked, 0, live, entries[ordinal].rankKey);
+            }
+        }
+
+        postings.forEach((gram, list) -> {
+            if ((gram >>> 48) >= TRIGRAM) {
+                return;
+            }
+            long[] keyed = new long[list.size];
+            int n = 0;
+            for (int i = 0; i < list.size; i++) {
+                int ordinal = list.values[i];
+                if (entries[ordinal] != null) {
+                    keyed[n++] = (long) rankPosition[ordinal] << 32 | ordinal;
+                }
+            }
+            Arrays.sort(keyed, 0, n);
+            for (int i = 0; i < n; i++) {
+                list.values[i] = (int) keyed[i];
+            }
+            list.size = n;
+            list.sorted = n;
+        });
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            // đ has no decomposition
+            normalized.append(c == 'đ' ? 'd' : c);
+        }
+        return normalized.toString();
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        return Arrays.stream(normalize(text).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private static void addTerms(List<String> terms, String text) {
+        for (String token : tokenize(text)) {
+            addTerm(terms, token);
+        }
+    }
+
+    private static void addTerm(List<String> terms, String term) {
+        if (!term.isEmpty() && !terms.contains(term)) {
+            terms.add(term);
+        }
+    }
+
+    /**
+     * Grams stored for a term: its one- and two-character prefixes, every trigram, and the term itself
+     * when it is shorter than a trigram
+     */
+    private static long[] gramsOf(String term) {
+        int trigrams = Math.max(term.length() - 2, 0);
+        long[] grams = new long[Math.min(term.length(), 2) + Math.max(trigrams, 1)];
+        int n = 0;
+        grams[n++] = gram(term, 0, 1, 1);
+        if (term.length() >= 2) {
+            grams[n++] = gram(term, 0, 2, 2);
+        }
+        for (int i = 0; i < trigrams; i++) {
+            grams[n++] = gram(term, i, TRIGRAM, TRIGRAM);
+        }
+        if (trigrams == 0) {
+            grams[n] = gram(term, 0, term.length(), SHORT_TERM_TAG + term.length());
+        }
+        return grams;
+    }
+
+    /**
+     * Grams a term must have to match the token: the prefix gram for one or two characters, else its trigrams
+     */
+    private static long[] queryGramsOf(String token) {
+        if (token.length() < TRIGRAM) {
+            return new long[] {gram(token, 0, token.length(), token.length())};
+        }
+        long[] grams = new long[token.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(token, i, TRIGRAM, TRIGRAM);
+        }
+        return grams;
+    }
+
+    /**
+     * Pack up to three chars under a tag, so the prefix "ab", the term "ab" and the trigram "ab?" never collide
+     */
+    private static long gram(String text, int start, int length, int tag) {
+        long packed = tag;
+        for (int i = 0; i < TRIGRAM; i++) {
+            packed = (packed << 16) | (i < length ? text.charAt(start + i) : 0);
+        }
+        return packed;
+    }
+
+    /**
+     * A user prepared for the index: normalized terms and the sorted, distinct grams they produce.
+     * Terms are kept in one space-separated string so scoring a candidate touches a single array.
+     */
+    public static final class Entry {
+        private final UserView user;
+        private final String text;
+        private final int[] termStarts;
+        private final long[] grams;
+        // Tie-break among equal scores: username length (bits 40-55), then id (low 40 bits)
+        private final long rankKey;
+
+        private Entry(UserView user, List<String> terms, long[] grams) {
+            this.user = user;
+            StringBuilder text = new StringBuilder();
+            this.termStarts = new int[terms.size()];
+            for (int i = 0; i < termStarts.length; i++) {
+                termStarts[i] = text.length();
+                text.append(terms.get(i)).append(' ');
+            }
+            this.text = text.toString();
+            this.grams = grams;
+            int usernameLength = user.username() != null ? Math.min(user.username().length(), 0xFFFF) : 0;
+            this.rankKey = ((long) usernameLength << 40) | (user.id() & 0xFF_FFFF_FFFFL);
+        }
+
+        public UserView user() {
+            return user;
+        }
+
+        /**
+         * Best match of the token against any term, 0 for none; short tokens only match as a prefix.
+         * Tokens hold no spaces, so a hit never spans two terms.
+         */
+        int score(String token) {
+            int best = 0;
+            for (int start : termStarts) {
+                if (text.startsWith(token, start)) {
+                    if (text.charAt(start + token.length()) == ' ') {
+                        return SCORE_EXACT;
+                    }
+                    best = SCORE_PREFIX;
+                }
+            }
+            if (best == 0 && token.length() >= TRIGRAM && text.contains(token)) {
+                best = SCORE_SUBSTRING;
+            }
+            return best;
+        }
+    }
+
+    /**
+     * The best limit matches so far, ascending by key: score gap to the maximum in the top bits, then the
+     * entry's rank key. Smaller is better; nothing is allocated per candidate.
+     */
+    private static final class TopMatches {
+        private final long[] keys;
+        private final Entry[] entries;
+        private final int maxScore;
+        private int size;
+
+        TopMatches(int limit, int maxScore) {
+            this.keys = new long[limit];
+            this.entries = new Entry[limit];
+            this.maxScore = maxScore;
+        }
+
+        void offer(Entry entry, int score) {
+            long key = key(entry, score);
+            if (size < keys.length || key < keys[size - 1]) {
+                insert(key, entry);
+            }
+        }
+
+        /**
+         * Offer an entry from the token's prefix list; whole-term matches were already offered as exact.
+         * False once a prefix match at this entry's rank can no longer make the top.
+         */
+        boolean offerPrefix(Entry entry, String token) {
+            long key = key(entry, SCORE_PREFIX);
+            if (size == keys.length && key >= keys[size - 1]) {
+                return false;
+            }
+            if (entry.score(token) == SCORE_PREFIX) {
+                insert(key, entry);
+            }
+            return true;
+        }
+
+        List<UserView> users() {
+            List<UserView> users = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                users.add(entries[i].user);
+            }
+            return users;
+        }
+
+        private long key(Entry entry, int score) {
+            return ((long) (maxScore - score) << 56) | entry.rankKey;
+        }
+
+        private void insert(long key, Entry entry) {
+            int at = size < keys.length ? size++ : size - 1;
+            while (at > 0 && keys[at - 1] > key) {
+                keys[at] = keys[at - 1];
+                entries[at] = entries[at - 1];
+                at--;
+            }
+            keys[at] = key;
+            entries[at] = entry;
+        }
+    }
+
+    /**
+     * Growable list of ordinals; for prefix grams the first sorted of them are in rank order
+     */
+    private static final class Postings {
+        private int[] values = new int[4];
+        private int size;
+        private int sorted;
+
+        void add(int ordinal) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+    }
+}
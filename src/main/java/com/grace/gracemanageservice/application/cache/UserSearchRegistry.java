@@ -0,0 +1,168 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.application.event.UserCreatedEvent;
+import com.grace.gracemanageservice.application.event.UsersImportedEvent;
+import com.grace.gracemanageservice.domain.entity.UserView;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Typeahead user search, answered from an in-memory UserSearchIndex without touching the database.
+ * A rebuild reads the directory in id ranges on several threads, tokenizes each range where it was read,
+ * builds a new index and swaps the reference. Users created, updated or deleted while a rebuild is reading
+ * are re-read once the new index is in place, so no committed change is lost to the swap.
+ * Rebuilt at startup and periodically to pick up other nodes' changes; single users are re-indexed
+ * after every committed change on this node.
+ */
+@Slf4j
+@Component
+public class UserSearchRegistry {
+
+    private final UserRepository userRepository;
+    private final int rebuildThreads;
+    private final int rebuildChunkSize;
+
+    private volatile UserSearchIndex index = new UserSearchIndex();
+    private volatile boolean rebuilding;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public UserSearchRegistry(UserRepository userRepository,
+            @Value("${user-search.rebuild-threads:0}") int rebuildThreads,
+            @Value("${user-search.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.userRepository = userRepository;
+        // Tokenizing is CPU-bound and the reads are small: by default one thread per core, at most four
+        this.rebuildThreads = rebuildThreads > 0
+                ? rebuildThreads
+                : Math.min(4, Runtime.getRuntime().availableProcessors());
+        this.rebuildChunkSize = Math.max(1, rebuildChunkSize);
+    }
+
+    /**
+     * Best matches for a typeahead query, best first
+     */
+    public List<UserView> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${user-search.refresh-ms:900000}",
+            initialDelayString = "${user-search.refresh-ms:900000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserCreated(UserCreatedEvent event) {
+        reindex(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        reindex(event.userId());
+    }
+
+    /**
+     * One read for the whole chunk: imported ids are close together, so their id range is read and indexed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsersImported(UsersImportedEvent event) {
+        if (event.userIds().isEmpty()) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.addAll(event.userIds());
+        }
+        long fromId = Collections.min(event.userIds());
+        long toId = Collections.max(event.userIds()) + 1;
+        index.putAll(userRepository.findViewsByIdRange(fromId, toId).stream()
+                .map(UserSearchIndex::entryOf)
+                .toList());
+    }
+
+    /**
+     * Re-read one user into the current index, or drop it when it no longer exists
+     */
+    public void reindex(Long userId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(userId);
+        }
+        apply(index, userId);
+    }
+
+    /**
+     * Reload the whole directory in parallel id ranges and swap in a freshly built index
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        UserSearchIndex rebuilt = new UserSearchIndex();
+        try {
+            rebuilt.putAll(loadEntries());
+            index = rebuilt;
+        } finally {
+            rebuilding = false;
+        }
+        for (Long userId : changedDuringRebuild) {
+            apply(rebuilt, userId);
+        }
+        log.info("User search index rebuilt with {} users in {} ms",
+                rebuilt.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private List<UserSearchIndex.Entry> loadEntries() {
+        long maxId = userRepository.maxId();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads, runnable -> {
+            Thread thread = new Thread(runnable, "user-search-rebuild-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<List<UserSearchIndex.Entry>>> chunks = new ArrayList<>();
+            for (long fromId = 0; fromId <= maxId; fromId += rebuildChunkSize) {
+                long from = fromId;
+                long to = Math.min(fromId + rebuildChunkSize, maxId + 1);
+                chunks.add(CompletableFuture.supplyAsync(() -> userRepository.findViewsByIdRange(from, to).stream()
+                        .map(UserSearchIndex::entryOf)
+                        .toList(), executor));
+            }
+            // Joined in range order, so ordinals follow ids
+            List<UserSearchIndex.Entry> entries = new ArrayList<>();
+            chunks.forEach(chunk -> entries.addAll(chunk.join()));
+            return entries;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void apply(UserSearchIndex target, Long userId) {
+        userRepository.findViewById(userId).ifPresentOrElse(target::put, () -> target.remove(userId));
+    }
+}
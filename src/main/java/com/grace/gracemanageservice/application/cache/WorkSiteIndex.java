@@ -0,0 +1,215 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.domain.entity.GeoPoint;
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable grid index over work-site geofences.
+ * The globe is cut into fixed cells of cellDegrees x cellDegrees; each site is registered in every
+ * cell its bounding box touches. A lookup visits only the cells under the point's accuracy circle
+ * (one to four for GPS-grade accuracy) and runs the exact shape test on the few sites found there.
+ * Distances use a local equirectangular projection around the point, accurate to well under a
+ * metre at site scale. Sites crossing the antimeridian are not supported.
+ */
+public final class WorkSiteIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180;
+
+    private static final WorkSiteIndex EMPTY = new WorkSiteIndex(1.0, Map.of(), 0);
+
+    private final double cellDegrees;
+    private final Map<Long, Entry[]> cells;
+    private final int size;
+
+    private WorkSiteIndex(double cellDegrees, Map<Long, Entry[]> cells, int size) {
+        this.cellDegrees = cellDegrees;
+        this.cells = cells;
+        this.size = size;
+    }
+
+    public static WorkSiteIndex empty() {
+        return EMPTY;
+    }
+
+    public static WorkSiteIndex build(Collection<WorkSite> sites, double cellDegrees) {
+        Map<Long, List<Entry>> building = new HashMap<>();
+        for (WorkSite site : sites) {
+            Entry entry = Entry.of(site);
+            long minLat = cell(entry.minLat, cellDegrees);
+            long maxLat = cell(entry.maxLat, cellDegrees);
+            long minLng = cell(entry.minLng, cellDegrees);
+            long maxLng = cell(entry.maxLng, cellDegrees);
+            for (long lat = minLat; lat <= maxLat; lat++) {
+                for (long lng = minLng; lng <= maxLng; lng++) {
+                    building.computeIfAbsent(key(lat, lng), k -> new ArrayList<>(2)).add(entry);
+                }
+            }
+        }
+
+        Map<Long, Entry[]> cells = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((key, entries) -> cells.put(key, entries.toArray(new Entry[0])));
+        return new WorkSiteIndex(cellDegrees, cells, sites.size());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find the site containing the point, giving it the benefit of its accuracy radius: a site
+     * matches when any part of the accuracy circle overlaps it. When several match, the one the
+     * point is nearest to (or inside) wins.
+     */
+    public Optional<WorkSite> locate(double latitude, double longitude, double accuracyMeters) {
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double latMargin = accuracyMeters / METERS_PER_DEGREE;
+        double lngMargin = accuracyMeters / (METERS_PER_DEGREE * Math.max(cosLat, 1e-6));
+
+        long minLat = cell(latitude - latMargin, cellDegrees);
+        long maxLat = cell(latitude + latMargin, cellDegrees);
+        long minLng = cell(longitude - lngMargin, cellDegrees);
+        long maxLng = cell(longitude + lngMargin, cellDegrees);
+
+        Entry best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (long lat = minLat; lat <= maxLat; lat++) {
+            for (long lng = minLng; lng <= maxLng; lng++) {
+                Entry[] entries = cells.get(key(lat, lng));
+                if (entries == null) {
+                    continue;
+                }
+                for (Entry entry : entries) {
+                    if (entry == best || !entry.overlaps(latitude, longitude, latMargin, lngMargin)) {
+                        continue;
+                    }
+                    double distance = entry.distanceMeters(latitude, longitude, cosLat);
+                    boolean closer = distance < bestDistance || (distance == bestDistance && best != null
+                            && entry.site.getId() < best.site.getId());
+                    if (distance <= accuracyMeters && closer) {
+                        best = entry;
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+        return best != null ? Optional.of(best.site) : Optional.empty();
+    }
+
+    private static long cell(double degrees, double cellDegrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(long latCell, long lngCell) {
+        return (latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    /**
+     * A site with its bounding box and boundary flattened into arrays for the hot loop
+     */
+    private static final class Entry {
+        private final WorkSite site;
+        private final double radiusMeters;
+        private final double[] lats;
+        private final double[] lngs;
+        private final double minLat;
+        private final double maxLat;
+        private final double minLng;
+        private final double maxLng;
+
+        private Entry(WorkSite site, double radiusMeters, double[] lats, double[] lngs,
+                double minLat, double maxLat, double minLng, double maxLng) {
+            this.site = site;
+            this.radiusMeters = radiusMeters;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.minLat = minLat;
+            this.maxLat = maxLat;
+            this.minLng = minLng;
+            this.maxLng = maxLng;
+        }
+
+        static Entry of(WorkSite site) {
+            if (site.isPolygon()) {
+                List<GeoPoint> boundary = site.getBoundary();
+                double[] lats = new double[boundary.size()];
+                double[] lngs = new double[boundary.size()];
+                double minLat = Double.MAX_VALUE;
+                double maxLat = -Double.MAX_VALUE;
+                double minLng = Double.MAX_VALUE;
+                double maxLng = -Double.MAX_VALUE;
+                for (int i = 0; i < lats.length; i++) {
+                    lats[i] = boundary.get(i).latitude();
+                    lngs[i] = boundary.get(i).longitude();
+                    minLat = Math.min(minLat, lats[i]);
+                    maxLat = Math.max(maxLat, lats[i]);
+                    minLng = Math.min(minLng, lngs[i]);
+                    maxLng = Math.max(maxLng, lngs[i]);
+                }
+                return new Entry(site, 0, lats, lngs, minLat, maxLat, minLng, maxLng);
+            }
+
+            double radius = site.getRadiusMeters() != null ? site.getRadiusMeters() : 0;
+            double latDelta = radius / METERS_PER_DEGREE;
+            double cosLat = Math.max(Math.cos(Math.toRadians(site.getLatitude())), 1e-6);
+            double lngDelta = radius / (METERS_PER_DEGREE * cosLat);
+            return new Entry(site, radius, null, null,
+                    site.getLatitude() - latDelta, site.getLatitude() + latDelta,
+                    site.getLongitude() - lngDelta, site.getLongitude() + lngDelta);
+        }
+
+        boolean overlaps(double latitude, double longitude, double latMargin, double lngMargin) {
+            return latitude + latMargin >= minLat && latitude - latMargin <= maxLat
+                    && longitude + lngMargin >= minLng && longitude - lngMargin <= maxLng;
+        }
+
+        /**
+         * Metres from the point to the site - 0 when the point is inside
+         */
+        double distanceMeters(double latitude, double longitude, double cosLat) {
+            if (lats == null) {
+                double dx = (site.getLongitude() - longitude) * cosLat * METERS_PER_DEGREE;
+                double dy = (site.getLatitude() - latitude) * METERS_PER_DEGREE;
+                return Math.max(0, Math.sqrt(dx * dx + dy * dy) - radiusMeters);
+            }
+
+            // Project vertices around the point (the origin), then ray-cast and measure edges in one pass
+            boolean inside = false;
+            double nearest = Double.MAX_VALUE;
+            int n = lats.length;
+            double prevX = (lngs[n - 1] - longitude) * cosLat * METERS_PER_DEGREE;
+            double prevY = (lats[n - 1] - latitude) * METERS_PER_DEGREE;
+            for (int i = 0; i < n; i++) {
+                double x = (lngs[i] - longitude) * cosLat * METERS_PER_DEGREE;
+                double y = (lats[i] - latitude) * METERS_PER_DEGREE;
+                if ((y > 0) != (prevY > 0) && x + (0 - y) * (prevX - x) / (prevY - y) > 0) {
+                    inside = !inside;
+                }
+                nearest = Math.min(nearest, distanceToSegment(prevX, prevY, x, y));
+                prevX = x;
+                prevY = y;
+            }
+            return inside ? 0 : Math.sqrt(nearest);
+        }
+
+        /**
+         * Squared distance from the origin to segment (ax, ay)-(bx, by)
+         */
+        private static double distanceToSegment(double ax, double ay, double bx, double by) {
+            double dx = bx - ax;
+            double dy = by - ay;
+            double lengthSquared = dx * dx + dy * dy;
+            double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, -(ax * dx + ay * dy) / lengthSquared));
+            double px = ax + t * dx;
+            double py = ay + t * dy;
+            return px * px + py * py;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.application.event.WorkSiteChangedEvent;
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+import com.grace.gracemanageservice.domain.repository.WorkSiteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Geofence check for check-ins, answered from an in-memory WorkSiteIndex without touching the database.
+ * The index is immutable: a rebuild loads all active sites, builds a new index and swaps the reference,
+ * so readers always see either the old or the new set of sites, never a mix.
+ * Rebuilt at startup, after every committed site change, and periodically to pick up other nodes' changes.
+ */
+@Slf4j
+@Component
+public class WorkSiteRegistry {
+
+    private final WorkSiteRepository workSiteRepository;
+    private final boolean enabled;
+    private final double maxAccuracyMeters;
+    private final double cellDegrees;
+
+    private volatile WorkSiteIndex index = WorkSiteIndex.empty();
+
+    public WorkSiteRegistry(WorkSiteRepository workSiteRepository,
+            @Value("${attendance.geofence.enabled:false}") boolean enabled,
+            @Value("${attendance.geofence.max-accuracy-meters:100}") double maxAccuracyMeters,
+            @Value("${attendance.geofence.cell-degrees:0.01}") double cellDegrees) {
+        this.workSiteRepository = workSiteRepository;
+        this.enabled = enabled;
+        this.maxAccuracyMeters = maxAccuracyMeters;
+        this.cellDegrees = cellDegrees;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Site containing the point within its accuracy, if any
+     */
+    public Optional<WorkSite> locate(double latitude, double longitude, double accuracyMeters) {
+        return index.locate(latitude, longitude, accuracyMeters);
+    }
+
+    /**
+     * Why a check-in at this location must be rejected, or null when it is acceptable
+     * (always null while geofencing is disabled)
+     */
+    public String rejectReason(Double latitude, Double longitude, Double accuracy) {
+        if (!enabled) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            return "Location is required";
+        }
+        double accuracyMeters = accuracy != null ? Math.max(accuracy, 0) : 0;
+        if (accuracyMeters > maxAccuracyMeters) {
+            return "Location accuracy must be within " + (long) maxAccuracyMeters + " meters";
+        }
+        if (index.locate(latitude, longitude, accuracyMeters).isEmpty()) {
+            return "Location is outside all work sites";
+        }
+        return null;
+    }
+
+    /**
+     * Throw a ValidationException when a check-in at this location must be rejected
+     */
+    public void verify(Double latitude, Double longitude, Double accuracy) {
+        String reason = rejectReason(latitude, longitude, accuracy);
+        if (reason != null) {
+            throw new ValidationException("location", reason);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkSiteChanged(WorkSiteChangedEvent event) {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.geofence.refresh-ms:300000}",
+            initialDelayString = "${attendance.geofence.refresh-ms:300000}")
+    public void refresh() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reload all active sites and swap in a freshly built index
+     */
+    public synchronized void rebuild() {
+        List<WorkSite> sites = workSiteRepository.findAllActive();
+        index = WorkSiteIndex.build(sites, cellDegrees);
+        log.debug("Work site index rebuilt with {} sites", sites.size());
+    }
+}
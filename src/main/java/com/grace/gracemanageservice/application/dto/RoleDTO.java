@@ -1,5 +1,6 @@
 package com.grace.gracemanageservice.application.dto;
 
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,7 +21,7 @@ public class RoleDTO {
     private Long id;
     private String name;
     private String description;
-    private Set<String> permissions;
+    private Set<PermissionCode> permissions;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
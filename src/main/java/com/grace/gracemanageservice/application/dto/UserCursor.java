@@ -0,0 +1,36 @@
+package com.grace.gracemanageservice.application.dto;
+
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.domain.entity.UserSort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a user listing - the sort it was issued for and the last row's key value.
+ * Clients receive it as an opaque URL-safe token and pass it back to fetch the next page.
+ */
+public record UserCursor(UserSort sort, String key) {
+
+    public String encode() {
+        String raw = sort.key() + "|" + (sort.descending() ? "desc" : "asc") + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+            UserSort sort = new UserSort(UserSort.Key.valueOf(parts[0]), "desc".equals(parts[1]));
+            if (sort.key() == UserSort.Key.ID) {
+                Long.parseLong(parts[2]);
+            }
+            return new UserCursor(sort, parts[2]);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+}
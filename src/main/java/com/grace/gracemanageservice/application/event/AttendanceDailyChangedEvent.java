@@ -0,0 +1,9 @@
+package com.grace.gracemanageservice.application.event;
+
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+
+/**
+ * Published inside the writing transaction with the rollup row as stored (including its new version)
+ */
+public record AttendanceDailyChangedEvent(AttendanceDaily daily) {
+}
@@ -0,0 +1,16 @@
+package com.grace.gracemanageservice.application.event;
+
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+
+import java.util.List;
+
+/**
+ * Published inside the writing transaction whenever check-in/check-out records are persisted,
+ * once per write: a multi-row insert arrives as one event carrying all of its records
+ */
+public record CheckInRecordedEvent(List<CheckInRecord> records) {
+
+    public CheckInRecordedEvent(CheckInRecord record) {
+        this(List.of(record));
+    }
+}
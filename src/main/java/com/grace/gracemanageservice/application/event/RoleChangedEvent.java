@@ -0,0 +1,8 @@
+package com.grace.gracemanageservice.application.event;
+
+/**
+ * Published when a role's permissions are updated or the role is deleted, so cached principals
+ * and authorization state derived from it can be dropped
+ */
+public record RoleChangedEvent(Long roleId) {
+}
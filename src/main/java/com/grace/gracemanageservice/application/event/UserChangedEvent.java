@@ -0,0 +1,7 @@
+package com.grace.gracemanageservice.application.event;
+
+/**
+ * Published when a user's row is updated or deleted, so in-memory views of that user can be dropped
+ */
+public record UserChangedEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package com.grace.gracemanageservice.application.event;
+
+/**
+ * Published when a user is created, so in-memory views of the directory pick the user up after commit
+ */
+public record UserCreatedEvent(Long userId) {
+}
@@ -0,0 +1,9 @@
+package com.grace.gracemanageservice.application.event;
+
+import java.util.List;
+
+/**
+ * Published once per committed chunk of a bulk user import, in place of one UserCreatedEvent per user
+ */
+public record UsersImportedEvent(List<Long> userIds) {
+}
@@ -0,0 +1,7 @@
+package com.grace.gracemanageservice.application.event;
+
+/**
+ * Published when a work site is created, updated or deleted, so the geofence index is rebuilt after commit
+ */
+public record WorkSiteChangedEvent(Long siteId) {
+}
@@ -0,0 +1,23 @@
+package com.grace.gracemanageservice.application.exception;
+
+/**
+ * Thrown when a bounded resource (queue, worker pool, rate limit) is saturated
+ * and the request is shed instead of queued. Mapped to HTTP 429.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message) {
+        this(message, 1);
+    }
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
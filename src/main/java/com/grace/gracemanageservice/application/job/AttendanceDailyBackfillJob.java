@@ -0,0 +1,92 @@
+package com.grace.gracemanageservice.application.job;
+
+import com.grace.gracemanageservice.application.cache.AttendanceStatusStore;
+import com.grace.gracemanageservice.application.service.AttendanceDailyService;
+import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Backfill/rebuild of T_ATTENDANCE_DAILY from raw check-in records.
+ * Runs at startup when enabled, one calendar month per transaction so locks and log growth stay bounded.
+ * Without an explicit start date it begins at the oldest stored record.
+ */
+@Slf4j
+@Component
+public class AttendanceDailyBackfillJob implements ApplicationRunner {
+
+    private final AttendanceDailyService attendanceDailyService;
+    private final CheckInRecordRepository checkInRecordRepository;
+    private final AttendanceStatusStore attendanceStatusStore;
+    private final Clock clock;
+    private final boolean enabled;
+    private final String fromDate;
+
+    @Autowired
+    public AttendanceDailyBackfillJob(AttendanceDailyService attendanceDailyService,
+            CheckInRecordRepository checkInRecordRepository,
+            AttendanceStatusStore attendanceStatusStore,
+            @Value("${attendance.daily.backfill.enabled:false}") boolean enabled,
+            @Value("${attendance.daily.backfill.from:}") String fromDate) {
+        this(attendanceDailyService, checkInRecordRepository, attendanceStatusStore, Clock.systemDefaultZone(),
+                enabled, fromDate);
+    }
+
+    AttendanceDailyBackfillJob(AttendanceDailyService attendanceDailyService,
+            CheckInRecordRepository checkInRecordRepository,
+            AttendanceStatusStore attendanceStatusStore,
+            Clock clock,
+            boolean enabled,
+            String fromDate) {
+        this.attendanceDailyService = attendanceDailyService;
+        this.checkInRecordRepository = checkInRecordRepository;
+        this.attendanceStatusStore = attendanceStatusStore;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.fromDate = fromDate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        Optional<LocalDate> start = fromDate.isBlank()
+                ? checkInRecordRepository.findEarliestTimestamp().map(LocalDateTime::toLocalDate)
+                : Optional.of(LocalDate.parse(fromDate));
+        // Archived months have no raw rows left to rebuild from
+        Optional<LocalDate> liveStart = checkInRecordRepository.archivedBefore().map(LocalDateTime::toLocalDate);
+        if (start.isPresent() && liveStart.isPresent() && start.get().isBefore(liveStart.get())) {
+            start = liveStart;
+        }
+        start.ifPresentOrElse(from -> rebuild(from, LocalDate.now(clock)),
+                () -> log.info("No check-in records, attendance daily backfill skipped"));
+    }
+
+    /**
+     * Rebuild [from, to] month by month
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        log.info("Rebuilding attendance daily rollup from {} to {}", from, to);
+        int total = 0;
+        for (LocalDate chunkStart = from; !chunkStart.isAfter(to); ) {
+            LocalDate monthEnd = chunkStart.withDayOfMonth(chunkStart.lengthOfMonth());
+            LocalDate chunkEnd = monthEnd.isAfter(to) ? to : monthEnd;
+            total += attendanceDailyService.rebuild(chunkStart, chunkEnd);
+            chunkStart = chunkEnd.plusDays(1);
+        }
+        // Rebuilt rows did not go through the write path
+        attendanceStatusStore.clear();
+        log.info("Attendance daily backfill finished: {} rows", total);
+        return total;
+    }
+}
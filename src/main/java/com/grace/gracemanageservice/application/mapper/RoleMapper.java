@@ -1,15 +1,19 @@
 package com.grace.gracemanageservice.application.mapper;
 
 import com.grace.gracemanageservice.application.dto.RoleDTO;
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
 import com.grace.gracemanageservice.domain.entity.Role;
 import com.grace.gracemanageservice.presentation.response.RoleResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.NullValueCheckStrategy;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Role mapper - converts between Role entity, RoleDTO and RoleResponse
  * Uses MapStruct for automatic implementation
+ * Permissions stay EnumSets between layers and become string codes only in RoleResponse
  */
 @Mapper(componentModel = "spring", unmappedSourcePolicy = org.mapstruct.ReportingPolicy.IGNORE, nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
 public interface RoleMapper {
@@ -23,4 +27,12 @@ public interface RoleMapper {
     List<RoleDTO> toDTOList(List<Role> roles);
 
     List<RoleResponse> toResponseList(List<RoleDTO> roleDTOs);
+
+    default Set<PermissionCode> copyPermissions(Set<PermissionCode> permissions) {
+        return permissions.isEmpty() ? EnumSet.noneOf(PermissionCode.class) : EnumSet.copyOf(permissions);
+    }
+
+    default Set<String> toPermissionCodes(Set<PermissionCode> permissions) {
+        return PermissionCode.toCodes(permissions);
+    }
 }
@@ -1,22 +1,37 @@
 package com.grace.gracemanageservice.application.service;
 
+import com.grace.gracemanageservice.application.cache.AttendanceStatusStore;
+import com.grace.gracemanageservice.application.cache.WorkSiteRegistry;
+import com.grace.gracemanageservice.application.dto.HistoryCursor;
+import com.grace.gracemanageservice.application.event.CheckInRecordedEvent;
 import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
 import com.grace.gracemanageservice.domain.entity.CheckInRecord;
-import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
 import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.common.constant.AppConstants;
+import com.grace.gracemanageservice.presentation.request.CheckInEventRequest;
 import com.grace.gracemanageservice.presentation.request.CheckInRequest;
 import com.grace.gracemanageservice.presentation.response.AttendanceStatusResponse;
+import com.grace.gracemanageservice.presentation.response.BatchCheckInResponse;
 import com.grace.gracemanageservice.presentation.response.CheckInRecordResponse;
+import com.grace.gracemanageservice.presentation.response.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +46,9 @@ public class AttendanceApplicationService {
 
     private final CheckInRecordRepository checkInRecordRepository;
     private final UserRepository userRepository;
+    private final AttendanceStatusStore attendanceStatusStore;
+    private final WorkSiteRegistry workSiteRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Record a check-in for a user
@@ -38,12 +56,15 @@ public class AttendanceApplicationService {
     public CheckInRecordResponse checkIn(CheckInRequest request) {
         log.info("Recording check-in for user: {}", request.userId());
 
-        // Verify user exists
-        User user = userRepository.findById(request.userId())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.userId()));
+        workSiteRegistry.verify(request.latitude(), request.longitude(), request.accuracy());
 
         LocalDateTime now = LocalDateTime.now();
 
+        // Update user's last check-in time - touches one column and doubles as the existence check
+        if (!userRepository.update(request.userId(), UserChanges.lastCheckIn(now))) {
+            throw new ResourceNotFoundException("User", "id", request.userId());
+        }
+
         // Create check-in record
         CheckInRecord record = CheckInRecord.builder()
                 .userId(request.userId())
@@ -56,13 +77,10 @@ public class AttendanceApplicationService {
                 .build();
 
         CheckInRecord saved = checkInRecordRepository.save(record);
-
-        // Update user's last check-in time
-        user.setLastCheckInTime(now);
-        userRepository.save(user);
+        eventPublisher.publishEvent(new CheckInRecordedEvent(saved));
 
         log.info("Check-in recorded successfully with id: {}", saved.getId());
-        return toResponse(saved);
+        return CheckInRecordResponse.from(saved);
     }
 
     /**
@@ -71,12 +89,15 @@ public class AttendanceApplicationService {
     public CheckInRecordResponse checkOut(CheckInRequest request) {
         log.info("Recording check-out for user: {}", request.userId());
 
-        // Verify user exists
-        User user = userRepository.findById(request.userId())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.userId()));
+        workSiteRegistry.verify(request.latitude(), request.longitude(), request.accuracy());
 
         LocalDateTime now = LocalDateTime.now();
 
+        // Update user's last check-out time - touches one column and doubles as the existence check
+        if (!userRepository.update(request.userId(), UserChanges.lastCheckOut(now))) {
+            throw new ResourceNotFoundException("User", "id", request.userId());
+        }
+
         // Create check-out record
         CheckInRecord record = CheckInRecord.builder()
                 .userId(request.userId())
@@ -89,47 +110,108 @@ public class AttendanceApplicationService {
                 .build();
 
         CheckInRecord saved = checkInRecordRepository.save(record);
-
-        // Update user's last check-out time
-        user.setLastCheckOutTime(now);
-        userRepository.save(user);
+        eventPublisher.publishEvent(new CheckInRecordedEvent(saved));
 
         log.info("Check-out recorded successfully with id: {}", saved.getId());
-        return toResponse(saved);
+        return CheckInRecordResponse.from(saved);
     }
 
     /**
-     * Get attendance status for a user
+     * Record a batch of buffered check-in/check-out events (kiosk / offline sync)
+     * Users are validated with one set-based lookup, accepted records are inserted with
+     * multi-row statements, and each user's last check times advance to their latest event.
+     * Invalid items are reported per index instead of failing the batch.
      */
-    @Transactional(readOnly = true)
-    public AttendanceStatusResponse getStatus(Long userId) {
-        log.info("Getting attendance status for user: {}", userId);
+    public BatchCheckInResponse recordBatch(List<CheckInEventRequest> events) {
+        log.info("Recording batch of {} attendance events", events.size());
+
+        Set<Long> existingUserIds = userRepository.findExistingIds(events.stream()
+                .map(CheckInEventRequest::userId)
+                .filter(Objects::nonNull)
+                .toList());
+        LocalDateTime latestAllowed = LocalDateTime.now().plusMinutes(AppConstants.MAX_CLIENT_CLOCK_SKEW_MINUTES);
+        LocalDateTime earliestAllowed = checkInRecordRepository.archivedBefore().orElse(null);
+
+        BatchCheckInResponse.ItemResult[] results = new BatchCheckInResponse.ItemResult[events.size()];
+        List<CheckInRecord> records = new ArrayList<>(events.size());
+        List<Integer> recordIndexes = new ArrayList<>(events.size());
+
+        for (int i = 0; i < events.size(); i++) {
+            CheckInEventRequest event = events.get(i);
+            String error = validateEvent(event, existingUserIds, earliestAllowed, latestAllowed);
+            if (error != null) {
+                results[i] = BatchCheckInResponse.ItemResult.rejected(i, error);
+                continue;
+            }
+            records.add(CheckInRecord.builder()
+                    .userId(event.userId())
+                    .type(CheckInRecord.CheckInType.valueOf(event.type()))
+                    .timestamp(event.timestamp())
+                    .latitude(event.latitude())
+                    .longitude(event.longitude())
+                    .accuracy(event.accuracy())
+                    .address(event.address())
+                    .build());
+            recordIndexes.add(i);
+        }
+
+        if (!records.isEmpty()) {
+            checkInRecordRepository.saveAll(records);
+
+            Map<Long, LocalDateTime> lastCheckIns = new HashMap<>();
+            Map<Long, LocalDateTime> lastCheckOuts = new HashMap<>();
+            for (int r = 0; r < records.size(); r++) {
+                CheckInRecord record = records.get(r);
+                Map<Long, LocalDateTime> target = record.getType() == CheckInRecord.CheckInType.IN
+                        ? lastCheckIns
+                        : lastCheckOuts;
+                target.merge(record.getUserId(), record.getTimestamp(), (a, b) -> a.isAfter(b) ? a : b);
+                results[recordIndexes.get(r)] = BatchCheckInResponse.ItemResult.accepted(recordIndexes.get(r),
+                        record.getId());
+            }
+            userRepository.updateLastCheckTimes(lastCheckIns, lastCheckOuts);
+            // One event for the whole insert, so each user-day is folded once
+            eventPublisher.publishEvent(new CheckInRecordedEvent(List.copyOf(records)));
+        }
+
+        log.info("Batch recorded: {} accepted, {} rejected", records.size(), events.size() - records.size());
+        return new BatchCheckInResponse(records.size(), events.size() - records.size(), List.of(results));
+    }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    private String validateEvent(CheckInEventRequest event, Set<Long> existingUserIds,
+            LocalDateTime earliestAllowed, LocalDateTime latestAllowed) {
+        if (event == null) {
+            return "Event is required";
+        }
+        if (event.userId() == null) {
+            return "User ID is required";
+        }
+        if (!"IN".equals(event.type()) && !"OUT".equals(event.type())) {
+            return "Type must be one of: IN, OUT";
+        }
+        if (event.timestamp() == null) {
+            return "Timestamp is required";
+        }
+        if (event.timestamp().isAfter(latestAllowed)) {
+            return "Timestamp is in the future";
+        }
+        if (earliestAllowed != null && event.timestamp().isBefore(earliestAllowed)) {
+            return "Timestamp falls in an archived month";
+        }
+        if (!existingUserIds.contains(event.userId())) {
+            return "User not found with id: " + event.userId();
+        }
+        return workSiteRegistry.rejectReason(event.latitude(), event.longitude(), event.accuracy());
+    }
 
-        // Get today's records
-        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
-        LocalDateTime todayEnd = LocalDate.now().atTime(LocalTime.MAX);
-        List<CheckInRecord> todayRecords = checkInRecordRepository
-                .findByUserIdAndTimestampBetween(userId, todayStart, todayEnd);
-
-        int checkInCount = (int) todayRecords.stream()
-                .filter(r -> r.getType() == CheckInRecord.CheckInType.IN)
-                .count();
-        int checkOutCount = (int) todayRecords.stream()
-                .filter(r -> r.getType() == CheckInRecord.CheckInType.OUT)
-                .count();
-
-        // User is checked in if check-ins > check-outs for today
-        boolean isCheckedIn = checkInCount > checkOutCount;
-
-        return new AttendanceStatusResponse(
-                isCheckedIn,
-                user.getLastCheckInTime(),
-                user.getLastCheckOutTime(),
-                checkInCount,
-                checkOutCount);
+    /**
+     * Get attendance status for a user
+     * Served from the in-memory daily status store; no transaction needed on a hit
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AttendanceStatusResponse getStatus(Long userId) {
+        log.debug("Getting attendance status for user: {}", userId);
+        return attendanceStatusStore.getStatus(userId);
     }
 
     /**
@@ -147,10 +229,64 @@ public class AttendanceApplicationService {
                 .findByUserIdAndTimestampBetween(userId, startDate, endDate);
 
         return records.stream()
-                .map(this::toResponse)
+                .map(CheckInRecordResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one keyset page of attendance history, ordered by (timestamp, id)
+     * Each page is an index seek from the previous page's last row, so cost does not grow with depth
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CheckInRecordResponse> getHistoryPage(Long userId, LocalDateTime startDate,
+            LocalDateTime endDate, String cursor, int size) {
+        log.info("Getting attendance history page for user: {} from {} to {}", userId, startDate, endDate);
+
+        requireUser(userId);
+
+        int pageSize = Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE));
+        HistoryCursor after = cursor != null && !cursor.isBlank() ? HistoryCursor.decode(cursor) : null;
+
+        // Fetch one extra row to learn whether another page exists
+        List<CheckInRecord> records = checkInRecordRepository.findPageByUserIdAndTimestampBetween(
+                userId, startDate, endDate,
+                after != null ? after.timestamp() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+
+        String nextCursor = null;
+        if (records.size() > pageSize) {
+            records = records.subList(0, pageSize);
+            CheckInRecord last = records.get(pageSize - 1);
+            nextCursor = new HistoryCursor(last.getTimestamp(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.of(records.stream().map(CheckInRecordResponse::from).toList(), nextCursor);
+    }
+
+    /**
+     * Stream attendance history to the sink row by row, ordered by (timestamp, id)
+     * Memory use is constant regardless of range; callers check the user beforehand with requireUser
+     */
+    @Transactional(readOnly = true)
+    public void streamHistory(Long userId, LocalDateTime startDate, LocalDateTime endDate,
+            Consumer<CheckInRecordResponse> sink) {
+        log.info("Streaming attendance history for user: {} from {} to {}", userId, startDate, endDate);
+
+        checkInRecordRepository.streamByUserIdAndTimestampBetween(userId, startDate, endDate,
+                record -> sink.accept(CheckInRecordResponse.from(record)));
+    }
+
+    /**
+     * Verify a user exists without loading the row
+     */
+    @Transactional(readOnly = true)
+    public void requireUser(Long userId) {
+        if (userRepository.findExistingIds(List.of(userId)).isEmpty()) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+    }
+
     /**
      * Get today's attendance records for a user
      */
@@ -158,21 +294,10 @@ public class AttendanceApplicationService {
     public List<CheckInRecordResponse> getTodayRecords(Long userId) {
         log.info("Getting today's attendance records for user: {}", userId);
 
-        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
-        LocalDateTime todayEnd = LocalDate.now().atTime(LocalTime.MAX);
-
-        return getHistory(userId, todayStart, todayEnd);
-    }
+        requireUser(userId);
 
-    private CheckInRecordResponse toResponse(CheckInRecord record) {
-        return new CheckInRecordResponse(
-                record.getId(),
-                record.getUserId(),
-                record.getType().name(),
-                record.getTimestamp(),
-                record.getLatitude(),
-                record.getLongitude(),
-                record.getAccuracy(),
-                record.getAddress());
+        return checkInRecordRepository.findByUserIdAndWorkDate(userId, LocalDate.now()).stream()
+                .map(CheckInRecordResponse::from)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,110 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.grace.gracemanageservice.application.event.AttendanceDailyChangedEvent;
+import com.grace.gracemanageservice.application.event.CheckInRecordedEvent;
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+import com.grace.gracemanageservice.domain.repository.AttendanceDailyRepository;
+import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.response.AttendanceDailyResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Application service for the T_ATTENDANCE_DAILY rollup
+ * Rows are updated in the same transaction as the check-in write, so reports and status
+ * read one row per user-day instead of re-scanning raw records.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AttendanceDailyService {
+
+    private final AttendanceDailyRepository attendanceDailyRepository;
+    private final CheckInRecordRepository checkInRecordRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Comparator<UserDay> USER_DAY_ORDER =
+            Comparator.comparing(UserDay::userId).thenComparing(UserDay::workDate);
+    private static final Comparator<CheckInRecord> RECORD_ORDER = Comparator.comparing(CheckInRecord::getTimestamp)
+            .thenComparing(CheckInRecord::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * Fold newly written records into their days' rows, one fold per user-day.
+     * Runs synchronously inside the writer's transaction; the row lock serializes concurrent
+     * writers for the same user and day. Rows are locked in user and date order.
+     */
+    @EventListener
+    public void onCheckInRecorded(CheckInRecordedEvent event) {
+        Map<UserDay, List<CheckInRecord>> byDay = event.records().stream()
+                .collect(Collectors.groupingBy(
+                        record -> new UserDay(record.getUserId(), record.getTimestamp().toLocalDate()),
+                        () -> new TreeMap<>(USER_DAY_ORDER),
+                        Collectors.toList()));
+        byDay.forEach(this::fold);
+    }
+
+    private void fold(UserDay day, List<CheckInRecord> records) {
+        AttendanceDaily daily = attendanceDailyRepository.findByUserIdAndWorkDateForUpdate(day.userId(), day.workDate())
+                .orElseGet(() -> AttendanceDaily.empty(day.userId(), day.workDate()));
+        long version = daily.getVersion();
+
+        boolean inOrder = records.stream()
+                .sorted(RECORD_ORDER)
+                .allMatch(daily::apply);
+        if (!inOrder) {
+            // Late records (offline sync) - refold the day once; the raw scan already sees every record
+            // of this write, so none of them may be applied on top of it
+            log.debug("Out-of-order records for user {} on {}, rebuilding day", day.userId(), day.workDate());
+            daily = AttendanceDaily.rollup(day.userId(), day.workDate(),
+                    checkInRecordRepository.findByUserIdAndWorkDate(day.userId(), day.workDate()));
+            daily.setVersion(version);
+        }
+
+        AttendanceDaily saved = attendanceDailyRepository.save(daily);
+        eventPublisher.publishEvent(new AttendanceDailyChangedEvent(saved.toBuilder().build()));
+    }
+
+    /**
+     * Get per-day attendance summaries for a user
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceDailyResponse> getDailySummaries(Long userId, LocalDate from, LocalDate to) {
+        log.info("Getting daily attendance summaries for user: {} from {} to {}", userId, from, to);
+
+        if (userRepository.findExistingIds(List.of(userId)).isEmpty()) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        return attendanceDailyRepository.findByUserIdAndWorkDateBetween(userId, from, to).stream()
+                .map(AttendanceDailyResponse::from)
+                .toList();
+    }
+
+    /**
+     * Recompute all rows for [from, to] from raw records in one statement
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        int rows = attendanceDailyRepository.rebuild(from, to);
+        log.info("Rebuilt attendance daily rollup from {} to {}: {} rows", from, to, rows);
+        return rows;
+    }
+
+    private record UserDay(Long userId, LocalDate workDate) {
+    }
+}
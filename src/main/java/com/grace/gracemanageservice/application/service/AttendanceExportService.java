@@ -0,0 +1,205 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.domain.entity.CheckInExportRow;
+import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Attendance export for payroll - every user's check-ins over a date range as CSV or NDJSON.
+ * Rows are written as the database cursor advances, so heap use does not depend on the range.
+ */
+@Slf4j
+@Service
+public class AttendanceExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromParameter(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new ValidationException("format", "Format must be one of: csv, ndjson");
+            }
+        }
+    }
+
+    static final String CSV_HEADER = "id,user_id,username,type,timestamp,latitude,longitude,accuracy,address";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final CheckInRecordRepository checkInRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public AttendanceExportService(CheckInRecordRepository checkInRecordRepository,
+            ObjectMapper objectMapper,
+            @Value("${attendance.export.fetch-size:2000}") int fetchSize) {
+        this.checkInRecordRepository = checkInRecordRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Reject ranges the export cannot serve - call before the response is committed
+     */
+    @Transactional(readOnly = true)
+    public void validateRange(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new ValidationException("endDate", "End date must not be before start date");
+        }
+        checkInRecordRepository.archivedBefore().ifPresent(archivedBefore -> {
+            if (start.isBefore(archivedBefore)) {
+                throw new ValidationException("startDate",
+                        "Export covers live months only; data before " + archivedBefore.toLocalDate() + " is archived");
+            }
+        });
+    }
+
+    /**
+     * Write all check-ins in [start, end) to out. A write failure (client gone) aborts the query.
+     */
+    @Transactional(readOnly = true)
+    public void export(LocalDateTime start, LocalDateTime end, Format format, OutputStream out) throws IOException {
+        log.info("Exporting attendance from {} to {} as {}", start, end, format);
+
+        long[] rows = {0};
+        if (format == Format.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            checkInRecordRepository.exportByTimestampBetween(start, end, fetchSize, row -> {
+                writeCsvLine(writer, row);
+                rows[0]++;
+            });
+            writer.flush();
+        } else {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            checkInRecordRepository.exportByTimestampBetween(start, end, fetchSize, row -> {
+                writeJsonLine(generator, row);
+                rows[0]++;
+            });
+            generator.flush();
+        }
+
+        log.info("Exported {} attendance rows", rows[0]);
+    }
+
+    private static void writeCsvLine(Writer writer, CheckInExportRow row) {
+        try {
+            writer.write(Long.toString(row.getId()));
+            writer.write(',');
+            writer.write(Long.toString(row.getUserId()));
+            writer.write(',');
+            writeCsvText(writer, row.getUsername());
+            writer.write(',');
+            writer.write(row.getType());
+            writer.write(',');
+            writer.write(row.getTimestamp().toString());
+            writer.write(',');
+            writeCsvNumber(writer, row.getLatitude());
+            writer.write(',');
+            writeCsvNumber(writer, row.getLongitude());
+            writer.write(',');
+            writeCsvNumber(writer, row.getAccuracy());
+            writer.write(',');
+            writeCsvText(writer, row.getAddress());
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeCsvNumber(Writer writer, Double value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    /**
+     * RFC 4180 quoting; free text starting with a formula character is prefixed with ' so
+     * spreadsheets do not evaluate it
+     */
+    static void writeCsvText(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@';
+        boolean quote = formula;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJsonLine(JsonGenerator generator, CheckInExportRow row) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getId());
+            generator.writeNumberField("userId", row.getUserId());
+            generator.writeStringField("username", row.getUsername());
+            generator.writeStringField("type", row.getType());
+            generator.writeStringField("timestamp", row.getTimestamp().toString());
+            writeNullableNumber(generator, "latitude", row.getLatitude());
+            writeNullableNumber(generator, "longitude", row.getLongitude());
+            writeNullableNumber(generator, "accuracy", row.getAccuracy());
+            generator.writeStringField("address", row.getAddress());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeNullableNumber(JsonGenerator generator, String name, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.grace.gracemanageservice.application.cache.WorkSiteRegistry;
+import com.grace.gracemanageservice.application.event.CheckInRecordedEvent;
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.application.exception.ServiceOverloadedException;
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.request.CheckInRequest;
+import com.grace.gracemanageservice.presentation.response.CheckInRecordResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group-commit ingestion for check-in/check-out writes.
+ * Accepted events go into a bounded queue; a single writer thread drains whatever has
+ * accumulated into one transaction (multi-row insert + batched T_USER last-check update),
+ * and callers are acknowledged once that transaction commits.
+ * A caller that stops waiting withdraws its event first, so a timed-out check-in is never written
+ * behind the caller's back; once the writer has taken an event the caller waits for its commit instead.
+ * Disabled by default - AttendanceApplicationService handles writes directly when off.
+ */
+@Slf4j
+@Service
+public class CheckInIngestionService {
+
+    private final CheckInRecordRepository checkInRecordRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkSiteRegistry workSiteRegistry;
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long ackTimeoutMs;
+    private final BlockingQueue<PendingCheckIn> queue;
+
+    private final DistributionSummary batchSize;
+    private final Timer commitLatency;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public CheckInIngestionService(CheckInRecordRepository checkInRecordRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            WorkSiteRegistry workSiteRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${attendance.ingestion.group-commit.enabled:false}") boolean enabled,
+            @Value("${attendance.ingestion.queue-capacity:10000}") int queueCapacity,
+            @Value("${attendance.ingestion.max-batch-size:500}") int maxBatchSize,
+            @Value("${attendance.ingestion.ack-timeout-ms:5000}") long ackTimeoutMs) {
+        this.checkInRecordRepository = checkInRecordRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.workSiteRegistry = workSiteRegistry;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.ackTimeoutMs = ackTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("attendance.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("Check-in events waiting for the group-commit writer")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("attendance.ingestion.batch.size")
+                .description("Check-in events committed per transaction")
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("attendance.ingestion.commit.latency")
+                .description("Time to write and commit one batch")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("attendance.ingestion.rejected")
+                .description("Check-in events shed because the queue was full or the writer fell behind")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "check-in-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Check-in group commit enabled (max batch size {})", maxBatchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(ackTimeoutMs);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CheckInRecordResponse checkIn(CheckInRequest request) {
+        return submit(request, CheckInRecord.CheckInType.IN);
+    }
+
+    public CheckInRecordResponse checkOut(CheckInRequest request) {
+        return submit(request, CheckInRecord.CheckInType.OUT);
+    }
+
+    private CheckInRecordResponse submit(CheckInRequest request, CheckInRecord.CheckInType type) {
+        workSiteRegistry.verify(request.latitude(), request.longitude(), request.accuracy());
+
+        CheckInRecord record = CheckInRecord.builder()
+                .userId(request.userId())
+                .type(type)
+                .timestamp(LocalDateTime.now())
+                .latitude(request.latitude())
+                .longitude(request.longitude())
+                .accuracy(request.accuracy())
+                .address(request.address())
+                .build();
+
+        PendingCheckIn pending = new PendingCheckIn(record);
+        if (!queue.offer(pending)) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Check-in queue is full, please retry shortly");
+        }
+
+        try {
+            return CheckInRecordResponse.from(await(pending));
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Check-in write failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for check-in acknowledgement");
+        }
+    }
+
+    /**
+     * Wait up to ack-timeout-ms; past it, withdraw the event if the writer has not taken it yet,
+     * so the caller can retry without a duplicate, or else wait for the transaction it is in.
+     */
+    private CheckInRecord await(PendingCheckIn pending) throws ExecutionException, InterruptedException {
+        try {
+            return pending.ack().get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            if (pending.claim()) {
+                rejected.increment();
+                throw new ServiceOverloadedException("Check-in was not recorded within " + ackTimeoutMs
+                        + " ms, please retry shortly");
+            }
+            return pending.ack().get();
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingCheckIn> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCheckIn first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Whatever arrived while the previous batch was committing rides along
+                queue.drainTo(batch, maxBatchSize - 1);
+                // Events whose callers gave up were withdrawn and must not be written
+                batch.removeIf(pending -> !pending.claim());
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Unexpected error in check-in writer", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Write one batch in a single transaction and acknowledge callers after commit.
+     * If the batch fails as a whole, each event is retried on its own so one bad row
+     * does not fail its neighbours.
+     */
+    void writeBatch(List<PendingCheckIn> batch) {
+        Set<Long> existingUserIds = userRepository.findExistingIds(
+                batch.stream().map(p -> p.record().getUserId()).toList());
+
+        List<PendingCheckIn> accepted = new ArrayList<>(batch.size());
+        for (PendingCheckIn pending : batch) {
+            Long userId = pending.record().getUserId();
+            if (existingUserIds.contains(userId)) {
+                accepted.add(pending);
+            } else {
+                pending.ack().completeExceptionally(new ResourceNotFoundException("User", "id", userId));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            commitLatency.record(() -> transactionTemplate.executeWithoutResult(status -> persist(accepted)));
+            batchSize.record(accepted.size());
+            accepted.forEach(p -> p.ack().complete(p.record()));
+        } catch (RuntimeException ex) {
+            if (accepted.size() == 1) {
+                accepted.get(0).ack().completeExceptionally(ex);
+                return;
+            }
+            log.warn("Group commit of {} check-ins failed, retrying individually: {}", accepted.size(),
+                    ex.getMessage());
+            for (PendingCheckIn pending : accepted) {
+                pending.record().setId(null);
+                writeBatch(List.of(pending));
+            }
+        }
+    }
+
+    private void persist(List<PendingCheckIn> batch) {
+        List<CheckInRecord> records = batch.stream().map(PendingCheckIn::record).toList();
+        checkInRecordRepository.saveAll(records);
+        eventPublisher.publishEvent(new CheckInRecordedEvent(records));
+
+        Map<Long, LocalDateTime> lastCheckIns = new HashMap<>();
+        Map<Long, LocalDateTime> lastCheckOuts = new HashMap<>();
+        for (CheckInRecord record : records) {
+            Map<Long, LocalDateTime> target = record.getType() == CheckInRecord.CheckInType.IN
+                    ? lastCheckIns
+                    : lastCheckOuts;
+            target.merge(record.getUserId(), record.getTimestamp(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        userRepository.updateLastCheckTimes(lastCheckIns, lastCheckOuts);
+    }
+
+    /**
+     * taken is set once, by the writer before it writes the event or by the caller withdrawing it
+     */
+    record PendingCheckIn(CheckInRecord record, CompletableFuture<CheckInRecord> ack, AtomicBoolean taken) {
+
+        PendingCheckIn(CheckInRecord record) {
+            this(record, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        boolean claim() {
+            return taken.compareAndSet(false, true);
+        }
+    }
+}
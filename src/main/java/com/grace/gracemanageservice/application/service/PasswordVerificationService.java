@@ -0,0 +1,186 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.grace.gracemanageservice.application.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password checks on a dedicated, bounded worker pool so BCrypt never runs on request threads.
+ * At most pool-size hashes run at once and queue-capacity wait; beyond that, or when a check has
+ * waited max-wait-ms for a worker, the login is shed with ServiceOverloadedException (429) instead of queueing,
+ * leaving request threads free for check-ins during a login burst.
+ */
+@Slf4j
+@Service
+public class PasswordVerificationService {
+
+    private static final String DUMMY_PASSWORD = "constant-time-login-placeholder";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+    private final String dummyHash;
+
+    private final Timer hashLatency;
+    private final Timer queueWait;
+    private final Counter rejected;
+    private final Counter rehashed;
+
+    public PasswordVerificationService(PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.pool-size:0}") int poolSize,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.max-wait-ms:2000}") long maxWaitMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitMs = maxWaitMs;
+
+        // BCrypt is CPU-bound: by default use half the cores and leave the rest to request handling
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // Hashed with the live encoder so a dummy check costs exactly what a real one does
+        this.dummyHash = passwordEncoder.encode(DUMMY_PASSWORD);
+
+        this.hashLatency = Timer.builder("security.password.hash.latency")
+                .description("Time spent hashing one password on the worker pool")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("security.password.queue.wait")
+                .description("Time a password check waited for a worker")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("security.password.rejected")
+                .description("Password checks shed because the worker pool was saturated")
+                .register(meterRegistry);
+        this.rehashed = Counter.builder("security.password.rehashed")
+                .description("Matching passwords re-hashed because their stored hash was outdated")
+                .register(meterRegistry);
+        Gauge.builder("security.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password checks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("security.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password checks currently hashing")
+                .register(meterRegistry);
+
+        log.info("Password verification pool: {} workers, queue capacity {}", threads, queueCapacity);
+    }
+
+    /**
+     * Check a raw password against its stored hash on the worker pool
+     *
+     * @throws ServiceOverloadedException if the pool is saturated or the check waited too long
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return verify(rawPassword, encodedPassword).matched();
+    }
+
+    /**
+     * Check a raw password and, if it matches a hash with an outdated algorithm or cost,
+     * re-hash it on the same worker
+     *
+     * @throws ServiceOverloadedException if the pool is saturated or the check waited too long
+     */
+    public PasswordCheck verify(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        // Claimed by whichever comes first: a worker starting the hash or the caller giving up on the queue
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<PasswordCheck> result = new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            return hashLatency.recordCallable(() -> check(rawPassword, encodedPassword));
+        });
+        try {
+            executor.execute(result);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Too many logins in progress, please retry shortly");
+        }
+
+        try {
+            try {
+                return result.get(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                if (claimed.compareAndSet(false, true)) {
+                    // Still queued: take it out so an abandoned check never occupies a worker or a queue slot
+                    executor.remove(result);
+                    rejected.increment();
+                    throw new ServiceOverloadedException("Too many logins in progress, please retry shortly");
+                }
+                // Already hashing: BCrypt cannot be interrupted, so use the result rather than waste the work
+                return result.get();
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            executor.remove(result);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying password");
+        }
+    }
+
+    private PasswordCheck check(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return PasswordCheck.MISMATCH;
+        }
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return PasswordCheck.MATCH;
+        }
+        rehashed.increment();
+        return new PasswordCheck(true, passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Pay for one full check when there is no stored hash (unknown username),
+     * so the response takes as long as a wrong password would
+     */
+    public void matchDummy(String rawPassword) {
+        matches(rawPassword, dummyHash);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Outcome of a password check; upgradedHash is set when the stored hash should be replaced
+     */
+    public record PasswordCheck(boolean matched, String upgradedHash) {
+
+        static final PasswordCheck MATCH = new PasswordCheck(true, null);
+        static final PasswordCheck MISMATCH = new PasswordCheck(false, null);
+
+        public boolean needsUpgrade() {
+            return upgradedHash != null;
+        }
+    }
+}
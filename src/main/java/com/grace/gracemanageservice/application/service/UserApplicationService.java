@@ -1,16 +1,33 @@
 package com.grace.gracemanageservice.application.service;
 
+import com.grace.gracemanageservice.application.cache.UserSearchRegistry;
+import com.grace.gracemanageservice.application.dto.UserCursor;
 import com.grace.gracemanageservice.application.dto.UserDTO;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.application.event.UserCreatedEvent;
 import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.application.exception.ValidationException;
 import com.grace.gracemanageservice.application.mapper.UserMapper;
+import com.grace.gracemanageservice.common.constant.AppConstants;
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserFilter;
+import com.grace.gracemanageservice.domain.entity.UserSort;
+import com.grace.gracemanageservice.domain.entity.UserView;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
 import com.grace.gracemanageservice.domain.usecase.CreateUserUseCase;
+import com.grace.gracemanageservice.presentation.response.CursorPageResponse;
+import com.grace.gracemanageservice.presentation.response.UserResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * User application service - orchestrates use cases
  * Acts as a bridge between presentation and domain layers
@@ -25,6 +42,8 @@ public class UserApplicationService {
     private final UserMapper userMapper;
     private final UserRepository userRepository;
     private final com.grace.gracemanageservice.domain.usecase.UpdateUserUseCase updateUserUseCase;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSearchRegistry userSearchRegistry;
 
     public UserDTO updateUser(Long id, com.grace.gracemanageservice.presentation.request.UpdateUserRequest request) {
         log.info("Updating user with id: {}", id);
@@ -41,6 +60,7 @@ public class UserApplicationService {
                 request.getActive(),
                 request.getLastCheckInTime(),
                 request.getLastCheckOutTime());
+        eventPublisher.publishEvent(new UserChangedEvent(id));
 
         return userMapper.toDTO(user);
     }
@@ -55,34 +75,99 @@ public class UserApplicationService {
 
         User user = createUserUseCase.execute(username, email, firstName, lastName, password, role, dateOfBirth,
                 roleId);
+        eventPublisher.publishEvent(new UserCreatedEvent(user.getId()));
 
         log.info("User created successfully with id: {}", user.getId());
         return userMapper.toDTO(user);
     }
 
-    public UserDTO getUserById(Long id) {
+    /**
+     * Get a user's response columns by id - read as a projection, no entity is loaded or tracked
+     */
+    @Transactional(readOnly = true)
+    public UserResponse getUserById(Long id) {
         log.info("Getting user by id: {}", id);
 
-        User user = userRepository.findById(id)
+        return userRepository.findViewById(id)
+                .map(user -> UserResponse.from(user, LocalDate.now()))
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
-
-        return userMapper.toDTO(user);
     }
 
-    public UserDTO getUserByEmail(String email) {
+    @Transactional(readOnly = true)
+    public UserResponse getUserByEmail(String email) {
         log.info("Getting user by email: {}", email);
 
-        User user = userRepository.findByEmail(email)
+        return userRepository.findViewByEmail(email)
+                .map(user -> UserResponse.from(user, LocalDate.now()))
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
+    }
 
-        return userMapper.toDTO(user);
+    /**
+     * Typeahead search over username, email, first and last name - answered from the in-memory index,
+     * best matches first. Every query token must match the start of a term or, from three characters on,
+     * any part of one
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<UserResponse> searchUsers(String query, int limit) {
+        int resultSize = Math.max(1, Math.min(limit, AppConstants.MAX_PAGE_SIZE));
+        LocalDate today = LocalDate.now();
+        return userSearchRegistry.search(query, resultSize).stream()
+                .map(user -> UserResponse.from(user, today))
+                .toList();
+    }
+
+    /**
+     * Get one keyset page of users matching the filter, ordered by sort (id, username or email)
+     * Each page is an index seek from the previous page's last key, so cost does not grow with depth.
+     * total is none (no count), exact (COUNT with the filter) or estimate (table metadata, exact if filtered)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> getUsersPage(UserFilter filter, String sort, String direction,
+            String cursor, int size, String total) {
+        log.info("Getting users page: {} sorted by {} {}", filter, sort, direction);
+
+        int pageSize = Math.max(1, Math.min(size, AppConstants.MAX_PAGE_SIZE));
+        UserSort userSort = parseSort(sort, direction);
+        UserCursor after = cursor != null && !cursor.isBlank() ? UserCursor.decode(cursor) : null;
+        if (after != null && !after.sort().equals(userSort)) {
+            throw new ValidationException("cursor", "Cursor belongs to a different sort order");
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<UserView> users = userRepository.findPage(filter, userSort, after != null ? after.key() : null,
+                pageSize + 1);
+
+        String nextCursor = null;
+        if (users.size() > pageSize) {
+            users = users.subList(0, pageSize);
+            nextCursor = new UserCursor(userSort, userSort.valueOf(users.get(pageSize - 1))).encode();
+        }
+
+        LocalDate today = LocalDate.now();
+        return CursorPageResponse.of(users.stream().map(user -> UserResponse.from(user, today)).toList(),
+                nextCursor, countUsers(filter, total));
+    }
+
+    private Long countUsers(UserFilter filter, String total) {
+        return switch (total == null ? "none" : total.toLowerCase(Locale.ROOT)) {
+            case "none" -> null;
+            case "exact" -> userRepository.count(filter);
+            case "estimate" -> filter.isEmpty() ? userRepository.estimateCount() : userRepository.count(filter);
+            default -> throw new ValidationException("total", "total must be one of none, exact, estimate");
+        };
     }
 
-    public java.util.List<UserDTO> getAllUsers() {
-        log.info("Getting all users");
-        return userRepository.findAll().stream()
-                .map(userMapper::toDTO)
-                .collect(java.util.stream.Collectors.toList());
+    private static UserSort parseSort(String sort, String direction) {
+        UserSort.Key key;
+        try {
+            key = UserSort.Key.valueOf((sort == null ? "id" : sort).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("sort", "sort must be one of id, username, email");
+        }
+        if (direction != null && !"asc".equalsIgnoreCase(direction) && !"desc".equalsIgnoreCase(direction)) {
+            throw new ValidationException("direction", "direction must be asc or desc");
+        }
+        return new UserSort(key, "desc".equalsIgnoreCase(direction));
     }
 
     public void deleteUser(Long id) {
@@ -92,6 +177,7 @@ public class UserApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         log.info("User deleted successfully");
     }
 }
@@ -0,0 +1,465 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.grace.gracemanageservice.application.event.UsersImportedEvent;
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.common.validator.EmailValidator;
+import com.grace.gracemanageservice.domain.entity.Role;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.repository.RoleRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.request.CreateUserRequest;
+import com.grace.gracemanageservice.presentation.response.UserImportResponse;
+import com.grace.gracemanageservice.presentation.response.UserImportResponse.RowError;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk user import for onboarding a site in one request, from CSV or NDJSON.
+ * The body is read as a stream and handled chunk-size rows at a time: each row is validated as
+ * POST /api/v1/users would, emails and usernames are checked against the rest of the file and against
+ * T_USER with set-based queries, passwords are hashed in parallel on a bounded fork-join pool, and the chunk
+ * is inserted with multi-row statements in its own transaction. Rejected rows are reported by row number;
+ * chunks already committed stay committed if a later row fails.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Format fromContentType(String value) {
+            MediaType mediaType = value != null ? MediaType.parseMediaType(value) : null;
+            for (Format format : values()) {
+                if (mediaType != null && mediaType.isCompatibleWith(MediaType.parseMediaType(format.contentType))) {
+                    return format;
+                }
+            }
+            throw new ValidationException("Content-Type",
+                    "Content type must be one of: text/csv, application/x-ndjson");
+        }
+    }
+
+    static final List<String> CSV_REQUIRED_COLUMNS = List.of("username", "email", "password", "first_name",
+            "last_name");
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ForkJoinPool hashPool;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public UserImportService(UserRepository userRepository,
+            RoleRepository roleRepository,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${user-import.hash-parallelism:0}") int hashParallelism,
+            @Value("${user-import.chunk-size:500}") int chunkSize,
+            @Value("${user-import.max-rows:20000}") int maxRows) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        // The shared mapper has no java.time module, and NDJSON rows carry dateOfBirth as an ISO date
+        this.objectMapper = objectMapper.copy().registerModule(new SimpleModule()
+                .addDeserializer(LocalDate.class, new IsoDateDeserializer()));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRows = maxRows;
+
+        // BCrypt is CPU-bound: by default use half the cores, as login verification does, and leave the rest
+        // to request handling. Concurrent imports share the pool rather than each taking more cores.
+        int parallelism = hashParallelism > 0
+                ? hashParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashPool = new ForkJoinPool(parallelism);
+        log.info("User import: {} hashing threads, {} rows per chunk", parallelism, this.chunkSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdown();
+    }
+
+    /**
+     * Import every row of body, creating valid users and reporting the rest
+     *
+     * @throws ValidationException if the CSV header lacks a required column
+     */
+    public UserImportResponse importUsers(InputStream body, Format format) throws IOException {
+        log.info("Importing users from {}", format);
+        long startedAt = System.nanoTime();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8),
+                READ_BUFFER_SIZE);
+        RowSource rows = format == Format.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader);
+        Set<Long> roleIds = roleRepository.findAll().stream().map(Role::getId).collect(Collectors.toSet());
+        // First row of each email and username in the file, lower-cased as the database collation compares them
+        Map<String, Integer> emailRows = new HashMap<>();
+        Map<String, Integer> usernameRows = new HashMap<>();
+
+        List<RowError> errors = new ArrayList<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int created = 0;
+        int rowCount = 0;
+        for (ImportRow row = rows.next(); row != null; row = rows.next()) {
+            if (++rowCount > maxRows) {
+                errors.add(new RowError(row.number(), null,
+                        "Import is limited to " + maxRows + " rows; this and later rows were not read"));
+                break;
+            }
+            RowError error = row.error() != null ? row.error() : validate(row, roleIds, emailRows, usernameRows);
+            if (error != null) {
+                errors.add(error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                created += importChunk(chunk, errors);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += importChunk(chunk, errors);
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::row));
+        log.info("User import finished: {} created, {} rejected in {} ms",
+                created, errors.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return new UserImportResponse(created, errors.size(), errors);
+    }
+
+    /**
+     * Field rules of POST /api/v1/users, plus role and in-file uniqueness checks; null when the row is valid
+     */
+    private RowError validate(ImportRow row, Set<Long> roleIds, Map<String, Integer> emailRows,
+            Map<String, Integer> usernameRows) {
+        CreateUserRequest request = row.request();
+        ConstraintViolation<CreateUserRequest> violation = validator.validate(request).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .orElse(null);
+        if (violation != null) {
+            return new RowError(row.number(), violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (!EmailValidator.isValid(request.getEmail())) {
+            return new RowError(row.number(), "email", "Email format is invalid");
+        }
+        if (request.getRoleId() != null && !roleIds.contains(request.getRoleId())) {
+            return new RowError(row.number(), "roleId", "Role not found with id: " + request.getRoleId());
+        }
+        Integer emailRow = emailRows.putIfAbsent(request.getEmail().toLowerCase(Locale.ROOT), row.number());
+        if (emailRow != null) {
+            return new RowError(row.number(), "email", "Email already appears in row " + emailRow);
+        }
+        Integer usernameRow = usernameRows.putIfAbsent(request.getUsername().toLowerCase(Locale.ROOT), row.number());
+        if (usernameRow != null) {
+            return new RowError(row.number(), "username", "Username already appears in row " + usernameRow);
+        }
+        return null;
+    }
+
+    /**
+     * Drop rows whose email or username is taken, hash the rest in parallel and insert them in one
+     * transaction. A create committed elsewhere between the check and the insert fails the transaction
+     * on the unique constraint; the check then runs once more before the chunk is given up.
+     */
+    private int importChunk(List<ImportRow> chunk, List<RowError> errors) {
+        List<ImportRow> fresh = withoutExisting(chunk, errors);
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+        Map<ImportRow, User> users = hashPool.submit(() -> fresh.parallelStream()
+                .collect(Collectors.toMap(row -> row, this::toUser))).join();
+
+        List<ImportRow> rows = fresh;
+        for (int attempt = 1; ; attempt++) {
+            List<User> batch = rows.stream().map(users::get).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userRepository.insertAll(batch);
+                    eventPublisher.publishEvent(new UsersImportedEvent(batch.stream().map(User::getId).toList()));
+                });
+                return batch.size();
+            } catch (DuplicateKeyException ex) {
+                if (attempt == 2) {
+                    log.warn("User import chunk of {} rows conflicted twice with concurrent creates", rows.size());
+                    rows.forEach(row -> errors.add(new RowError(row.number(), null,
+                            "Conflicted with users created during the import; retry this row")));
+                    return 0;
+                }
+                rows = withoutExisting(rows, errors);
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    private List<ImportRow> withoutExisting(List<ImportRow> rows, List<RowError> errors) {
+        Set<String> existingEmails = lowerCase(userRepository.findExistingEmails(
+                rows.stream().map(row -> row.request().getEmail()).toList()));
+        Set<String> existingUsernames = lowerCase(userRepository.findExistingUsernames(
+                rows.stream().map(row -> row.request().getUsername()).toList()));
+
+        List<ImportRow> fresh = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existingEmails.contains(row.request().getEmail().toLowerCase(Locale.ROOT))) {
+                errors.add(new RowError(row.number(), "email", "Email already exists"));
+            } else if (existingUsernames.contains(row.request().getUsername().toLowerCase(Locale.ROOT))) {
+                errors.add(new RowError(row.number(), "username", "Username already exists"));
+            } else {
+                fresh.add(row);
+            }
+        }
+        return fresh;
+    }
+
+    private User toUser(ImportRow row) {
+        CreateUserRequest request = row.request();
+        return User.builder()
+                .username(request.getUsername())
+                .email(request.getEmail())
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .password(passwordEncoder.encode(request.getPassword()))
+                .role(request.getRole() != null ? request.getRole() : "user")
+                .dateOfBirth(request.getDateOfBirth())
+                .roleId(request.getRoleId())
+                .active(true)
+                .createdAt(LocalDate.now())
+                .build();
+    }
+
+    private static Set<String> lowerCase(Set<String> values) {
+        return values.stream().map(value -> value.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
+    private static final class IsoDateDeserializer extends FromStringDeserializer<LocalDate> {
+        IsoDateDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        protected LocalDate _deserialize(String value, DeserializationContext context) {
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("must be an ISO date (yyyy-MM-dd)", ex);
+            }
+        }
+    }
+
+    /**
+     * A parsed row, or the reason it could not be parsed
+     */
+    private record ImportRow(int number, CreateUserRequest request, RowError error) {
+    }
+
+    private interface RowSource {
+        /**
+         * Next row, or null at the end of the body
+         */
+        ImportRow next() throws IOException;
+    }
+
+    /**
+     * One CreateUserRequest JSON object per line; blank lines are skipped but still counted
+     */
+    private final class NdjsonRowSource implements RowSource {
+        private final BufferedReader reader;
+        private int line;
+
+        NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            for (String text = reader.readLine(); text != null; text = reader.readLine()) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    CreateUserRequest request = objectMapper.readValue(text, CreateUserRequest.class);
+                    if (request == null) {
+                        return new ImportRow(line, null, new RowError(line, null, "Line must be a JSON object"));
+                    }
+                    return new ImportRow(line, request, null);
+                } catch (JsonProcessingException ex) {
+                    return new ImportRow(line, null, new RowError(line, null, "Malformed JSON: "
+                            + ex.getOriginalMessage()));
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row naming the columns: username, email, password, first_name, last_name
+     * and optionally role, date_of_birth (yyyy-MM-dd) and role_id, in any order. Empty cells are absent values.
+     */
+    private static final class CsvRowSource implements RowSource {
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private int row;
+
+        CsvRowSource(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> header = readRecord(reader);
+            if (header != null && !header.isEmpty()) {
+                // Excel writes a byte order mark before the first header cell
+                header.set(0, header.get(0).replace("\uFEFF", ""));
+            }
+            for (int i = 0; header != null && i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            List<String> missing = CSV_REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+            if (!missing.isEmpty()) {
+                throw new ValidationException("file", "CSV header is missing columns: " + String.join(", ", missing));
+            }
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            List<String> cells = readRecord(reader);
+            while (cells != null && cells.size() == 1 && cells.get(0).isBlank()) {
+                cells = readRecord(reader);
+            }
+            if (cells == null) {
+                return null;
+            }
+            row++;
+            CreateUserRequest request = CreateUserRequest.builder()
+                    .username(cell(cells, "username"))
+                    .email(cell(cells, "email"))
+                    .password(rawCell(cells, "password"))
+                    .firstName(cell(cells, "first_name"))
+                    .lastName(cell(cells, "last_name"))
+                    .role(cell(cells, "role"))
+                    .build();
+            String dateOfBirth = cell(cells, "date_of_birth");
+            try {
+                request.setDateOfBirth(dateOfBirth != null ? LocalDate.parse(dateOfBirth) : null);
+            } catch (DateTimeParseException ex) {
+                return new ImportRow(row, null, new RowError(row, "dateOfBirth",
+                        "Date of birth must be an ISO date (yyyy-MM-dd)"));
+            }
+            String roleId = cell(cells, "role_id");
+            try {
+                request.setRoleId(roleId != null ? Long.valueOf(roleId) : null);
+            } catch (NumberFormatException ex) {
+                return new ImportRow(row, null, new RowError(row, "roleId", "Role id must be a number"));
+            }
+            return new ImportRow(row, request, null);
+        }
+
+        private String cell(List<String> cells, String column) {
+            String value = rawCell(cells, column);
+            return value != null && !value.isBlank() ? value.trim() : null;
+        }
+
+        /**
+         * Cell as written, for values where surrounding spaces are significant (passwords)
+         */
+        private String rawCell(List<String> cells, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= cells.size() || cells.get(index).isEmpty()) {
+                return null;
+            }
+            return cells.get(index);
+        }
+
+        /**
+         * Cells of the next record, which may span lines inside quotes; null at the end of the input
+         */
+        static List<String> readRecord(BufferedReader reader) throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            for (; c != -1; c = reader.read()) {
+                if (quoted) {
+                    if (c != '"') {
+                        cell.append((char) c);
+                        continue;
+                    }
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        cell.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else if (c == '"' && cell.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    cell.append((char) c);
+                }
+            }
+            cells.add(cell.toString());
+            return cells;
+        }
+    }
+}
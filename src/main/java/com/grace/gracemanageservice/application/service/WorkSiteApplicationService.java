@@ -0,0 +1,101 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.grace.gracemanageservice.application.event.WorkSiteChangedEvent;
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.domain.entity.GeoPoint;
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+import com.grace.gracemanageservice.domain.repository.WorkSiteRepository;
+import com.grace.gracemanageservice.presentation.request.WorkSiteRequest;
+import com.grace.gracemanageservice.presentation.response.WorkSiteResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application service for work site (geofence) management
+ * Every change publishes WorkSiteChangedEvent so the in-memory index is rebuilt after commit
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WorkSiteApplicationService {
+
+    private final WorkSiteRepository workSiteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<WorkSiteResponse> getAllSites() {
+        log.info("Getting all work sites");
+        return workSiteRepository.findAll().stream()
+                .map(WorkSiteResponse::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public WorkSiteResponse getSiteById(Long id) {
+        log.info("Getting work site by id: {}", id);
+        return WorkSiteResponse.from(workSiteRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("WorkSite", "id", id)));
+    }
+
+    public WorkSiteResponse createSite(WorkSiteRequest request) {
+        log.info("Creating work site with name: {}", request.name());
+        WorkSite site = apply(new WorkSite(), request);
+        WorkSite saved = workSiteRepository.save(site);
+        eventPublisher.publishEvent(new WorkSiteChangedEvent(saved.getId()));
+        log.info("Work site created successfully with id: {}", saved.getId());
+        return WorkSiteResponse.from(saved);
+    }
+
+    public WorkSiteResponse updateSite(Long id, WorkSiteRequest request) {
+        log.info("Updating work site with id: {}", id);
+        WorkSite site = workSiteRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("WorkSite", "id", id));
+        WorkSite saved = workSiteRepository.save(apply(site, request));
+        eventPublisher.publishEvent(new WorkSiteChangedEvent(id));
+        log.info("Work site updated successfully with id: {}", id);
+        return WorkSiteResponse.from(saved);
+    }
+
+    public void deleteSite(Long id) {
+        log.info("Deleting work site with id: {}", id);
+        if (!workSiteRepository.existsById(id)) {
+            throw new ResourceNotFoundException("WorkSite", "id", id);
+        }
+        workSiteRepository.deleteById(id);
+        eventPublisher.publishEvent(new WorkSiteChangedEvent(id));
+        log.info("Work site deleted successfully");
+    }
+
+    private WorkSite apply(WorkSite site, WorkSiteRequest request) {
+        if (workSiteRepository.existsByNameAndIdNot(request.name(), site.getId())) {
+            throw new ValidationException("name", "Work site name already exists: " + request.name());
+        }
+
+        List<GeoPoint> boundary = new ArrayList<>();
+        if (request.boundary() != null) {
+            request.boundary().forEach(point -> boundary.add(new GeoPoint(point.latitude(), point.longitude())));
+        }
+        if (!boundary.isEmpty() && boundary.size() < 3) {
+            throw new ValidationException("boundary", "A boundary needs at least 3 points");
+        }
+        if (boundary.isEmpty() && request.radiusMeters() == null) {
+            throw new ValidationException("radiusMeters", "Either a radius or a boundary is required");
+        }
+
+        site.setName(request.name());
+        site.setLatitude(request.latitude());
+        site.setLongitude(request.longitude());
+        site.setRadiusMeters(boundary.isEmpty() ? request.radiusMeters() : null);
+        site.setBoundary(boundary);
+        site.setActive(request.active() == null || request.active());
+        return site;
+    }
+}
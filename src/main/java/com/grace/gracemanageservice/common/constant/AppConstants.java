@@ -21,6 +21,10 @@ public class AppConstants {
     public static final int DEFAULT_PAGE_SIZE = 20;
     public static final int DEFAULT_PAGE = 0;
     // Pagination defaults
+
+    public static final int MAX_BATCH_EVENTS = 1000;
+    public static final long MAX_CLIENT_CLOCK_SKEW_MINUTES = 5;
+    // Attendance batch sync
 }
 
 
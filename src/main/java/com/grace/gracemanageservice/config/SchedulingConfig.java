@@ -0,0 +1,12 @@
+package com.grace.gracemanageservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled maintenance jobs; each job checks its own enabled flag
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,20 @@
 package com.grace.gracemanageservice.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.infrastructure.security.BCryptCostCalibrator;
+import com.grace.gracemanageservice.infrastructure.security.BitmaskPermissionEvaluator;
+import com.grace.gracemanageservice.infrastructure.security.DeviceApiKeyAuthenticationFilter;
 import com.grace.gracemanageservice.infrastructure.security.JwtAuthenticationFilter;
+import com.grace.gracemanageservice.infrastructure.security.LoginRateLimitFilter;
+import com.grace.gracemanageservice.infrastructure.security.PermissionExpressionHandler;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,28 +23,54 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.Map;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     @Bean
     public ObjectMapper objectMapper() {
         return new ObjectMapper();
     }
 
+    /**
+     * Hashes are stored with an {id} prefix. New hashes use BCrypt at bcrypt-strength, or, when that is 0,
+     * at the cost calibrated to take target-latency-ms on this machine. Unprefixed hashes from before the
+     * prefixes are plain BCrypt; they and lower-cost hashes are upgraded on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        @Value("${security.password.bcrypt-strength:10}") int strength,
+        @Value("${security.password.target-latency-ms:250}") long targetLatencyMs
+    ) {
+        int cost = strength;
+        if (strength <= 0) {
+            // Only calibration pays for timing hashes; a fixed strength starts without hashing anything
+            cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(targetLatencyMs));
+            log.info("BCrypt cost factor {} calibrated for {} ms per verification", cost, targetLatencyMs);
+        } else {
+            log.info("BCrypt cost factor {}", cost);
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
@@ -43,6 +78,16 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * Method security with hasPermission('code') checked against the principal's permission bitmask
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(ApplicationContext applicationContext) {
+        PermissionExpressionHandler handler = new PermissionExpressionHandler(new BitmaskPermissionEvaluator());
+        handler.setApplicationContext(applicationContext);
+        return handler;
+    }
+
     /**
      * Custom AuthenticationEntryPoint - returns 401 for authentication failures (e.g., expired JWT)
      */
@@ -81,6 +126,8 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(
         HttpSecurity http,
         JwtAuthenticationFilter jwtAuthenticationFilter,
+        LoginRateLimitFilter loginRateLimitFilter,
+        DeviceApiKeyAuthenticationFilter deviceApiKeyAuthenticationFilter,
         AuthenticationEntryPoint authenticationEntryPoint,
         AccessDeniedHandler accessDeniedHandler
     ) {
@@ -98,12 +145,18 @@ public class SecurityConfig {
                 .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
 
                 .requestMatchers("/api/v1/auth/**").permitAll()  // Allow login/logout
+                .requestMatchers("/.well-known/**").permitAll()  // Public JWT verification keys
                 .requestMatchers("/api/v1/roles/**").hasRole("ADMIN")  // Role management - ADMIN only
                 .requestMatchers("/api/v1/permissions/**").hasRole("ADMIN")  // Permissions - ADMIN only
+                .requestMatchers("/api/v1/devices/**").hasRole("ADMIN")  // Device keys - ADMIN only
                 .requestMatchers("/api/v1/users/**").hasAnyRole("ADMIN", "USER")  // Require authentication
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // Kiosks authenticate with a device key on the attendance recording endpoints
+            .addFilterAfter(deviceApiKeyAuthenticationFilter, JwtAuthenticationFilter.class)
+            // Throttle login/refresh ahead of everything else that could touch the database
+            .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
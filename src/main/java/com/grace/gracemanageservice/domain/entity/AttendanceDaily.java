@@ -0,0 +1,102 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * AttendanceDaily domain entity - per-user-per-day rollup of check-in records
+ * Worked minutes sum each OUT against the event right before it when that event is an IN.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceDaily {
+    private Long userId;
+    private LocalDate workDate;
+    private LocalDateTime firstCheckIn;
+    private LocalDateTime lastCheckIn;
+    private LocalDateTime lastCheckOut;
+    private int checkInCount;
+    private int checkOutCount;
+    private int workedMinutes;
+    // 0 until first stored
+    private long version;
+
+    public static AttendanceDaily empty(Long userId, LocalDate workDate) {
+        return AttendanceDaily.builder()
+                .userId(userId)
+                .workDate(workDate)
+                .build();
+    }
+
+    /**
+     * Fold a whole day of records from scratch
+     */
+    public static AttendanceDaily rollup(Long userId, LocalDate workDate, List<CheckInRecord> records) {
+        AttendanceDaily daily = empty(userId, workDate);
+        records.stream()
+                .sorted(Comparator.comparing(CheckInRecord::getTimestamp)
+                        .thenComparing(CheckInRecord::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(daily::fold);
+        return daily;
+    }
+
+    /**
+     * Apply one new record incrementally.
+     * Returns false without changing anything when the record is older than the latest event
+     * already folded in - the day must then be rebuilt with rollup.
+     */
+    public boolean apply(CheckInRecord record) {
+        LocalDateTime latest = latestEvent();
+        if (latest != null && record.getTimestamp().isBefore(latest)) {
+            return false;
+        }
+        fold(record);
+        return true;
+    }
+
+    public boolean isCheckedIn() {
+        return checkInCount > checkOutCount;
+    }
+
+    private void fold(CheckInRecord record) {
+        LocalDateTime time = record.getTimestamp();
+        if (record.getType() == CheckInRecord.CheckInType.IN) {
+            checkInCount++;
+            if (firstCheckIn == null) {
+                firstCheckIn = time;
+            }
+            lastCheckIn = time;
+        } else {
+            checkOutCount++;
+            boolean openIn = lastCheckIn != null && (lastCheckOut == null || lastCheckIn.isAfter(lastCheckOut));
+            if (openIn) {
+                // Whole seconds, floored per pair - matches the set-based rebuild
+                long seconds = Duration.between(lastCheckIn.truncatedTo(ChronoUnit.SECONDS),
+                        time.truncatedTo(ChronoUnit.SECONDS)).toSeconds();
+                workedMinutes += (int) (seconds / 60);
+            }
+            lastCheckOut = time;
+        }
+    }
+
+    private LocalDateTime latestEvent() {
+        if (lastCheckIn == null) {
+            return lastCheckOut;
+        }
+        if (lastCheckOut == null) {
+            return lastCheckIn;
+        }
+        return lastCheckIn.isAfter(lastCheckOut) ? lastCheckIn : lastCheckOut;
+    }
+}
@@ -0,0 +1,25 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat check-in row for exports - a CheckInRecord joined with its username.
+ * Export readers reuse one instance and overwrite it for every row, so consumers must
+ * write it out before returning and never keep a reference.
+ */
+@Getter
+@Setter
+public class CheckInExportRow {
+    private long id;
+    private long userId;
+    private String username;
+    private String type;
+    private LocalDateTime timestamp;
+    private Double latitude;
+    private Double longitude;
+    private Double accuracy;
+    private String address;
+}
@@ -0,0 +1,29 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DeviceApiKey domain entity - the credential of a shared check-in kiosk
+ * Only the keyed hash of the key is kept; the key itself is handed out once when issued
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceApiKey {
+    private Long id;
+    private String name;
+    private String keyPrefix;
+    private String keyHash;
+
+    @Builder.Default
+    private boolean active = true;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime revokedAt;
+}
@@ -1,12 +1,19 @@
 package com.grace.gracemanageservice.domain.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Canonical list of 18 permissions in the system.
  * This is the source of truth for valid permission codes.
+ * Each permission owns bit ordinal() of a long mask; masks are embedded in issued access tokens,
+ * so new permissions must be appended and existing ones never reordered or removed.
  */
 public enum PermissionCode {
     VIEW_EMPLOYEES("view_employees"),
@@ -28,41 +35,113 @@ public enum PermissionCode {
     SYSTEM_SETTINGS("system_settings"),
     USER_MANAGEMENT("user_management");
 
+    private static final Map<String, PermissionCode> BY_CODE = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(PermissionCode::getCode, Function.identity()));
+
+    private static final Set<String> ALL_CODES = Set.copyOf(BY_CODE.keySet());
+
     private final String code;
+    private final long mask;
 
     PermissionCode(String code) {
         this.code = code;
+        this.mask = 1L << ordinal();
     }
 
     public String getCode() {
         return code;
     }
 
+    public long getMask() {
+        return mask;
+    }
+
     /**
      * Get all permission codes as a set of strings
      */
     public static Set<String> getAllCodes() {
-        return Arrays.stream(values())
-            .map(PermissionCode::getCode)
-            .collect(Collectors.toSet());
+        return ALL_CODES;
     }
 
     /**
      * Check if a permission code is valid
      */
     public static boolean isValid(String code) {
-        return Arrays.stream(values())
-            .anyMatch(p -> p.getCode().equals(code));
+        return code != null && BY_CODE.containsKey(code);
     }
 
     /**
      * Get PermissionCode from string code
      */
     public static PermissionCode fromCode(String code) {
-        return Arrays.stream(values())
-            .filter(p -> p.getCode().equals(code))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("Invalid permission code: " + code));
+        PermissionCode permission = find(code);
+        if (permission == null) {
+            throw new IllegalArgumentException("Invalid permission code: " + code);
+        }
+        return permission;
     }
-}
 
+    /**
+     * PermissionCode for a string code, or null for an unknown code
+     */
+    public static PermissionCode find(Object code) {
+        return code != null ? BY_CODE.get(code) : null;
+    }
+
+    /**
+     * Bit of a permission code, or 0 for an unknown code
+     */
+    public static long maskOf(Object code) {
+        PermissionCode permission = find(code);
+        return permission != null ? permission.mask : 0L;
+    }
+
+    /**
+     * Combined bits of the given permissions
+     */
+    public static long toMask(Collection<PermissionCode> permissions) {
+        long mask = 0L;
+        for (PermissionCode permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
+
+    /**
+     * Every permission whose bit is set in the mask
+     */
+    public static EnumSet<PermissionCode> fromMask(long mask) {
+        EnumSet<PermissionCode> permissions = EnumSet.noneOf(PermissionCode.class);
+        for (PermissionCode permission : values()) {
+            if ((mask & permission.mask) != 0) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+
+    /**
+     * Permissions for the given codes; unknown codes are skipped
+     */
+    public static EnumSet<PermissionCode> fromCodes(Collection<String> codes) {
+        EnumSet<PermissionCode> permissions = EnumSet.noneOf(PermissionCode.class);
+        for (String code : codes) {
+            PermissionCode permission = find(code);
+            if (permission != null) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+
+    /**
+     * String codes of the given permissions
+     */
+    public static Set<String> toCodes(Collection<PermissionCode> permissions) {
+        Set<String> codes = new HashSet<>(permissions.size() * 2);
+        for (PermissionCode permission : permissions) {
+            codes.add(permission.code);
+        }
+        return codes;
+    }
+}
@@ -6,12 +6,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
 
 /**
  * Role domain entity - core business object
  * Framework independent, represents the role concept with permissions
+ * Permissions are an EnumSet (one bit per PermissionCode); string codes only exist at the API and DB edges.
  */
 @Data
 @Builder
@@ -23,7 +24,7 @@ public class Role {
     private String description;
 
     @Builder.Default
-    private Set<String> permissions = new HashSet<>();
+    private Set<PermissionCode> permissions = EnumSet.noneOf(PermissionCode.class);
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -32,14 +33,22 @@ public class Role {
      * Check if this role has a specific permission
      */
     public boolean hasPermission(String permissionCode) {
-        return permissions != null && permissions.contains(permissionCode);
+        PermissionCode permission = PermissionCode.find(permissionCode);
+        return permission != null && hasPermission(permission);
     }
 
     /**
      * Check if this role has a specific permission
      */
     public boolean hasPermission(PermissionCode permission) {
-        return hasPermission(permission.getCode());
+        return permissions != null && permissions.contains(permission);
+    }
+
+    /**
+     * Permissions as a PermissionCode bitmask
+     */
+    public long getPermissionMask() {
+        return permissions != null ? PermissionCode.toMask(permissions) : 0L;
     }
 
     /**
@@ -0,0 +1,28 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import java.time.Instant;
+
+/**
+ * A revocation of issued tokens: every token of a user or role issued before revokedAt,
+ * or one token by its id (jti). Kept until expiresAt, after which no token it matches can still be valid.
+ */
+public record TokenRevocation(Kind kind, String subject, Instant revokedAt, Instant expiresAt) {
+
+    public enum Kind {
+        USER,
+        ROLE,
+        TOKEN
+    }
+
+    public static TokenRevocation user(Long userId, Instant revokedAt, Instant expiresAt) {
+        return new TokenRevocation(Kind.USER, String.valueOf(userId), revokedAt, expiresAt);
+    }
+
+    public static TokenRevocation role(Long roleId, Instant revokedAt, Instant expiresAt) {
+        return new TokenRevocation(Kind.ROLE, String.valueOf(roleId), revokedAt, expiresAt);
+    }
+
+    public static TokenRevocation token(String tokenId, Instant revokedAt, Instant expiresAt) {
+        return new TokenRevocation(Kind.TOKEN, tokenId, revokedAt, expiresAt);
+    }
+}
@@ -0,0 +1,124 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Set of changed User fields - the repository writes only these columns.
+ * A field that was never set is left untouched; a field set to null is written as NULL.
+ */
+public final class UserChanges {
+
+    public enum Field {
+        EMAIL,
+        PASSWORD,
+        FIRST_NAME,
+        LAST_NAME,
+        ROLE,
+        ACTIVE,
+        UPDATED_AT,
+        DATE_OF_BIRTH,
+        ROLE_ID,
+        LAST_CHECK_IN_TIME,
+        LAST_CHECK_OUT_TIME
+    }
+
+    private final EnumMap<Field, Object> values = new EnumMap<>(Field.class);
+
+    public static UserChanges lastCheckIn(LocalDateTime time) {
+        return new UserChanges().lastCheckInTime(time);
+    }
+
+    public static UserChanges lastCheckOut(LocalDateTime time) {
+        return new UserChanges().lastCheckOutTime(time);
+    }
+
+    public UserChanges email(String email) {
+        values.put(Field.EMAIL, email);
+        return this;
+    }
+
+    public UserChanges password(String encodedPassword) {
+        values.put(Field.PASSWORD, encodedPassword);
+        return this;
+    }
+
+    public UserChanges firstName(String firstName) {
+        values.put(Field.FIRST_NAME, firstName);
+        return this;
+    }
+
+    public UserChanges lastName(String lastName) {
+        values.put(Field.LAST_NAME, lastName);
+        return this;
+    }
+
+    public UserChanges role(String role) {
+        values.put(Field.ROLE, role);
+        return this;
+    }
+
+    public UserChanges active(Boolean active) {
+        values.put(Field.ACTIVE, active);
+        return this;
+    }
+
+    public UserChanges updatedAt(LocalDate updatedAt) {
+        values.put(Field.UPDATED_AT, updatedAt);
+        return this;
+    }
+
+    public UserChanges dateOfBirth(LocalDate dateOfBirth) {
+        values.put(Field.DATE_OF_BIRTH, dateOfBirth);
+        return this;
+    }
+
+    public UserChanges roleId(Long roleId) {
+        values.put(Field.ROLE_ID, roleId);
+        return this;
+    }
+
+    public UserChanges lastCheckInTime(LocalDateTime time) {
+        values.put(Field.LAST_CHECK_IN_TIME, time);
+        return this;
+    }
+
+    public UserChanges lastCheckOutTime(LocalDateTime time) {
+        values.put(Field.LAST_CHECK_OUT_TIME, time);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public boolean contains(Field field) {
+        return values.containsKey(field);
+    }
+
+    /**
+     * Changed fields in declaration order
+     */
+    public Map<Field, Object> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UserChanges other && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        // Never print the password hash
+        return "UserChanges" + values.keySet();
+    }
+}
@@ -0,0 +1,18 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import java.time.LocalDate;
+
+/**
+ * Criteria for listing users; a null criterion matches every user.
+ * createdFrom and createdTo are inclusive.
+ */
+public record UserFilter(String role, Long roleId, Boolean active, LocalDate createdFrom, LocalDate createdTo) {
+
+    public static UserFilter none() {
+        return new UserFilter(null, null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return role == null && roleId == null && active == null && createdFrom == null && createdTo == null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.grace.gracemanageservice.domain.entity;
+
+/**
+ * Order of a user listing. Every key is unique and indexed, so a page continues strictly after
+ * the previous page's last key value with an index seek.
+ */
+public record UserSort(Key key, boolean descending) {
+
+    public static final UserSort DEFAULT = new UserSort(Key.ID, false);
+
+    public enum Key {
+        ID,
+        USERNAME,
+        EMAIL
+    }
+
+    /**
+     * The key value of a user that the next page continues after
+     */
+    public String valueOf(UserView user) {
+        return switch (key) {
+            case ID -> String.valueOf(user.id());
+            case USERNAME -> user.username();
+            case EMAIL -> user.email();
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a user for lists and lookups - the columns responses show, never the password.
+ * Read straight from SQL into the record, with no entity, persistence context or mapper in between.
+ */
+public record UserView(
+        Long id,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        String role,
+        Boolean active,
+        LocalDate createdAt,
+        LocalDate updatedAt,
+        LocalDate dateOfBirth,
+        Long roleId,
+        LocalDateTime lastCheckInTime,
+        LocalDateTime lastCheckOutTime) {
+}
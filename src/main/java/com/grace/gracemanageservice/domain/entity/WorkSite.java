@@ -0,0 +1,42 @@
+package com.grace.gracemanageservice.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WorkSite domain entity - a geofence that check-ins must fall inside
+ * Either a circle around (latitude, longitude) or a polygon boundary; the center is kept for both
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkSite {
+    private Long id;
+    private String name;
+    private double latitude;
+    private double longitude;
+    private Double radiusMeters;
+
+    @Builder.Default
+    private List<GeoPoint> boundary = new ArrayList<>();
+
+    @Builder.Default
+    private boolean active = true;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Check if this site is bounded by a polygon rather than a radius
+     */
+    public boolean isPolygon() {
+        return boundary != null && boundary.size() >= 3;
+    }
+}
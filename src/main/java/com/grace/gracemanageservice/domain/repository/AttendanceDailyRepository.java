@@ -0,0 +1,34 @@
+package com.grace.gracemanageservice.domain.repository;
+
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for AttendanceDaily rollup rows
+ */
+public interface AttendanceDailyRepository {
+
+    Optional<AttendanceDaily> findByUserIdAndWorkDate(Long userId, LocalDate workDate);
+
+    /**
+     * Read a row and hold an update lock on its key until the transaction ends, so concurrent
+     * writers for the same user and day serialize (the key range is locked even if no row exists yet)
+     */
+    Optional<AttendanceDaily> findByUserIdAndWorkDateForUpdate(Long userId, LocalDate workDate);
+
+    List<AttendanceDaily> findByUserIdAndWorkDateBetween(Long userId, LocalDate from, LocalDate to);
+
+    /**
+     * Insert (version 0) or update the row, incrementing its version in place
+     */
+    AttendanceDaily save(AttendanceDaily daily);
+
+    /**
+     * Recompute every row with work_date in [from, to] from T_CHECK_IN_RECORD in one set-based statement.
+     * Returns the number of rows written or removed.
+     */
+    int rebuild(LocalDate from, LocalDate to);
+}
@@ -1,10 +1,13 @@
 package com.grace.gracemanageservice.domain.repository;
 
+import com.grace.gracemanageservice.domain.entity.CheckInExportRow;
 import com.grace.gracemanageservice.domain.entity.CheckInRecord;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for CheckInRecord entity
@@ -13,21 +16,59 @@ public interface CheckInRecordRepository {
 
     CheckInRecord save(CheckInRecord checkInRecord);
 
+    /**
+     * Insert many records with multi-row statements, assigning generated ids in place
+     */
+    List<CheckInRecord> saveAll(List<CheckInRecord> checkInRecords);
+
     Optional<CheckInRecord> findById(Long id);
 
     List<CheckInRecord> findByUserId(Long userId);
 
     List<CheckInRecord> findByUserIdAndTimestampBetween(Long userId, LocalDateTime start, LocalDateTime end);
 
+    /**
+     * One keyset page of a user's records in [start, end], ordered by (timestamp, id).
+     * Starts strictly after (afterTimestamp, afterId), or at the beginning when they are null.
+     */
+    List<CheckInRecord> findPageByUserIdAndTimestampBetween(Long userId, LocalDateTime start, LocalDateTime end,
+            LocalDateTime afterTimestamp, Long afterId, int limit);
+
+    /**
+     * Hand a user's records in [start, end] to the consumer one at a time, ordered by (timestamp, id),
+     * as the database cursor advances - nothing is accumulated in memory
+     */
+    void streamByUserIdAndTimestampBetween(Long userId, LocalDateTime start, LocalDateTime end,
+            Consumer<CheckInRecord> consumer);
+
+    /**
+     * Hand every user's live records in [start, end) to the consumer, ordered by (timestamp, id),
+     * through a forward-only cursor. The row instance is reused between calls.
+     * If the consumer throws, the statement is cancelled on the server before the cursor closes.
+     */
+    void exportByTimestampBetween(LocalDateTime start, LocalDateTime end, int fetchSize,
+            Consumer<CheckInExportRow> consumer);
+
     /**
      * Find the most recent check-in record for a user
      */
     Optional<CheckInRecord> findTopByUserIdOrderByTimestampDesc(Long userId);
 
     /**
-     * Find records for a user on a specific date
+     * Find records for a user on a specific date, ordered by (timestamp, id)
+     */
+    List<CheckInRecord> findByUserIdAndWorkDate(Long userId, LocalDate workDate);
+
+    /**
+     * Timestamp of the oldest stored record, if any
+     */
+    Optional<LocalDateTime> findEarliestTimestamp();
+
+    /**
+     * Start of the oldest month still in the live table when older months have been archived.
+     * Archived months are immutable: nothing may be written before this point.
      */
-    List<CheckInRecord> findByUserIdAndDate(Long userId, LocalDateTime date);
+    Optional<LocalDateTime> archivedBefore();
 
     void deleteById(Long id);
 }
@@ -0,0 +1,27 @@
+package com.grace.gracemanageservice.domain.repository;
+
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DeviceApiKey repository interface - defines contracts for data access
+ * Implemented by infrastructure layer
+ */
+public interface DeviceApiKeyRepository {
+
+    List<DeviceApiKey> findAll();
+
+    Optional<DeviceApiKey> findActiveByKeyHash(String keyHash);
+
+    /**
+     * Insert a new key and return it with its generated id
+     */
+    DeviceApiKey save(DeviceApiKey deviceApiKey);
+
+    /**
+     * Deactivate the key; false if no active key has that id
+     */
+    boolean revoke(Long id);
+}
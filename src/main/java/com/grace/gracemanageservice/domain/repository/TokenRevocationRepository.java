@@ -0,0 +1,22 @@
+package com.grace.gracemanageservice.domain.repository;
+
+import com.grace.gracemanageservice.domain.entity.TokenRevocation;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * TokenRevocation repository interface - defines contracts for data access
+ * Implemented by infrastructure layer
+ */
+public interface TokenRevocationRepository {
+
+    /**
+     * Revocations that can still match a live token
+     */
+    List<TokenRevocation> findUnexpired(Instant now);
+
+    void save(TokenRevocation revocation);
+
+    int deleteExpired(Instant now);
+}
@@ -1,8 +1,16 @@
 package com.grace.gracemanageservice.domain.repository;
 
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
+import com.grace.gracemanageservice.domain.entity.UserFilter;
+import com.grace.gracemanageservice.domain.entity.UserSort;
+import com.grace.gracemanageservice.domain.entity.UserView;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * User repository interface - defines contracts for data access
@@ -12,15 +20,84 @@ public interface UserRepository {
 
     User save(User user);
 
+    /**
+     * Write only the changed columns of an existing user, without loading it first.
+     * Returns false when no user has the given id.
+     */
+    boolean update(Long id, UserChanges changes);
+
     Optional<User> findById(Long id);
 
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String username);
 
+    /**
+     * Response columns of a user by id, without loading the entity
+     */
+    Optional<UserView> findViewById(Long id);
+
+    /**
+     * Response columns of a user by email, without loading the entity
+     */
+    Optional<UserView> findViewByEmail(String email);
+
+    /**
+     * Response columns of the users with fromId <= id < toId, in id order
+     */
+    java.util.List<UserView> findViewsByIdRange(long fromId, long toId);
+
+    /**
+     * Highest user id, or 0 when there are no users
+     */
+    long maxId();
+
     void deleteById(Long id);
 
     java.util.List<User> findAll();
 
     long count();
+
+    /**
+     * One keyset page of users matching the filter, in sort order, as response-column projections.
+     * Starts strictly after the user whose sort key is afterKey, or at the beginning when it is null.
+     */
+    java.util.List<UserView> findPage(UserFilter filter, UserSort sort, String afterKey, int limit);
+
+    /**
+     * Exact number of users matching the filter
+     */
+    long count(UserFilter filter);
+
+    /**
+     * Approximate number of users from table metadata - no scan, may lag recent inserts and deletes
+     */
+    long estimateCount();
+
+    /**
+     * Return the subset of the given ids that exist, in a single set-based query
+     */
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Return the subset of the given emails already taken, as stored - compare case-insensitively
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Return the subset of the given usernames already taken, as stored - compare case-insensitively
+     */
+    Set<String> findExistingUsernames(Collection<String> usernames);
+
+    /**
+     * Insert new users with multi-row statements and set their generated ids.
+     * Passwords must already be encoded.
+     */
+    void insertAll(java.util.List<User> users);
+
+    /**
+     * Advance last check-in/check-out times for many users in one batch.
+     * A value only overwrites the stored time when it is newer.
+     */
+    void updateLastCheckTimes(Map<Long, LocalDateTime> lastCheckIns, Map<Long, LocalDateTime> lastCheckOuts);
 }
@@ -0,0 +1,27 @@
+package com.grace.gracemanageservice.domain.repository;
+
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WorkSite repository interface - defines contracts for data access
+ * Implemented by infrastructure layer
+ */
+public interface WorkSiteRepository {
+
+    List<WorkSite> findAll();
+
+    List<WorkSite> findAllActive();
+
+    Optional<WorkSite> findById(Long id);
+
+    WorkSite save(WorkSite workSite);
+
+    void deleteById(Long id);
+
+    boolean existsById(Long id);
+
+    boolean existsByNameAndIdNot(String name, Long id);
+}
@@ -32,7 +32,7 @@ public class CreateRoleUseCase {
         Role role = Role.builder()
             .name(name.toUpperCase()) // Store name in uppercase
             .description(description)
-            .permissions(permissions)
+            .permissions(PermissionCode.fromCodes(permissions))
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
@@ -1,15 +1,18 @@
 package com.grace.gracemanageservice.domain.usecase;
 
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
 import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
 import com.grace.gracemanageservice.application.exception.ValidationException;
 import com.grace.gracemanageservice.domain.entity.Role;
 import com.grace.gracemanageservice.domain.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
  * Delete role use case - business logic for role deletion
+ * Publishes RoleChangedEvent so principals and cached authorization decisions for the role are dropped
  */
 @Slf4j
 @Component
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class DeleteRoleUseCase {
 
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void execute(Long id) {
         log.debug("Deleting role with id: {}", id);
@@ -31,6 +35,7 @@ public class DeleteRoleUseCase {
         }
 
         roleRepository.deleteById(id);
+        eventPublisher.publishEvent(new RoleChangedEvent(id));
         log.info("Role deleted successfully with id: {}", id);
     }
 }
@@ -1,23 +1,31 @@
 package com.grace.gracemanageservice.domain.usecase;
 
 import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.application.service.PasswordVerificationService;
+import com.grace.gracemanageservice.application.service.PasswordVerificationService.PasswordCheck;
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
  * Login user use case - validates credentials and returns authenticated user
+ * Every attempt pays for a password check (against a dummy hash for unknown usernames), and the
+ * account state is only revealed once the password is right, so timing and errors do not tell
+ * which usernames exist. A matching password whose stored hash is outdated (unprefixed, or a lower
+ * BCrypt cost than configured) is re-hashed and stored.
  */
+@Slf4j
 @Component
 public class LoginUserUseCase {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationService passwordVerificationService;
 
-    public LoginUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public LoginUserUseCase(UserRepository userRepository, PasswordVerificationService passwordVerificationService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordVerificationService = passwordVerificationService;
     }
 
     public User execute(String username, String password) {
@@ -30,20 +38,39 @@ public class LoginUserUseCase {
         }
 
         // Find user by username
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new ValidationException("credentials", "Invalid username or password"));
+        User user = userRepository.findByUsername(username).orElse(null);
+        if (user == null) {
+            passwordVerificationService.matchDummy(password);
+            throw new ValidationException("credentials", "Invalid username or password");
+        }
+
+        // Verify password
+        PasswordCheck check = passwordVerificationService.verify(password, user.getPassword());
+        if (!check.matched()) {
+            throw new ValidationException("credentials", "Invalid username or password");
+        }
 
         // Check if user is active
         if (!user.isActive()) {
             throw new ValidationException("account", "Account is inactive");
         }
 
-        // Verify password
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new ValidationException("credentials", "Invalid username or password");
+        if (check.needsUpgrade()) {
+            upgradePassword(user, check.upgradedHash());
         }
-
         return user;
     }
-}
 
+    /**
+     * Store the re-hashed password; a failure only postpones the upgrade to the next login
+     */
+    private void upgradePassword(User user, String upgradedHash) {
+        try {
+            userRepository.update(user.getId(), new UserChanges().password(upgradedHash));
+            user.setPassword(upgradedHash);
+            log.info("Upgraded password hash for user {}", user.getId());
+        } catch (RuntimeException ex) {
+            log.warn("Could not upgrade password hash for user {}", user.getId(), ex);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.grace.gracemanageservice.domain.usecase;
 
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
 import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
 import com.grace.gracemanageservice.application.exception.ValidationException;
 import com.grace.gracemanageservice.domain.entity.PermissionCode;
@@ -7,6 +8,7 @@ import com.grace.gracemanageservice.domain.entity.Role;
 import com.grace.gracemanageservice.domain.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,7 @@ import java.util.Set;
 
 /**
  * Update role use case - business logic for role update (PATCH semantics)
+ * Publishes RoleChangedEvent so principals and cached authorization decisions for the role are dropped
  */
 @Slf4j
 @Component
@@ -21,6 +24,7 @@ import java.util.Set;
 public class UpdateRoleUseCase {
 
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Role execute(Long id, String name, String description, Set<String> permissions) {
         log.debug("Updating role with id: {}", id);
@@ -43,12 +47,14 @@ public class UpdateRoleUseCase {
 
         if (permissions != null) {
             validatePermissions(permissions);
-            existingRole.setPermissions(permissions);
+            existingRole.setPermissions(PermissionCode.fromCodes(permissions));
         }
 
         existingRole.setUpdatedAt(LocalDateTime.now());
 
-        return roleRepository.save(existingRole);
+        Role saved = roleRepository.save(existingRole);
+        eventPublisher.publishEvent(new RoleChangedEvent(id));
+        return saved;
     }
 
     private void validateName(String name) {
@@ -4,6 +4,7 @@ import com.grace.gracemanageservice.application.exception.ResourceNotFoundExcept
 import com.grace.gracemanageservice.application.exception.ValidationException;
 import com.grace.gracemanageservice.common.validator.EmailValidator;
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
 import com.grace.gracemanageservice.domain.repository.RoleRepository;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -33,13 +34,18 @@ public class UpdateUserUseCase {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
+        // Track changed fields so only those columns are written
+        UserChanges changes = new UserChanges();
+
         // Update fields if provided (not null)
         if (firstName != null && !firstName.isBlank()) {
             user.setFirstName(firstName);
+            changes.firstName(firstName);
         }
 
         if (lastName != null && !lastName.isBlank()) {
             user.setLastName(lastName);
+            changes.lastName(lastName);
         }
 
         if (email != null && !email.isBlank()) {
@@ -51,6 +57,7 @@ public class UpdateUserUseCase {
                     throw new ValidationException("email", "Email format is invalid");
                 }
                 user.setEmail(email);
+                changes.email(email);
             }
         }
 
@@ -59,10 +66,12 @@ public class UpdateUserUseCase {
                 throw new ValidationException("role", "Role must be one of: admin, user, viewer");
             }
             user.setRole(role);
+            changes.role(role);
         }
 
         if (dateOfBirth != null) {
             user.setDateOfBirth(dateOfBirth);
+            changes.dateOfBirth(dateOfBirth);
         }
 
         if (roleId != null) {
@@ -70,27 +79,36 @@ public class UpdateUserUseCase {
                 throw new ValidationException("roleId", "Role not found with id: " + roleId);
             }
             user.setRoleId(roleId);
+            changes.roleId(roleId);
         }
 
         if (lastCheckInTime != null) {
             user.setLastCheckInTime(lastCheckInTime);
+            changes.lastCheckInTime(lastCheckInTime);
         }
 
         if (lastCheckOutTime != null) {
             user.setLastCheckOutTime(lastCheckOutTime);
+            changes.lastCheckOutTime(lastCheckOutTime);
         }
 
         if (password != null && !password.isBlank()) {
             if (password.length() < 8) {
                 throw new ValidationException("password", "Password must be at least 8 characters");
             }
-            user.setPassword(passwordEncoder.encode(password));
+            String encodedPassword = passwordEncoder.encode(password);
+            user.setPassword(encodedPassword);
+            changes.password(encodedPassword);
         }
 
         if (active != null) {
             user.setActive(active);
+            changes.active(active);
         }
 
-        return userRepository.save(user);
+        if (!changes.isEmpty()) {
+            userRepository.update(id, changes);
+        }
+        return user;
     }
 }
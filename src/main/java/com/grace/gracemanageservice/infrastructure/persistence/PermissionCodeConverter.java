@@ -0,0 +1,33 @@
+package com.grace.gracemanageservice.infrastructure.persistence;
+
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores a PermissionCode as its string code (e.g. 'view_employees') in T_ROLE_PERMISSION.permission_code.
+ * A stored code this build does not know (removed, or written by a newer node) reads as null and is
+ * dropped by RoleEntity, so one bad row cannot break loading the role.
+ */
+@Slf4j
+@Converter
+public class PermissionCodeConverter implements AttributeConverter<PermissionCode, String> {
+
+    @Override
+    public String convertToDatabaseColumn(PermissionCode permission) {
+        return permission != null ? permission.getCode() : null;
+    }
+
+    @Override
+    public PermissionCode convertToEntityAttribute(String code) {
+        if (code == null) {
+            return null;
+        }
+        PermissionCode permission = PermissionCode.find(code);
+        if (permission == null) {
+            log.warn("Ignoring unknown permission code '{}' in T_ROLE_PERMISSION", code);
+        }
+        return permission;
+    }
+}
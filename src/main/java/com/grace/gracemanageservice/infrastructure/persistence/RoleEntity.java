@@ -1,5 +1,6 @@
 package com.grace.gracemanageservice.infrastructure.persistence;
 
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
 import com.grace.gracemanageservice.domain.entity.Role;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -8,7 +9,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -39,8 +42,9 @@ public class RoleEntity {
         joinColumns = @JoinColumn(name = "role_id")
     )
     @Column(name = "permission_code", length = 100)
+    @Convert(converter = PermissionCodeConverter.class)
     @Builder.Default
-    private Set<String> permissions = new HashSet<>();
+    private Set<PermissionCode> permissions = new HashSet<>();
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -65,10 +69,21 @@ public class RoleEntity {
             .id(this.id)
             .name(this.name)
             .description(this.description)
-            .permissions(this.permissions != null ? new HashSet<>(this.permissions) : new HashSet<>())
+            .permissions(toEnumSet(this.permissions))
             .createdAt(this.createdAt)
             .updatedAt(this.updatedAt)
             .build();
     }
+
+    /**
+     * Unknown stored codes convert to null and are skipped
+     */
+    private static EnumSet<PermissionCode> toEnumSet(Set<PermissionCode> permissions) {
+        EnumSet<PermissionCode> result = EnumSet.noneOf(PermissionCode.class);
+        if (permissions != null) {
+            permissions.stream().filter(Objects::nonNull).forEach(result::add);
+        }
+        return result;
+    }
 }
 
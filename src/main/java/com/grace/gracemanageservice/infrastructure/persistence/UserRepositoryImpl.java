@@ -1,13 +1,32 @@
 package com.grace.gracemanageservice.infrastructure.persistence;
 
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
+import com.grace.gracemanageservice.domain.entity.UserFilter;
+import com.grace.gracemanageservice.domain.entity.UserSort;
+import com.grace.gracemanageservice.domain.entity.UserView;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
 import com.grace.gracemanageservice.infrastructure.persistence.jpa.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * User repository implementation - concrete implementation using JPA
@@ -18,7 +37,51 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
 
+    // SQL Server caps a statement at 2100 parameters
+    private static final int MAX_IN_LIST_SIZE = 2000;
+
+    private static final String INSERT_COLUMNS =
+            "INSERT INTO T_USER (username, email, password, first_name, last_name, [role], active, created_at, "
+                    + "date_of_birth, role_id) OUTPUT INSERTED.id, INSERTED.email VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int PARAMS_PER_ROW = 10;
+    private static final int MAX_ROWS_PER_INSERT = MAX_IN_LIST_SIZE / PARAMS_PER_ROW;
+
+    private static final String UPDATE_LAST_CHECK_IN_SQL =
+            "UPDATE T_USER SET last_check_in_time = ? "
+                    + "WHERE id = ? AND (last_check_in_time IS NULL OR last_check_in_time < ?)";
+
+    private static final String UPDATE_LAST_CHECK_OUT_SQL =
+            "UPDATE T_USER SET last_check_out_time = ? "
+                    + "WHERE id = ? AND (last_check_out_time IS NULL OR last_check_out_time < ?)";
+
+    // Response columns only - never the password hash
+    private static final String SELECT_VIEW_COLUMNS =
+            "id, username, email, first_name, last_name, [role], active, created_at, updated_at, "
+                    + "date_of_birth, role_id, last_check_in_time, last_check_out_time";
+
+    // Heap or clustered index row count, maintained by the engine - no scan
+    private static final String ESTIMATE_COUNT_SQL =
+            "SELECT SUM(rows) FROM sys.partitions WHERE object_id = OBJECT_ID('T_USER') AND index_id IN (0, 1)";
+
+    // Read by position in SELECT_VIEW_COLUMNS order; java.time getters skip the java.sql intermediates
+    private static final RowMapper<UserView> VIEW_ROW_MAPPER = (rs, rowNum) -> new UserView(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getString(6),
+            rs.getBoolean(7),
+            rs.getObject(8, LocalDate.class),
+            rs.getObject(9, LocalDate.class),
+            rs.getObject(10, LocalDate.class),
+            rs.getObject(11, Long.class),
+            rs.getObject(12, LocalDateTime.class),
+            rs.getObject(13, LocalDateTime.class));
+
     private final UserJpaRepository userJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public User save(User user) {
@@ -27,6 +90,25 @@ public class UserRepositoryImpl implements UserRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public boolean update(Long id, UserChanges changes) {
+        if (changes.isEmpty()) {
+            return userJpaRepository.existsById(id);
+        }
+        StringBuilder sql = new StringBuilder("UPDATE T_USER SET ");
+        List<Object> args = new ArrayList<>(changes.asMap().size() + 1);
+        changes.asMap().forEach((field, value) -> {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(columnFor(field)).append(" = ?");
+            args.add(toJdbcValue(value));
+        });
+        sql.append(" WHERE id = ?");
+        args.add(id);
+        return jdbcTemplate.update(sql.toString(), args.toArray()) > 0;
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         return userJpaRepository.findById(id)
@@ -45,6 +127,30 @@ public class UserRepositoryImpl implements UserRepository {
                 .map(UserEntity::toDomain);
     }
 
+    @Override
+    public Optional<UserView> findViewById(Long id) {
+        return jdbcTemplate.query("SELECT " + SELECT_VIEW_COLUMNS + " FROM T_USER WHERE id = ?",
+                VIEW_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public Optional<UserView> findViewByEmail(String email) {
+        return jdbcTemplate.query("SELECT " + SELECT_VIEW_COLUMNS + " FROM T_USER WHERE email = ?",
+                VIEW_ROW_MAPPER, email).stream().findFirst();
+    }
+
+    @Override
+    public List<UserView> findViewsByIdRange(long fromId, long toId) {
+        return jdbcTemplate.query("SELECT " + SELECT_VIEW_COLUMNS + " FROM T_USER WHERE id >= ? AND id < ? ORDER BY id",
+                VIEW_ROW_MAPPER, fromId, toId);
+    }
+
+    @Override
+    public long maxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM T_USER", Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
     @Override
     public void deleteById(Long id) {
         userJpaRepository.deleteById(id);
@@ -61,4 +167,191 @@ public class UserRepositoryImpl implements UserRepository {
     public long count() {
         return userJpaRepository.count();
     }
+
+    @Override
+    public List<UserView> findPage(UserFilter filter, UserSort sort, String afterKey, int limit) {
+        String keyColumn = columnFor(sort.key());
+        StringBuilder sql = new StringBuilder("SELECT TOP (").append(limit).append(") ")
+                .append(SELECT_VIEW_COLUMNS).append(" FROM T_USER");
+        List<Object> args = new ArrayList<>();
+        String conjunction = appendFilter(sql, args, filter);
+        if (afterKey != null) {
+            sql.append(conjunction).append(keyColumn).append(sort.descending() ? " < ?" : " > ?");
+            args.add(sort.key() == UserSort.Key.ID ? Long.valueOf(afterKey) : afterKey);
+        }
+        sql.append(" ORDER BY ").append(keyColumn).append(sort.descending() ? " DESC" : "");
+        return jdbcTemplate.query(sql.toString(), VIEW_ROW_MAPPER, args.toArray());
+    }
+
+    @Override
+    public long count(UserFilter filter) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM T_USER");
+        List<Object> args = new ArrayList<>();
+        appendFilter(sql, args, filter);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public long estimateCount() {
+        Long count = jdbcTemplate.queryForObject(ESTIMATE_COUNT_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> distinct = new ArrayList<>(new HashSet<>(ids));
+        for (int from = 0; from < distinct.size(); from += MAX_IN_LIST_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinct.size()));
+            existing.addAll(userJpaRepository.findExistingIds(chunk));
+        }
+        return existing;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExistingValues("email", emails);
+    }
+
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return findExistingValues("username", usernames);
+    }
+
+    @Override
+    public void insertAll(List<User> users) {
+        for (int from = 0; from < users.size(); from += MAX_ROWS_PER_INSERT) {
+            insertChunk(users.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, users.size())));
+        }
+    }
+
+    @Override
+    public void updateLastCheckTimes(Map<Long, LocalDateTime> lastCheckIns, Map<Long, LocalDateTime> lastCheckOuts) {
+        batchUpdateTimes(UPDATE_LAST_CHECK_IN_SQL, lastCheckIns);
+        batchUpdateTimes(UPDATE_LAST_CHECK_OUT_SQL, lastCheckOuts);
+    }
+
+    private static String columnFor(UserChanges.Field field) {
+        return switch (field) {
+            case EMAIL -> "email";
+            case PASSWORD -> "password";
+            case FIRST_NAME -> "first_name";
+            case LAST_NAME -> "last_name";
+            case ROLE -> "[role]";
+            case ACTIVE -> "active";
+            case UPDATED_AT -> "updated_at";
+            case DATE_OF_BIRTH -> "date_of_birth";
+            case ROLE_ID -> "role_id";
+            case LAST_CHECK_IN_TIME -> "last_check_in_time";
+            case LAST_CHECK_OUT_TIME -> "last_check_out_time";
+        };
+    }
+
+    private static String columnFor(UserSort.Key key) {
+        return switch (key) {
+            case ID -> "id";
+            case USERNAME -> "username";
+            case EMAIL -> "email";
+        };
+    }
+
+    /**
+     * Append the filter's WHERE clause; returns the conjunction for a further predicate
+     */
+    private static String appendFilter(StringBuilder sql, List<Object> args, UserFilter filter) {
+        String conjunction = " WHERE ";
+        if (filter.role() != null) {
+            sql.append(conjunction).append("[role] = ?");
+            args.add(filter.role());
+            conjunction = " AND ";
+        }
+        if (filter.roleId() != null) {
+            sql.append(conjunction).append("role_id = ?");
+            args.add(filter.roleId());
+            conjunction = " AND ";
+        }
+        if (filter.active() != null) {
+            sql.append(conjunction).append("active = ?");
+            args.add(filter.active());
+            conjunction = " AND ";
+        }
+        if (filter.createdFrom() != null) {
+            sql.append(conjunction).append("created_at >= ?");
+            args.add(Date.valueOf(filter.createdFrom()));
+            conjunction = " AND ";
+        }
+        if (filter.createdTo() != null) {
+            sql.append(conjunction).append("created_at <= ?");
+            args.add(Date.valueOf(filter.createdTo()));
+            conjunction = " AND ";
+        }
+        return conjunction;
+    }
+
+    private static Object toJdbcValue(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+        if (value instanceof LocalDate date) {
+            return Date.valueOf(date);
+        }
+        return value;
+    }
+
+    private void batchUpdateTimes(String sql, Map<Long, LocalDateTime> times) {
+        if (times == null || times.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(times.size());
+        times.forEach((userId, time) -> {
+            Timestamp ts = Timestamp.valueOf(time);
+            args.add(new Object[] { ts, userId, ts });
+        });
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    private Set<String> findExistingValues(String column, Collection<String> values) {
+        Set<String> existing = new HashSet<>();
+        List<String> distinct = new ArrayList<>(new HashSet<>(values));
+        for (int from = 0; from < distinct.size(); from += MAX_IN_LIST_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinct.size()));
+            String sql = "SELECT " + column + " FROM T_USER WHERE " + column + " IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            existing.addAll(jdbcTemplate.queryForList(sql, String.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    private void insertChunk(List<User> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_COLUMNS);
+        List<Object> args = new ArrayList<>(chunk.size() * PARAMS_PER_ROW);
+        Map<String, User> byEmail = new HashMap<>();
+        Date createdAt = Date.valueOf(LocalDate.now());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            User user = chunk.get(i);
+            sql.append(i == 0 ? VALUES_ROW : ", " + VALUES_ROW);
+            args.add(user.getUsername());
+            args.add(user.getEmail());
+            args.add(user.getPassword());
+            args.add(user.getFirstName());
+            args.add(user.getLastName());
+            args.add(user.getRole());
+            args.add(user.getActive() == null || user.getActive());
+            args.add(createdAt);
+            args.add(user.getDateOfBirth() != null ? Date.valueOf(user.getDateOfBirth()) : null);
+            args.add(user.getRoleId());
+            // Emails are unique, so each OUTPUT row maps back to exactly one user
+            byEmail.put(user.getEmail().toLowerCase(Locale.ROOT), user);
+        }
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+            User user = byEmail.get(rs.getString(2).toLowerCase(Locale.ROOT));
+            if (user != null) {
+                user.setId(rs.getLong(1));
+                user.setCreatedAt(createdAt.toLocalDate());
+            }
+        }, args.toArray());
+    }
 }
@@ -0,0 +1,167 @@
+package com.grace.gracemanageservice.infrastructure.persistence.archive;
+
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * Cold archive of closed months of T_CHECK_IN_RECORD as immutable, compressed segment files
+ * (one file per month, check-in-YYYY-MM.seg). Every month before archivedBefore() is served from
+ * segments only, every later month from the live table only, so reads never see a row twice.
+ * Published months are recorded in T_CHECK_IN_ARCHIVE_MONTH and reloaded every refresh-ms, so every node
+ * moves its boundary to a month archived by another; the directory must be storage shared by all nodes.
+ */
+@Slf4j
+@Component
+public class CheckInArchive {
+
+    private static final String PREFIX = "check-in-";
+    private static final String SUFFIX = ".seg";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final ConcurrentSkipListSet<YearMonth> months = new ConcurrentSkipListSet<>();
+    private final ConcurrentMap<YearMonth, CheckInSegmentReader> readers = new ConcurrentHashMap<>();
+
+    public CheckInArchive(JdbcTemplate jdbcTemplate,
+            @Value("${attendance.archive.dir:./data/archive}") String directory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Paths.get(directory);
+        refresh();
+    }
+
+    /**
+     * Pick up months published by any node. Months are never un-archived, so a reload only adds.
+     */
+    @Scheduled(fixedDelayString = "${attendance.archive.refresh-ms:60000}",
+            initialDelayString = "${attendance.archive.refresh-ms:60000}")
+    public void refresh() {
+        boolean added = false;
+        for (LocalDate firstDay : jdbcTemplate.queryForList(
+                "SELECT archive_month FROM T_CHECK_IN_ARCHIVE_MONTH", LocalDate.class)) {
+            YearMonth month = YearMonth.from(firstDay);
+            if (months.add(month)) {
+                added = true;
+                if (!Files.exists(pathFor(month))) {
+                    log.error("Archived month {} has no segment at {}; attendance.archive.dir must be shared "
+                            + "by every node", month, pathFor(month));
+                }
+            }
+        }
+        if (added) {
+            log.info("Check-in archive has {} segments, live data starts at {}", months.size(),
+                    archivedBefore().orElseThrow());
+        }
+    }
+
+    /**
+     * Start of the first month still in the live table, or empty when nothing is archived
+     */
+    public Optional<LocalDateTime> archivedBefore() {
+        return months.isEmpty()
+                ? Optional.empty()
+                : Optional.of(months.last().plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    public boolean contains(YearMonth month) {
+        return months.contains(month);
+    }
+
+    /**
+     * Hand a user's archived records in [start, end] to the consumer, ordered by (timestamp, id)
+     */
+    public void forEach(Long userId, LocalDateTime start, LocalDateTime end, Consumer<CheckInRecord> consumer) {
+        if (months.isEmpty() || end.isBefore(start)) {
+            return;
+        }
+        YearMonth first = YearMonth.from(start).isBefore(months.first()) ? months.first() : YearMonth.from(start);
+        YearMonth last = YearMonth.from(end).isAfter(months.last()) ? months.last() : YearMonth.from(end);
+        if (first.isAfter(last)) {
+            return;
+        }
+        for (YearMonth month : months.subSet(first, true, last, true)) {
+            for (CheckInRecord record : read(month, userId)) {
+                LocalDateTime timestamp = record.getTimestamp();
+                if (!timestamp.isBefore(start) && !timestamp.isAfter(end)) {
+                    consumer.accept(record);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write a month's segment. Records must arrive ordered by (userId, timestamp, id).
+     * The file is written under a temporary name and moved into place atomically, then the month is
+     * published in T_CHECK_IN_ARCHIVE_MONTH, after which it is served from the archive.
+     */
+    public int writeSegment(YearMonth month, Consumer<Consumer<CheckInRecord>> source) {
+        Path target = pathFor(month);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            int users;
+            try (CheckInSegmentWriter writer = new CheckInSegmentWriter(temp)) {
+                source.accept(record -> {
+                    try {
+                        writer.append(record);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                users = writer.userCount();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            target.toFile().setReadOnly();
+            jdbcTemplate.update("INSERT INTO T_CHECK_IN_ARCHIVE_MONTH (archive_month, archived_at) "
+                    + "VALUES (?, SYSUTCDATETIME())", Date.valueOf(month.atDay(1)));
+            months.add(month);
+            log.info("Archived check-in records for {} into {} ({} users)", month, target, users);
+            return users;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write archive segment for " + month, ex);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ex) {
+                log.warn("Could not remove temporary segment {}", temp);
+            }
+        }
+    }
+
+    private List<CheckInRecord> read(YearMonth month, Long userId) {
+        try {
+            CheckInSegmentReader reader = readers.get(month);
+            if (reader == null) {
+                reader = CheckInSegmentReader.open(pathFor(month));
+                readers.putIfAbsent(month, reader);
+            }
+            return reader.read(userId);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read archive segment for " + month, ex);
+        }
+    }
+
+    private Path pathFor(YearMonth month) {
+        return directory.resolve(PREFIX + month + SUFFIX);
+    }
+}
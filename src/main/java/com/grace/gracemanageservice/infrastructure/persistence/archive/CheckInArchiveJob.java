@@ -0,0 +1,230 @@
+package com.grace.gracemanageservice.infrastructure.persistence.archive;
+
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Monthly maintenance of T_CHECK_IN_RECORD partitions:
+ * keeps boundaries split a few months ahead, and moves every closed month older than the
+ * retention window into an archive segment, then empties its partition.
+ * Months are archived oldest first so the live table always starts at one boundary.
+ * Runs hold a database application lock, so one node archives at a time. A month's live rows are only
+ * removed once it has been published for two archive refresh intervals, by which time every node has
+ * moved its boundary past it and no longer reads that month from the live table.
+ */
+@Slf4j
+@Component
+public class CheckInArchiveJob {
+
+    private static final String PARTITION_FUNCTION = "pf_check_in_record_month";
+    private static final String PARTITION_SCHEME = "ps_check_in_record_month";
+    private static final int FETCH_SIZE = 1000;
+    private static final int DELETE_CHUNK = 5000;
+    private static final String LOCK_RESOURCE = "check-in-archive";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CheckInArchive archive;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int retainMonths;
+    private final int partitionsAhead;
+    private final int settleMs;
+
+    public CheckInArchiveJob(JdbcTemplate jdbcTemplate,
+            CheckInArchive archive,
+            @Value("${attendance.archive.enabled:false}") boolean enabled,
+            @Value("${attendance.archive.retain-months:3}") int retainMonths,
+            @Value("${attendance.archive.partitions-ahead:3}") int partitionsAhead,
+            @Value("${attendance.archive.refresh-ms:60000}") long refreshMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archive = archive;
+        this.clock = Clock.systemDefaultZone();
+        this.enabled = enabled;
+        this.retainMonths = retainMonths;
+        this.partitionsAhead = partitionsAhead;
+        this.settleMs = (int) Math.min(2 * refreshMs, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Empty months a crashed run published but did not empty
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            withArchiveLock(this::removeArchivedLeftovers);
+        }
+    }
+
+    @Scheduled(cron = "${attendance.archive.cron:0 30 2 * * *}")
+    public void run() {
+        if (enabled) {
+            withArchiveLock(this::archiveClosedMonths);
+        }
+    }
+
+    void archiveClosedMonths() {
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 1; i <= partitionsAhead; i++) {
+            ensureBoundary(current.plusMonths(i));
+        }
+        archive.refresh();
+        removeArchivedLeftovers();
+
+        YearMonth cutoff = current.minusMonths(retainMonths);
+        Timestamp earliest = jdbcTemplate.queryForObject(
+                "SELECT MIN(timestamp) FROM T_CHECK_IN_RECORD WHERE timestamp >= ?", Timestamp.class,
+                Timestamp.valueOf(archive.archivedBefore().orElse(LocalDateTime.of(1900, 1, 1, 0, 0))));
+        if (earliest == null) {
+            return;
+        }
+        for (YearMonth month = YearMonth.from(earliest.toLocalDateTime()); month.isBefore(cutoff);
+                month = month.plusMonths(1)) {
+            publishMonth(month);
+        }
+    }
+
+    /**
+     * Empty the live rows of every month published at least two refresh intervals ago: the months published
+     * by the previous run, and any a crashed run left behind. Segments are not rewritten.
+     */
+    void removeArchivedLeftovers() {
+        Timestamp settledBefore = jdbcTemplate.queryForObject(
+                "SELECT DATEADD(month, 1, MAX(archive_month)) FROM T_CHECK_IN_ARCHIVE_MONTH "
+                        + "WHERE archived_at <= DATEADD(millisecond, ?, SYSUTCDATETIME())",
+                Timestamp.class, -settleMs);
+        if (settledBefore == null) {
+            return;
+        }
+        LocalDateTime from = LocalDateTime.of(1900, 1, 1, 0, 0);
+        while (true) {
+            Timestamp leftover = jdbcTemplate.queryForObject(
+                    "SELECT MIN(timestamp) FROM T_CHECK_IN_RECORD WHERE timestamp >= ? AND timestamp < ?",
+                    Timestamp.class, Timestamp.valueOf(from), settledBefore);
+            if (leftover == null) {
+                return;
+            }
+            YearMonth month = YearMonth.from(leftover.toLocalDateTime());
+            removeLiveRows(month);
+            from = month.plusMonths(1).atDay(1).atStartOfDay();
+        }
+    }
+
+    /**
+     * Write and publish the month's segment unless a previous run already did. Its live rows stay until
+     * removeArchivedLeftovers on a later run, so nodes that have not yet seen the month can still read it.
+     */
+    void publishMonth(YearMonth month) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        if (!archive.contains(month)) {
+            archive.writeSegment(month, sink -> jdbcTemplate.query(con -> {
+                PreparedStatement statement = con.prepareStatement(
+                        "SELECT id, user_id, type, timestamp, latitude, longitude, accuracy, address "
+                                + "FROM T_CHECK_IN_RECORD WHERE timestamp >= ? AND timestamp < ? "
+                                + "ORDER BY user_id, timestamp, id");
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setTimestamp(1, Timestamp.valueOf(start));
+                statement.setTimestamp(2, Timestamp.valueOf(end));
+                return statement;
+            }, (RowCallbackHandler) rs -> sink.accept(CheckInRecord.builder()
+                    .id(rs.getLong("id"))
+                    .userId(rs.getLong("user_id"))
+                    .type(CheckInRecord.CheckInType.valueOf(rs.getString("type")))
+                    .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+                    .latitude(rs.getObject("latitude", Double.class))
+                    .longitude(rs.getObject("longitude", Double.class))
+                    .accuracy(rs.getObject("accuracy", Double.class))
+                    .address(rs.getString("address"))
+                    .build())));
+        }
+    }
+
+    private void removeLiveRows(YearMonth month) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        Integer partition = partitionOf(start);
+        if (isExactMonthPartition(partition, start, end)) {
+            // Metadata-only: the whole partition is this month
+            jdbcTemplate.execute("TRUNCATE TABLE T_CHECK_IN_RECORD WITH (PARTITIONS (" + partition + "))");
+        } else {
+            // Month shares a partition (data older than the first boundary) - delete in chunks
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update("DELETE TOP (" + DELETE_CHUNK + ") FROM T_CHECK_IN_RECORD "
+                        + "WHERE timestamp >= ? AND timestamp < ?", Timestamp.valueOf(start), Timestamp.valueOf(end));
+            } while (deleted == DELETE_CHUNK);
+        }
+        log.info("Removed archived month {} from T_CHECK_IN_RECORD", month);
+    }
+
+    /**
+     * Run the task under an exclusive SQL Server application lock owned by a dedicated session, which the
+     * server releases if this node dies. A node that finds the lock taken skips the run.
+     */
+    private void withArchiveLock(Runnable task) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (CallableStatement lock = con.prepareCall("{? = call sp_getapplock(?, 'Exclusive', 'Session', 0)}")) {
+                lock.registerOutParameter(1, Types.INTEGER);
+                lock.setString(2, LOCK_RESOURCE);
+                lock.execute();
+                if (lock.getInt(1) < 0) {
+                    log.info("Check-in archive is running on another node, skipping");
+                    return null;
+                }
+            }
+            try {
+                task.run();
+            } finally {
+                try (CallableStatement unlock = con.prepareCall("{call sp_releaseapplock(?, 'Session')}")) {
+                    unlock.setString(1, LOCK_RESOURCE);
+                    unlock.execute();
+                }
+            }
+            return null;
+        });
+    }
+
+    private void ensureBoundary(YearMonth month) {
+        LocalDateTime boundary = month.atDay(1).atStartOfDay();
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sys.partition_range_values v "
+                        + "JOIN sys.partition_functions f ON v.function_id = f.function_id "
+                        + "WHERE f.name = ? AND CAST(v.value AS DATETIME2) = ?",
+                Integer.class, PARTITION_FUNCTION, Timestamp.valueOf(boundary));
+        if (exists != null && exists == 0) {
+            // DDL takes no parameters; the literal comes from a YearMonth, not from input
+            jdbcTemplate.execute("ALTER PARTITION SCHEME " + PARTITION_SCHEME + " NEXT USED [PRIMARY]");
+            jdbcTemplate.execute("ALTER PARTITION FUNCTION " + PARTITION_FUNCTION + "() SPLIT RANGE ('"
+                    + month.atDay(1) + "')");
+            log.info("Added T_CHECK_IN_RECORD partition boundary {}", month.atDay(1));
+        }
+    }
+
+    private Integer partitionOf(LocalDateTime time) {
+        return jdbcTemplate.queryForObject("SELECT $PARTITION." + PARTITION_FUNCTION + "(?)", Integer.class,
+                Timestamp.valueOf(time));
+    }
+
+    private boolean isExactMonthPartition(Integer partition, LocalDateTime start, LocalDateTime end) {
+        return !partition.equals(partitionOf(start.minusNanos(100)))
+                && partition.equals(partitionOf(end.minusNanos(100)))
+                && !partition.equals(partitionOf(end));
+    }
+}
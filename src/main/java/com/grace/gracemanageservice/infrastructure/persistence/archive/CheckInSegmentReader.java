@@ -0,0 +1,115 @@
+package com.grace.gracemanageservice.infrastructure.persistence.archive;
+
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads one archive segment written by CheckInSegmentWriter.
+ * The block index is loaded once; each read inflates only the requested user's block.
+ */
+final class CheckInSegmentReader {
+
+    private final Path file;
+    private final Map<Long, CheckInSegmentWriter.BlockRef> index;
+
+    private CheckInSegmentReader(Path file, Map<Long, CheckInSegmentWriter.BlockRef> index) {
+        this.file = file;
+        this.index = index;
+    }
+
+    static CheckInSegmentReader open(Path file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            if (raf.readInt() != CheckInSegmentWriter.MAGIC) {
+                throw new IOException("Not a check-in segment: " + file);
+            }
+            int version = raf.readInt();
+            if (version != CheckInSegmentWriter.FORMAT_VERSION) {
+                throw new IOException("Unsupported segment version " + version + ": " + file);
+            }
+            raf.seek(raf.length() - 12);
+            long indexOffset = raf.readLong();
+            if (raf.readInt() != CheckInSegmentWriter.MAGIC) {
+                throw new IOException("Truncated check-in segment: " + file);
+            }
+            raf.seek(indexOffset);
+            int blocks = raf.readInt();
+            Map<Long, CheckInSegmentWriter.BlockRef> index = new HashMap<>(blocks * 2);
+            for (int i = 0; i < blocks; i++) {
+                CheckInSegmentWriter.BlockRef ref = new CheckInSegmentWriter.BlockRef(
+                        raf.readLong(), raf.readLong(), raf.readInt(), raf.readInt());
+                index.put(ref.userId(), ref);
+            }
+            return new CheckInSegmentReader(file, index);
+        }
+    }
+
+    /**
+     * All of a user's records in this segment, ordered by (timestamp, id)
+     */
+    List<CheckInRecord> read(Long userId) throws IOException {
+        CheckInSegmentWriter.BlockRef ref = index.get(userId);
+        if (ref == null) {
+            return Collections.emptyList();
+        }
+        byte[] bytes = new byte[ref.length()];
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            raf.seek(ref.offset());
+            raf.readFully(bytes);
+        }
+        List<CheckInRecord> records = new ArrayList<>(ref.count());
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            for (int i = 0; i < ref.count(); i++) {
+                records.add(readRecord(in, userId));
+            }
+        }
+        return records;
+    }
+
+    private static CheckInRecord readRecord(DataInputStream in, Long userId) throws IOException {
+        CheckInRecord.CheckInRecordBuilder builder = CheckInRecord.builder()
+                .id(in.readLong())
+                .userId(userId)
+                .type(in.readByte() == 0 ? CheckInRecord.CheckInType.IN : CheckInRecord.CheckInType.OUT)
+                .timestamp(readTimestamp(in));
+        int flags = in.readByte();
+        if ((flags & CheckInSegmentWriter.HAS_LATITUDE) != 0) {
+            builder.latitude(in.readDouble());
+        }
+        if ((flags & CheckInSegmentWriter.HAS_LONGITUDE) != 0) {
+            builder.longitude(in.readDouble());
+        }
+        if ((flags & CheckInSegmentWriter.HAS_ACCURACY) != 0) {
+            builder.accuracy(in.readDouble());
+        }
+        if ((flags & CheckInSegmentWriter.HAS_ADDRESS) != 0) {
+            builder.address(in.readUTF());
+        }
+        return builder.build();
+    }
+
+    // Wall-clock values are stored as-is; UTC is only the encoding
+    static void writeTimestamp(DataOutputStream out, LocalDateTime timestamp) throws IOException {
+        out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(timestamp.getNano());
+    }
+
+    private static LocalDateTime readTimestamp(DataInputStream in) throws IOException {
+        long seconds = in.readLong();
+        int nanos = in.readInt();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,120 @@
+package com.grace.gracemanageservice.infrastructure.persistence.archive;
+
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes one archive segment: a month of check-in records, one gzip block per user.
+ * Records must be appended ordered by (userId, timestamp, id).
+ * Layout: magic, blocks..., index (userId, offset, length, count per block), index offset, magic.
+ * The per-user index lets a reader inflate only the block it needs.
+ */
+final class CheckInSegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x47435347; // "GCSG"
+    static final int FORMAT_VERSION = 1;
+
+    static final int HAS_LATITUDE = 1;
+    static final int HAS_LONGITUDE = 1 << 1;
+    static final int HAS_ACCURACY = 1 << 2;
+    static final int HAS_ADDRESS = 1 << 3;
+
+    private final DataOutputStream out;
+    private final List<BlockRef> index = new ArrayList<>();
+    private long position;
+
+    private Long currentUserId;
+    private ByteArrayOutputStream blockBytes;
+    private DataOutputStream block;
+    private int blockCount;
+
+    CheckInSegmentWriter(Path file) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        position = 8;
+    }
+
+    void append(CheckInRecord record) throws IOException {
+        if (!record.getUserId().equals(currentUserId)) {
+            if (currentUserId != null && record.getUserId() < currentUserId) {
+                throw new IllegalArgumentException("Records must be ordered by user id");
+            }
+            finishBlock();
+            currentUserId = record.getUserId();
+            blockBytes = new ByteArrayOutputStream();
+            block = new DataOutputStream(new GZIPOutputStream(blockBytes));
+            blockCount = 0;
+        }
+        writeRecord(block, record);
+        blockCount++;
+    }
+
+    int userCount() {
+        return index.size() + (currentUserId != null ? 1 : 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        finishBlock();
+        long indexOffset = position;
+        out.writeInt(index.size());
+        for (BlockRef ref : index) {
+            out.writeLong(ref.userId());
+            out.writeLong(ref.offset());
+            out.writeInt(ref.length());
+            out.writeInt(ref.count());
+        }
+        out.writeLong(indexOffset);
+        out.writeInt(MAGIC);
+        out.close();
+    }
+
+    private void finishBlock() throws IOException {
+        if (currentUserId == null) {
+            return;
+        }
+        block.close();
+        byte[] bytes = blockBytes.toByteArray();
+        out.write(bytes);
+        index.add(new BlockRef(currentUserId, position, bytes.length, blockCount));
+        position += bytes.length;
+        currentUserId = null;
+    }
+
+    private static void writeRecord(DataOutputStream block, CheckInRecord record) throws IOException {
+        block.writeLong(record.getId());
+        block.writeByte(record.getType() == CheckInRecord.CheckInType.IN ? 0 : 1);
+        CheckInSegmentReader.writeTimestamp(block, record.getTimestamp());
+        int flags = (record.getLatitude() != null ? HAS_LATITUDE : 0)
+                | (record.getLongitude() != null ? HAS_LONGITUDE : 0)
+                | (record.getAccuracy() != null ? HAS_ACCURACY : 0)
+                | (record.getAddress() != null ? HAS_ADDRESS : 0);
+        block.writeByte(flags);
+        if (record.getLatitude() != null) {
+            block.writeDouble(record.getLatitude());
+        }
+        if (record.getLongitude() != null) {
+            block.writeDouble(record.getLongitude());
+        }
+        if (record.getAccuracy() != null) {
+            block.writeDouble(record.getAccuracy());
+        }
+        if (record.getAddress() != null) {
+            block.writeUTF(record.getAddress());
+        }
+    }
+
+    record BlockRef(long userId, long offset, int length, int count) {
+    }
+}
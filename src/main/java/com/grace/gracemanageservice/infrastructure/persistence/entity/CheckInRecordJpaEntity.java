@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -33,6 +34,10 @@ public class CheckInRecordJpaEntity {
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
 
+    // Computed by the database from timestamp (persisted column)
+    @Column(name = "work_date", insertable = false, updatable = false)
+    private LocalDate workDate;
+
     @Column(name = "latitude")
     private Double latitude;
 
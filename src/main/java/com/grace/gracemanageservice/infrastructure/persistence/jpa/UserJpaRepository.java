@@ -2,6 +2,11 @@ package com.grace.gracemanageservice.infrastructure.persistence.jpa;
 
 import com.grace.gracemanageservice.infrastructure.persistence.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Spring Data JPA repository - low level database access
@@ -12,5 +17,7 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     java.util.Optional<UserEntity> findByEmail(String email);
 
     java.util.Optional<UserEntity> findByUsername(String username);
-}
 
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,161 @@
+package com.grace.gracemanageservice.infrastructure.persistence.repository;
+
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+import com.grace.gracemanageservice.domain.repository.AttendanceDailyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of AttendanceDailyRepository using JDBC - upserts need locking hints and MERGE
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceDailyRepositoryImpl implements AttendanceDailyRepository {
+
+    private static final String COLUMNS = "user_id, work_date, first_check_in, last_check_in, last_check_out, "
+            + "check_in_count, check_out_count, worked_minutes, version";
+
+    private static final String SELECT_ONE = "SELECT " + COLUMNS + " FROM T_ATTENDANCE_DAILY "
+            + "WHERE user_id = ? AND work_date = ?";
+
+    // UPDLOCK serializes writers of one row; HOLDLOCK extends the lock to the empty key range on a miss
+    private static final String SELECT_ONE_FOR_UPDATE = "SELECT " + COLUMNS
+            + " FROM T_ATTENDANCE_DAILY WITH (UPDLOCK, HOLDLOCK) WHERE user_id = ? AND work_date = ?";
+
+    private static final String SELECT_RANGE = "SELECT " + COLUMNS + " FROM T_ATTENDANCE_DAILY "
+            + "WHERE user_id = ? AND work_date BETWEEN ? AND ? ORDER BY work_date";
+
+    private static final String INSERT = "INSERT INTO T_ATTENDANCE_DAILY (" + COLUMNS + ", updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 1, SYSDATETIME())";
+
+    private static final String UPDATE = "UPDATE T_ATTENDANCE_DAILY SET first_check_in = ?, last_check_in = ?, "
+            + "last_check_out = ?, check_in_count = ?, check_out_count = ?, worked_minutes = ?, "
+            + "version = version + 1, updated_at = SYSDATETIME() WHERE user_id = ? AND work_date = ?";
+
+    /*
+     * Set-based rebuild: LAG pairs each OUT with the event before it (same rule as AttendanceDaily.apply),
+     * DATEDIFF(second) / 60 floors each pair to whole minutes. Rows whose day no longer has records are removed.
+     */
+    private static final String REBUILD = """
+            MERGE T_ATTENDANCE_DAILY WITH (HOLDLOCK) AS target
+            USING (
+                SELECT user_id, work_date,
+                       MIN(CASE WHEN type = 'IN' THEN timestamp END) AS first_check_in,
+                       MAX(CASE WHEN type = 'IN' THEN timestamp END) AS last_check_in,
+                       MAX(CASE WHEN type = 'OUT' THEN timestamp END) AS last_check_out,
+                       SUM(CASE WHEN type = 'IN' THEN 1 ELSE 0 END) AS check_in_count,
+                       SUM(CASE WHEN type = 'OUT' THEN 1 ELSE 0 END) AS check_out_count,
+                       SUM(CASE WHEN type = 'OUT' AND prev_type = 'IN'
+                                THEN DATEDIFF(second, prev_timestamp, timestamp) / 60 ELSE 0 END) AS worked_minutes
+                FROM (
+                    SELECT user_id, work_date, type, timestamp,
+                           LAG(type) OVER (PARTITION BY user_id, work_date ORDER BY timestamp, id) AS prev_type,
+                           LAG(timestamp) OVER (PARTITION BY user_id, work_date
+                                                ORDER BY timestamp, id) AS prev_timestamp
+                    FROM T_CHECK_IN_RECORD
+                    WHERE work_date BETWEEN ? AND ?
+                ) events
+                GROUP BY user_id, work_date
+            ) AS source
+            ON target.user_id = source.user_id AND target.work_date = source.work_date
+            WHEN MATCHED THEN UPDATE SET
+                first_check_in = source.first_check_in,
+                last_check_in = source.last_check_in,
+                last_check_out = source.last_check_out,
+                check_in_count = source.check_in_count,
+                check_out_count = source.check_out_count,
+                worked_minutes = source.worked_minutes,
+                version = target.version + 1,
+                updated_at = SYSDATETIME()
+            WHEN NOT MATCHED BY TARGET THEN
+                INSERT (user_id, work_date, first_check_in, last_check_in, last_check_out,
+                        check_in_count, check_out_count, worked_minutes, version, updated_at)
+                VALUES (source.user_id, source.work_date, source.first_check_in, source.last_check_in,
+                        source.last_check_out, source.check_in_count, source.check_out_count,
+                        source.worked_minutes, 1, SYSDATETIME())
+            WHEN NOT MATCHED BY SOURCE AND target.work_date BETWEEN ? AND ? THEN DELETE;
+            """;
+
+    private static final RowMapper<AttendanceDaily> ROW_MAPPER = (rs, rowNum) -> AttendanceDaily.builder()
+            .userId(rs.getLong("user_id"))
+            .workDate(rs.getDate("work_date").toLocalDate())
+            .firstCheckIn(toLocalDateTime(rs.getTimestamp("first_check_in")))
+            .lastCheckIn(toLocalDateTime(rs.getTimestamp("last_check_in")))
+            .lastCheckOut(toLocalDateTime(rs.getTimestamp("last_check_out")))
+            .checkInCount(rs.getInt("check_in_count"))
+            .checkOutCount(rs.getInt("check_out_count"))
+            .workedMinutes(rs.getInt("worked_minutes"))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<AttendanceDaily> findByUserIdAndWorkDate(Long userId, LocalDate workDate) {
+        return jdbcTemplate.query(SELECT_ONE, ROW_MAPPER, userId, Date.valueOf(workDate)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<AttendanceDaily> findByUserIdAndWorkDateForUpdate(Long userId, LocalDate workDate) {
+        return jdbcTemplate.query(SELECT_ONE_FOR_UPDATE, ROW_MAPPER, userId, Date.valueOf(workDate)).stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<AttendanceDaily> findByUserIdAndWorkDateBetween(Long userId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SELECT_RANGE, ROW_MAPPER, userId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    public AttendanceDaily save(AttendanceDaily daily) {
+        if (daily.getVersion() == 0) {
+            jdbcTemplate.update(INSERT,
+                    daily.getUserId(),
+                    Date.valueOf(daily.getWorkDate()),
+                    toTimestamp(daily.getFirstCheckIn()),
+                    toTimestamp(daily.getLastCheckIn()),
+                    toTimestamp(daily.getLastCheckOut()),
+                    daily.getCheckInCount(),
+                    daily.getCheckOutCount(),
+                    daily.getWorkedMinutes());
+        } else {
+            jdbcTemplate.update(UPDATE,
+                    toTimestamp(daily.getFirstCheckIn()),
+                    toTimestamp(daily.getLastCheckIn()),
+                    toTimestamp(daily.getLastCheckOut()),
+                    daily.getCheckInCount(),
+                    daily.getCheckOutCount(),
+                    daily.getWorkedMinutes(),
+                    daily.getUserId(),
+                    Date.valueOf(daily.getWorkDate()));
+        }
+        daily.setVersion(daily.getVersion() + 1);
+        return daily;
+    }
+
+    @Override
+    public int rebuild(LocalDate from, LocalDate to) {
+        return jdbcTemplate.update(REBUILD,
+                Date.valueOf(from),
+                Date.valueOf(to),
+                Date.valueOf(from),
+                Date.valueOf(to));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,8 +23,19 @@ public interface CheckInRecordJpaRepository extends JpaRepository<CheckInRecordJ
 
     Optional<CheckInRecordJpaEntity> findTopByUserIdOrderByTimestampDesc(Long userId);
 
-    @Query("SELECT c FROM CheckInRecordJpaEntity c WHERE c.userId = :userId AND CAST(c.timestamp AS date) = CAST(:date AS date)")
-    List<CheckInRecordJpaEntity> findByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDateTime date);
+    Optional<CheckInRecordJpaEntity> findTopByUserIdAndTimestampGreaterThanEqualOrderByTimestampDesc(
+            Long userId, LocalDateTime from);
+
+    // The redundant timestamp bounds let SQL Server eliminate every partition but the day's month
+    @Query("SELECT c FROM CheckInRecordJpaEntity c WHERE c.userId = :userId AND c.workDate = :workDate "
+            + "AND c.timestamp >= :dayStart AND c.timestamp < :nextDay ORDER BY c.timestamp, c.id")
+    List<CheckInRecordJpaEntity> findByUserIdAndWorkDate(@Param("userId") Long userId,
+            @Param("workDate") LocalDate workDate,
+            @Param("dayStart") LocalDateTime dayStart,
+            @Param("nextDay") LocalDateTime nextDay);
 
     List<CheckInRecordJpaEntity> findByUserIdOrderByTimestampDesc(Long userId);
+
+    List<CheckInRecordJpaEntity> findByUserIdAndTimestampGreaterThanEqualOrderByTimestampDesc(
+            Long userId, LocalDateTime from);
 }
@@ -1,24 +1,79 @@
 package com.grace.gracemanageservice.infrastructure.persistence.repository;
 
+import com.grace.gracemanageservice.domain.entity.CheckInExportRow;
 import com.grace.gracemanageservice.domain.entity.CheckInRecord;
 import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import com.grace.gracemanageservice.infrastructure.persistence.archive.CheckInArchive;
 import com.grace.gracemanageservice.infrastructure.persistence.entity.CheckInRecordJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of CheckInRecordRepository using JPA
+ * Reads span the live (monthly partitioned) table and the cold archive segments transparently.
  */
 @Repository
 @RequiredArgsConstructor
 public class CheckInRecordRepositoryImpl implements CheckInRecordRepository {
 
+    private static final String INSERT_COLUMNS =
+            "INSERT INTO T_CHECK_IN_RECORD (user_id, type, timestamp, latitude, longitude, accuracy, address, created_at) "
+                    + "OUTPUT INSERTED.id, INSERTED.user_id, INSERTED.type, INSERTED.timestamp VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int PARAMS_PER_ROW = 8;
+    // SQL Server caps a statement at 2100 parameters
+    private static final int MAX_ROWS_PER_INSERT = 2000 / PARAMS_PER_ROW;
+
+    // Range reads seek idx_check_in_record_user_timestamp; id is the clustered key carried in that
+    // index, so ORDER BY timestamp, id follows index order without a sort
+    private static final String SELECT_RANGE =
+            "SELECT id, user_id, type, timestamp, latitude, longitude, accuracy, address FROM T_CHECK_IN_RECORD "
+                    + "WHERE user_id = ? AND timestamp >= ? AND timestamp <= ?";
+    private static final String KEYSET_PREDICATE = " AND (timestamp > ? OR (timestamp = ? AND id > ?))";
+    private static final String ORDER_BY_KEY = " ORDER BY timestamp, id";
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SELECT_EXPORT =
+            "SELECT r.id, r.user_id, u.username, r.type, r.timestamp, r.latitude, r.longitude, r.accuracy, r.address "
+                    + "FROM T_CHECK_IN_RECORD r JOIN T_USER u ON u.id = r.user_id "
+                    + "WHERE r.timestamp >= ? AND r.timestamp < ? ORDER BY r.timestamp, r.id";
+
+    private static final RowMapper<CheckInRecord> ROW_MAPPER = (rs, rowNum) -> CheckInRecord.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getLong("user_id"))
+            .type(CheckInRecord.CheckInType.valueOf(rs.getString("type")))
+            .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+            .latitude(rs.getObject("latitude", Double.class))
+            .longitude(rs.getObject("longitude", Double.class))
+            .accuracy(rs.getObject("accuracy", Double.class))
+            .address(rs.getString("address"))
+            .build();
+
     private final CheckInRecordJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CheckInArchive archive;
 
     @Override
     public CheckInRecord save(CheckInRecord checkInRecord) {
@@ -27,6 +82,17 @@ public class CheckInRecordRepositoryImpl implements CheckInRecordRepository {
         return toDomain(saved);
     }
 
+    @Override
+    public List<CheckInRecord> saveAll(List<CheckInRecord> checkInRecords) {
+        for (int from = 0; from < checkInRecords.size(); from += MAX_ROWS_PER_INSERT) {
+            insertChunk(checkInRecords.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, checkInRecords.size())));
+        }
+        return checkInRecords;
+    }
+
+    /**
+     * Live table only - archived records are addressed by user and time, not by id
+     */
     @Override
     public Optional<CheckInRecord> findById(Long id) {
         return jpaRepository.findById(id).map(this::toDomain);
@@ -34,35 +100,237 @@ public class CheckInRecordRepositoryImpl implements CheckInRecordRepository {
 
     @Override
     public List<CheckInRecord> findByUserId(Long userId) {
-        return jpaRepository.findByUserIdOrderByTimestampDesc(userId).stream()
+        LocalDateTime hotStart = archive.archivedBefore().orElse(null);
+        if (hotStart == null) {
+            return jpaRepository.findByUserIdOrderByTimestampDesc(userId).stream()
+                    .map(this::toDomain)
+                    .collect(Collectors.toList());
+        }
+        List<CheckInRecord> records = jpaRepository
+                .findByUserIdAndTimestampGreaterThanEqualOrderByTimestampDesc(userId, hotStart).stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
+        List<CheckInRecord> archived = new ArrayList<>();
+        archive.forEach(userId, LocalDateTime.MIN, hotStart, archived::add);
+        Collections.reverse(archived);
+        records.addAll(archived);
+        return records;
     }
 
     @Override
     public List<CheckInRecord> findByUserIdAndTimestampBetween(Long userId, LocalDateTime start, LocalDateTime end) {
-        return jpaRepository.findByUserIdAndTimestampBetween(userId, start, end).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        List<CheckInRecord> records = new ArrayList<>();
+        LocalDateTime liveStart = readArchived(userId, start, end, records::add);
+        if (!liveStart.isAfter(end)) {
+            jpaRepository.findByUserIdAndTimestampBetween(userId, liveStart, end).stream()
+                    .map(this::toDomain)
+                    .forEach(records::add);
+        }
+        return records;
+    }
+
+    @Override
+    public List<CheckInRecord> findPageByUserIdAndTimestampBetween(Long userId, LocalDateTime start,
+            LocalDateTime end, LocalDateTime afterTimestamp, Long afterId, int limit) {
+        LocalDateTime hotStart = archive.archivedBefore().orElse(null);
+        if (hotStart == null || !start.isBefore(hotStart)
+                || (afterTimestamp != null && !afterTimestamp.isBefore(hotStart))) {
+            return findLivePage(userId, start, end, afterTimestamp, afterId, limit);
+        }
+
+        // Position is still inside archived months - page through the archive, then continue into live rows
+        List<CheckInRecord> page = new ArrayList<>(limit);
+        archive.forEach(userId, start, end, record -> {
+            if (page.size() < limit && isAfter(record, afterTimestamp, afterId)) {
+                page.add(record);
+            }
+        });
+        if (page.size() < limit && !hotStart.isAfter(end)) {
+            page.addAll(findLivePage(userId, hotStart, end, null, null, limit - page.size()));
+        }
+        return page;
+    }
+
+    private List<CheckInRecord> findLivePage(Long userId, LocalDateTime start, LocalDateTime end,
+            LocalDateTime afterTimestamp, Long afterId, int limit) {
+        String select = "SELECT TOP (" + limit + ") " + SELECT_RANGE.substring("SELECT ".length());
+        if (afterTimestamp == null) {
+            return jdbcTemplate.query(select + ORDER_BY_KEY, ROW_MAPPER,
+                    userId, Timestamp.valueOf(start), Timestamp.valueOf(end));
+        }
+        Timestamp after = Timestamp.valueOf(afterTimestamp);
+        return jdbcTemplate.query(select + KEYSET_PREDICATE + ORDER_BY_KEY, ROW_MAPPER,
+                userId, Timestamp.valueOf(start), Timestamp.valueOf(end), after, after, afterId);
+    }
+
+    @Override
+    public void streamByUserIdAndTimestampBetween(Long userId, LocalDateTime start, LocalDateTime end,
+            Consumer<CheckInRecord> consumer) {
+        LocalDateTime liveStart = readArchived(userId, start, end, consumer);
+        if (liveStart.isAfter(end)) {
+            return;
+        }
+        // mssql-jdbc's default adaptive response buffering reads rows off the wire as the
+        // ResultSet advances, so only the current fetch window is held in memory
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(SELECT_RANGE + ORDER_BY_KEY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            statement.setLong(1, userId);
+            statement.setTimestamp(2, Timestamp.valueOf(liveStart));
+            statement.setTimestamp(3, Timestamp.valueOf(end));
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(ROW_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    public void exportByTimestampBetween(LocalDateTime start, LocalDateTime end, int fetchSize,
+            Consumer<CheckInExportRow> consumer) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (PreparedStatement statement = con.prepareStatement(SELECT_EXPORT,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                statement.setTimestamp(1, Timestamp.valueOf(start));
+                statement.setTimestamp(2, Timestamp.valueOf(end));
+                ResultSet rs = statement.executeQuery();
+                try {
+                    CheckInExportRow row = new CheckInExportRow();
+                    while (rs.next()) {
+                        row.setId(rs.getLong(1));
+                        row.setUserId(rs.getLong(2));
+                        row.setUsername(rs.getString(3));
+                        row.setType(rs.getString(4));
+                        row.setTimestamp(rs.getTimestamp(5).toLocalDateTime());
+                        row.setLatitude(rs.getObject(6, Double.class));
+                        row.setLongitude(rs.getObject(7, Double.class));
+                        row.setAccuracy(rs.getObject(8, Double.class));
+                        row.setAddress(rs.getString(9));
+                        consumer.accept(row);
+                    }
+                } catch (RuntimeException ex) {
+                    // Closing an unfinished result set makes the driver drain the remaining rows;
+                    // cancel first so the server stops producing them (client disconnects end up here)
+                    statement.cancel();
+                    throw ex;
+                } finally {
+                    rs.close();
+                }
+            }
+            return null;
+        });
     }
 
     @Override
     public Optional<CheckInRecord> findTopByUserIdOrderByTimestampDesc(Long userId) {
-        return jpaRepository.findTopByUserIdOrderByTimestampDesc(userId).map(this::toDomain);
+        LocalDateTime hotStart = archive.archivedBefore().orElse(null);
+        if (hotStart == null) {
+            return jpaRepository.findTopByUserIdOrderByTimestampDesc(userId).map(this::toDomain);
+        }
+        Optional<CheckInRecord> live = jpaRepository
+                .findTopByUserIdAndTimestampGreaterThanEqualOrderByTimestampDesc(userId, hotStart)
+                .map(this::toDomain);
+        if (live.isPresent()) {
+            return live;
+        }
+        AtomicReference<CheckInRecord> latest = new AtomicReference<>();
+        archive.forEach(userId, LocalDateTime.MIN, hotStart, latest::set);
+        return Optional.ofNullable(latest.get());
     }
 
     @Override
-    public List<CheckInRecord> findByUserIdAndDate(Long userId, LocalDateTime date) {
-        return jpaRepository.findByUserIdAndDate(userId, date).stream()
+    public List<CheckInRecord> findByUserIdAndWorkDate(Long userId, LocalDate workDate) {
+        LocalDateTime dayStart = workDate.atStartOfDay();
+        LocalDateTime hotStart = archive.archivedBefore().orElse(null);
+        if (hotStart != null && dayStart.isBefore(hotStart)) {
+            List<CheckInRecord> records = new ArrayList<>();
+            archive.forEach(userId, dayStart, workDate.atTime(LocalTime.MAX), records::add);
+            return records;
+        }
+        // Seeks idx_check_in_record_user_work_date; the timestamp bounds limit it to one partition
+        return jpaRepository.findByUserIdAndWorkDate(userId, workDate, dayStart, dayStart.plusDays(1)).stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Live table only - archived months cannot be rebuilt from raw rows
+     */
+    @Override
+    public Optional<LocalDateTime> findEarliestTimestamp() {
+        Timestamp earliest = jdbcTemplate.queryForObject("SELECT MIN(timestamp) FROM T_CHECK_IN_RECORD", Timestamp.class);
+        return Optional.ofNullable(earliest).map(Timestamp::toLocalDateTime);
+    }
+
+    @Override
+    public Optional<LocalDateTime> archivedBefore() {
+        return archive.archivedBefore();
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
     }
 
+    /**
+     * Serve the archived part of [start, end] and return where the live part begins.
+     * Live queries start at the archive boundary, so rows of a month that is archived but not yet
+     * truncated are never returned twice, and recent ranges only touch the hot partitions.
+     */
+    private LocalDateTime readArchived(Long userId, LocalDateTime start, LocalDateTime end,
+            Consumer<CheckInRecord> consumer) {
+        LocalDateTime hotStart = archive.archivedBefore().orElse(null);
+        if (hotStart == null || !start.isBefore(hotStart)) {
+            return start;
+        }
+        archive.forEach(userId, start, end, consumer);
+        return hotStart;
+    }
+
+    private static boolean isAfter(CheckInRecord record, LocalDateTime afterTimestamp, Long afterId) {
+        if (afterTimestamp == null) {
+            return true;
+        }
+        int compare = record.getTimestamp().compareTo(afterTimestamp);
+        return compare > 0 || (compare == 0 && record.getId() > afterId);
+    }
+
+    /**
+     * One multi-row INSERT per chunk. OUTPUT row order is not guaranteed, so generated ids
+     * are matched back to records by (userId, type, timestamp).
+     */
+    private void insertChunk(List<CheckInRecord> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_COLUMNS);
+        List<Object> args = new ArrayList<>(chunk.size() * PARAMS_PER_ROW);
+        Map<String, Deque<CheckInRecord>> pending = new HashMap<>();
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            CheckInRecord record = chunk.get(i);
+            sql.append(i == 0 ? VALUES_ROW : ", " + VALUES_ROW);
+            args.add(record.getUserId());
+            args.add(record.getType().name());
+            args.add(Timestamp.valueOf(record.getTimestamp()));
+            args.add(record.getLatitude());
+            args.add(record.getLongitude());
+            args.add(record.getAccuracy());
+            args.add(record.getAddress());
+            args.add(createdAt);
+            pending.computeIfAbsent(matchKey(record.getUserId(), record.getType().name(), record.getTimestamp()),
+                    k -> new ArrayDeque<>()).add(record);
+        }
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+            String key = matchKey(rs.getLong(2), rs.getString(3), rs.getTimestamp(4).toLocalDateTime());
+            Deque<CheckInRecord> candidates = pending.get(key);
+            if (candidates != null && !candidates.isEmpty()) {
+                candidates.poll().setId(rs.getLong(1));
+            }
+        }, args.toArray());
+    }
+
+    private static String matchKey(Long userId, String type, LocalDateTime timestamp) {
+        return userId + "|" + type + "|" + timestamp;
+    }
+
     // Mapping methods
     private CheckInRecord toDomain(CheckInRecordJpaEntity entity) {
         return CheckInRecord.builder()
@@ -0,0 +1,85 @@
+package com.grace.gracemanageservice.infrastructure.persistence.repository;
+
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+import com.grace.gracemanageservice.domain.repository.DeviceApiKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of DeviceApiKeyRepository using JdbcTemplate
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeviceApiKeyRepositoryImpl implements DeviceApiKeyRepository {
+
+    private static final String SELECT_ALL =
+            "SELECT id, name, key_prefix, key_hash, active, created_at, revoked_at FROM T_DEVICE_API_KEY";
+
+    private static final RowMapper<DeviceApiKey> ROW_MAPPER = (rs, rowNum) -> DeviceApiKey.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .keyPrefix(rs.getString("key_prefix"))
+            .keyHash(rs.getString("key_hash"))
+            .active(rs.getBoolean("active"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .revokedAt(toLocalDateTime(rs.getTimestamp("revoked_at")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DeviceApiKey> findAll() {
+        return jdbcTemplate.query(SELECT_ALL + " ORDER BY id", ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<DeviceApiKey> findActiveByKeyHash(String keyHash) {
+        return jdbcTemplate.query(SELECT_ALL + " WHERE key_hash = ? AND active = 1", ROW_MAPPER, keyHash)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public DeviceApiKey save(DeviceApiKey deviceApiKey) {
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement statement = con.prepareStatement(
+                    "INSERT INTO T_DEVICE_API_KEY (name, key_prefix, key_hash, active, created_at) "
+                            + "VALUES (?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, deviceApiKey.getName());
+            statement.setString(2, deviceApiKey.getKeyPrefix());
+            statement.setString(3, deviceApiKey.getKeyHash());
+            statement.setBoolean(4, deviceApiKey.isActive());
+            statement.setTimestamp(5, Timestamp.valueOf(now));
+            return statement;
+        }, keyHolder);
+
+        deviceApiKey.setId(keyHolder.getKey().longValue());
+        deviceApiKey.setCreatedAt(now);
+        return deviceApiKey;
+    }
+
+    @Override
+    public boolean revoke(Long id) {
+        return jdbcTemplate.update(
+                "UPDATE T_DEVICE_API_KEY SET active = 0, revoked_at = ? WHERE id = ? AND active = 1",
+                Timestamp.valueOf(LocalDateTime.now()), id) > 0;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.grace.gracemanageservice.infrastructure.persistence.repository;
+
+import com.grace.gracemanageservice.domain.entity.TokenRevocation;
+import com.grace.gracemanageservice.domain.repository.TokenRevocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of TokenRevocationRepository using JdbcTemplate
+ */
+@Repository
+@RequiredArgsConstructor
+public class TokenRevocationRepositoryImpl implements TokenRevocationRepository {
+
+    private static final RowMapper<TokenRevocation> ROW_MAPPER = (rs, rowNum) -> new TokenRevocation(
+            TokenRevocation.Kind.valueOf(rs.getString("subject_type")),
+            rs.getString("subject"),
+            rs.getTimestamp("revoked_at").toInstant(),
+            rs.getTimestamp("expires_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TokenRevocation> findUnexpired(Instant now) {
+        return jdbcTemplate.query("SELECT subject_type, subject, revoked_at, expires_at FROM T_TOKEN_REVOCATION "
+                + "WHERE expires_at > ?", ROW_MAPPER, Timestamp.from(now));
+    }
+
+    @Override
+    public void save(TokenRevocation revocation) {
+        jdbcTemplate.update("INSERT INTO T_TOKEN_REVOCATION (subject_type, subject, revoked_at, expires_at) "
+                        + "VALUES (?, ?, ?, ?)",
+                revocation.kind().name(), revocation.subject(),
+                Timestamp.from(revocation.revokedAt()), Timestamp.from(revocation.expiresAt()));
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM T_TOKEN_REVOCATION WHERE expires_at <= ?", Timestamp.from(now));
+    }
+}
@@ -0,0 +1,146 @@
+package com.grace.gracemanageservice.infrastructure.persistence.repository;
+
+import com.grace.gracemanageservice.domain.entity.GeoPoint;
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+import com.grace.gracemanageservice.domain.repository.WorkSiteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of WorkSiteRepository using JdbcTemplate
+ * Polygon boundaries are stored as one 'lat lng,lat lng,...' string - they are only ever read whole.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkSiteRepositoryImpl implements WorkSiteRepository {
+
+    private static final String SELECT_ALL =
+            "SELECT id, name, latitude, longitude, radius_meters, boundary, active, created_at, updated_at "
+                    + "FROM T_WORK_SITE";
+
+    private static final RowMapper<WorkSite> ROW_MAPPER = (rs, rowNum) -> WorkSite.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .latitude(rs.getDouble("latitude"))
+            .longitude(rs.getDouble("longitude"))
+            .radiusMeters(rs.getObject("radius_meters", Double.class))
+            .boundary(parseBoundary(rs.getString("boundary")))
+            .active(rs.getBoolean("active"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<WorkSite> findAll() {
+        return jdbcTemplate.query(SELECT_ALL + " ORDER BY id", ROW_MAPPER);
+    }
+
+    @Override
+    public List<WorkSite> findAllActive() {
+        return jdbcTemplate.query(SELECT_ALL + " WHERE active = 1", ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<WorkSite> findById(Long id) {
+        return jdbcTemplate.query(SELECT_ALL + " WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public WorkSite save(WorkSite workSite) {
+        LocalDateTime now = LocalDateTime.now();
+        String boundary = formatBoundary(workSite.getBoundary());
+
+        if (workSite.getId() == null) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement statement = con.prepareStatement(
+                        "INSERT INTO T_WORK_SITE (name, latitude, longitude, radius_meters, boundary, active, "
+                                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, workSite.getName());
+                statement.setDouble(2, workSite.getLatitude());
+                statement.setDouble(3, workSite.getLongitude());
+                statement.setObject(4, workSite.getRadiusMeters(), Types.FLOAT);
+                statement.setString(5, boundary);
+                statement.setBoolean(6, workSite.isActive());
+                statement.setTimestamp(7, Timestamp.valueOf(now));
+                statement.setTimestamp(8, Timestamp.valueOf(now));
+                return statement;
+            }, keyHolder);
+            workSite.setId(keyHolder.getKey().longValue());
+            workSite.setCreatedAt(now);
+        } else {
+            jdbcTemplate.update("UPDATE T_WORK_SITE SET name = ?, latitude = ?, longitude = ?, radius_meters = ?, "
+                            + "boundary = ?, active = ?, updated_at = ? WHERE id = ?",
+                    workSite.getName(), workSite.getLatitude(), workSite.getLongitude(), workSite.getRadiusMeters(),
+                    boundary, workSite.isActive(), Timestamp.valueOf(now), workSite.getId());
+        }
+        workSite.setUpdatedAt(now);
+        return workSite;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jdbcTemplate.update("DELETE FROM T_WORK_SITE WHERE id = ?", id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM T_WORK_SITE WHERE id = ?", Integer.class, id);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public boolean existsByNameAndIdNot(String name, Long id) {
+        Integer count = id == null
+                ? jdbcTemplate.queryForObject("SELECT COUNT(*) FROM T_WORK_SITE WHERE name = ?", Integer.class, name)
+                : jdbcTemplate.queryForObject("SELECT COUNT(*) FROM T_WORK_SITE WHERE name = ? AND id <> ?",
+                        Integer.class, name, id);
+        return count != null && count > 0;
+    }
+
+    private static List<GeoPoint> parseBoundary(String value) {
+        List<GeoPoint> points = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return points;
+        }
+        for (String pair : value.split(",")) {
+            String[] parts = pair.trim().split(" ");
+            points.add(new GeoPoint(Double.parseDouble(parts[0]), Double.parseDouble(parts[1])));
+        }
+        return points;
+    }
+
+    private static String formatBoundary(List<GeoPoint> points) {
+        if (points == null || points.isEmpty()) {
+            return null;
+        }
+        StringBuilder value = new StringBuilder(points.size() * 24);
+        for (GeoPoint point : points) {
+            if (!value.isEmpty()) {
+                value.append(',');
+            }
+            value.append(point.latitude()).append(' ').append(point.longitude());
+        }
+        return value.toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks the BCrypt cost factor from a target verification latency on the current hardware.
+ * Each cost step doubles the work, so costs are tried upwards from the minimum and the highest one
+ * whose median verification time stays within the target wins.
+ * Run on the deployment hardware with: mvn exec:java
+ * -Dexec.mainClass=com.grace.gracemanageservice.infrastructure.security.BCryptCostCalibrator -Dexec.args=250
+ */
+public final class BCryptCostCalibrator {
+
+    public static final int MIN_STRENGTH = 4;
+    public static final int MAX_STRENGTH = 31;
+
+    private static final int SAMPLES = 5;
+    private static final String SAMPLE_PASSWORD = "calibration-Password#1";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration target) {
+        return calibrate(target, MAX_STRENGTH);
+    }
+
+    /**
+     * Highest cost up to maxStrength whose verification takes no longer than target; MIN_STRENGTH if none does
+     */
+    public static int calibrate(Duration target, int maxStrength) {
+        long targetNanos = target.toNanos();
+        // Warm up the JIT so the first measurement is not inflated
+        measure(MIN_STRENGTH);
+        int strength = MIN_STRENGTH;
+        while (strength < maxStrength && measure(strength + 1) <= targetNanos) {
+            strength++;
+        }
+        return strength;
+    }
+
+    /**
+     * Median time of one password verification at the given cost
+     */
+    public static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    public static void main(String[] args) {
+        Duration target = Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 250);
+        int strength = calibrate(target);
+        System.out.printf("Target %d ms -> security.password.bcrypt-strength=%d (%.1f ms per verification)%n",
+                target.toMillis(), strength, measure(strength) / 1e6);
+    }
+}
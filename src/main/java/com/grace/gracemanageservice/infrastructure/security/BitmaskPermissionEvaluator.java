@@ -0,0 +1,34 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+
+/**
+ * Answers hasPermission('code') from the principal's PermissionCode bitmask with one AND -
+ * no database access and no authority-string scan. The target object is ignored:
+ * permissions in this system are global to the role, not per domain object.
+ */
+public class BitmaskPermissionEvaluator implements PermissionEvaluator {
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        return hasPermission(authentication, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+            Object permission) {
+        return hasPermission(authentication, permission);
+    }
+
+    public boolean hasPermission(Authentication authentication, Object permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails principal)) {
+            return false;
+        }
+        long mask = PermissionCode.maskOf(permission);
+        return mask != 0 && (principal.getPermissionMask() & mask) == mask;
+    }
+}
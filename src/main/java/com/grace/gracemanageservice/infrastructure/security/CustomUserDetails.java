@@ -1,27 +1,65 @@
 package com.grace.gracemanageservice.infrastructure.security;
 
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
 import com.grace.gracemanageservice.domain.entity.User;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Adapter between domain User entity and Spring Security UserDetails
+ * Authorities are ROLE_<role> plus the permission codes granted by the user's role;
+ * the same permissions are kept as a PermissionCode bitmask for BitmaskPermissionEvaluator
  */
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
     private final User user;
+    private final Set<PermissionCode> permissions;
+    private final long permissionMask;
+
+    public CustomUserDetails(User user) {
+        this(user, EnumSet.noneOf(PermissionCode.class));
+    }
+
+    public CustomUserDetails(User user, Set<PermissionCode> permissions) {
+        this(user, permissions, PermissionCode.toMask(permissions));
+    }
+
+    private CustomUserDetails(User user, Set<PermissionCode> permissions, long permissionMask) {
+        this.user = user;
+        this.permissions = permissions;
+        this.permissionMask = permissionMask;
+    }
+
+    /**
+     * Principal rebuilt from access-token claims alone, for stateless authentication.
+     * The user is taken as active: deactivation is enforced by token revocation instead.
+     */
+    public static CustomUserDetails fromToken(VerifiedToken token) {
+        User user = User.builder()
+            .id(token.userId())
+            .username(token.username())
+            .email(token.email())
+            .role(token.role())
+            .roleId(token.roleId())
+            .active(true)
+            .build();
+        long permissionMask = token.permissionMask();
+        return new CustomUserDetails(user, PermissionCode.fromMask(permissionMask), permissionMask);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(
-            new SimpleGrantedAuthority("ROLE_" + user.getRole().toUpperCase())
-        );
+        List<GrantedAuthority> authorities = new ArrayList<>(permissions.size() + 1);
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().toUpperCase()));
+        permissions.forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission.getCode())));
+        return authorities;
     }
 
     @Override
@@ -57,4 +95,12 @@ public class CustomUserDetails implements UserDetails {
     public User getUser() {
         return user;
     }
+
+    public Set<PermissionCode> getPermissions() {
+        return permissions;
+    }
+
+    public long getPermissionMask() {
+        return permissionMask;
+    }
 }
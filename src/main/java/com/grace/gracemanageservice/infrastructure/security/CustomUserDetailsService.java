@@ -1,28 +1,159 @@
 package com.grace.gracemanageservice.infrastructure.security;
 
+import com.grace.gracemanageservice.application.cache.RolePermissionCache;
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
 import com.grace.gracemanageservice.domain.entity.User;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Custom UserDetailsService implementation for Spring Security
- * Loads user from domain repository
+ * Loads user from domain repository, with the permission codes of the user's role.
+ * Principals are cached by username for ttl-seconds (at most max-size entries) and dropped after
+ * a committed change to the user or to their role. A load that overlaps an invalidation is not
+ * cached, so a stale row read before the change commits can never be stored.
  */
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final RolePermissionCache rolePermissionCache;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final ConcurrentMap<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer loadLatency;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+            RolePermissionCache rolePermissionCache,
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.rolePermissionCache = rolePermissionCache;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxSize = maxSize;
+
+        this.hits = Counter.builder("security.principal.cache.requests")
+            .tag("result", "hit")
+            .description("Principal lookups answered from the cache")
+            .register(meterRegistry);
+        this.misses = Counter.builder("security.principal.cache.requests")
+            .tag("result", "miss")
+            .description("Principal lookups that went to the database")
+            .register(meterRegistry);
+        this.loadLatency = Timer.builder("security.principal.load")
+            .description("Time to load a principal (user row + cached role permissions)")
+            .register(meterRegistry);
+        Gauge.builder("security.principal.cache.size", principals, ConcurrentMap::size)
+            .description("Cached principals")
+            .register(meterRegistry);
+        Gauge.builder("security.principal.cache.hit.ratio", this, CustomUserDetailsService::hitRatio)
+            .description("Share of principal lookups answered from the cache")
+            .register(meterRegistry);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return loadUserByUsername(username, null);
+    }
+
+    /**
+     * Cached principal unless it was loaded before staleAfter (e.g. the user's latest change as seen
+     * by TokenRevocationRegistry, which covers changes committed on other nodes)
+     */
+    public CustomUserDetails loadUserByUsername(String username, Instant staleAfter) throws UsernameNotFoundException {
+        long now = System.nanoTime();
+        CachedPrincipal cached = principals.get(username);
+        if (cached != null && now - cached.loadedAt() < ttlNanos
+                && (staleAfter == null || cached.loadedAtInstant().isAfter(staleAfter))) {
+            hits.increment();
+            return cached.details();
+        }
+        misses.increment();
+
+        // Taken before the read, so a row read before a change committed counts as older than it
+        Instant loadedAtInstant = Instant.now();
+        long generation = invalidations.get();
+        CustomUserDetails details = loadLatency.record(() -> load(username));
+        if (ttlNanos > 0 && invalidations.get() == generation && (principals.size() < maxSize || sweep(now))) {
+            principals.put(username, new CachedPrincipal(details, now, loadedAtInstant));
+        }
+        return details;
+    }
+
+    /**
+     * Drop the user's cached principal once the change is committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidations.incrementAndGet();
+        principals.values().removeIf(cached -> Objects.equals(cached.details().getUser().getId(), event.userId()));
+    }
+
+    /**
+     * Drop every cached principal holding the role once the change is committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        invalidations.incrementAndGet();
+        principals.values().removeIf(cached -> Objects.equals(cached.details().getUser().getRoleId(), event.roleId()));
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        principals.clear();
+    }
+
+    /**
+     * Permissions granted by the role, empty for no role or an unknown one
+     */
+    public Set<PermissionCode> loadPermissions(Long roleId) {
+        return rolePermissionCache.permissionsOf(roleId);
+    }
+
+    private CustomUserDetails load(String username) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-        return new CustomUserDetails(user);
+        return new CustomUserDetails(user, loadPermissions(user.getRoleId()));
     }
-}
 
+    /**
+     * Remove expired entries; true if that made room
+     */
+    private boolean sweep(long now) {
+        principals.values().removeIf(cached -> now - cached.loadedAt() >= ttlNanos);
+        return principals.size() < maxSize;
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record CachedPrincipal(CustomUserDetails details, long loadedAt, Instant loadedAtInstant) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Device API key filter - authenticates kiosks by the X-Device-Key header, next to JwtAuthenticationFilter
+ * Keys only authenticate the attendance recording endpoints, as ROLE_DEVICE; a request that already
+ * carries a JWT is left to that.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DeviceApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String DEVICE_KEY_HEADER = "X-Device-Key";
+    private static final Set<String> DEVICE_PATHS = Set.of(
+        "/api/v1/attendance/check-in",
+        "/api/v1/attendance/check-out",
+        "/api/v1/attendance/events/batch");
+    private static final List<SimpleGrantedAuthority> DEVICE_AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_DEVICE"));
+
+    private final DeviceApiKeyRegistry deviceApiKeyRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+            || !DEVICE_PATHS.contains(request.getServletPath())
+            || !StringUtils.hasText(request.getHeader(DEVICE_KEY_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            DeviceApiKey key = deviceApiKeyRegistry.authenticate(request.getHeader(DEVICE_KEY_HEADER));
+            if (key == null) {
+                log.warn("Rejected unknown or revoked device key from {}", request.getRemoteAddr());
+            } else {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    new DevicePrincipal(key.getId(), key.getName()), null, DEVICE_AUTHORITIES);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("Set authentication for device: {}", key.getName());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
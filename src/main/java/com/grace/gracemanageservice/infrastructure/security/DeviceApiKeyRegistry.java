@@ -0,0 +1,181 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+import com.grace.gracemanageservice.domain.repository.DeviceApiKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues and verifies device API keys for check-in kiosks.
+ * Keys are 256 random bits, so a fast keyed hash (HMAC-SHA256 under a server secret) is enough to store
+ * them - no BCrypt. The hash is also the lookup key: verifying is one HMAC plus a map lookup, and only a
+ * key not seen within ttl-seconds goes to the database. Attackers cannot steer the hash without the secret,
+ * so the map's equality check leaks nothing useful about stored keys.
+ * Revoking evicts on this node at once; other nodes stop accepting the key within ttl-seconds.
+ * The secret is its own setting, not jwt.secret, so rotating JWT signing never invalidates issued keys
+ * and a leaked signing secret does not also let stored key hashes be checked offline.
+ */
+@Slf4j
+@Component
+public class DeviceApiKeyRegistry {
+
+    static final String KEY_PREFIX = "gdk_";
+    private static final int KEY_BYTES = 32;
+    private static final int DISPLAY_PREFIX_LENGTH = 12;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final DeviceApiKeyRepository deviceApiKeyRepository;
+    private final SecretKeySpec hmacKey;
+    private final ThreadLocal<Mac> macs;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final ConcurrentMap<String, CachedKey> verified = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejected;
+
+    public DeviceApiKeyRegistry(DeviceApiKeyRepository deviceApiKeyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.device-keys.hmac-secret:}") String hmacSecret,
+            @Value("${security.device-keys.cache-ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.device-keys.cache-max-size:10000}") int maxSize) {
+        if (hmacSecret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("Set security.device-keys.hmac-secret to a dedicated secret of at least "
+                    + MIN_SECRET_BYTES + " bytes");
+        }
+        this.deviceApiKeyRepository = deviceApiKeyRepository;
+        this.hmacKey = new SecretKeySpec(hmacSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        // Mac instances are not thread-safe; one per thread avoids a lock on the request path
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxSize = maxSize;
+
+        this.hits = Counter.builder("security.device-key.requests")
+                .tag("result", "hit")
+                .description("Device keys verified from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("security.device-key.requests")
+                .tag("result", "miss")
+                .description("Device keys verified against the database")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("security.device-key.requests")
+                .tag("result", "rejected")
+                .description("Unknown, malformed or revoked device keys")
+                .register(meterRegistry);
+        Gauge.builder("security.device-key.cache.size", verified, ConcurrentMap::size)
+                .description("Verified device keys held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create a key for a device; the raw key is only ever returned here
+     */
+    public IssuedDeviceKey issue(String name) {
+        byte[] random = new byte[KEY_BYTES];
+        secureRandom.nextBytes(random);
+        String rawKey = KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        DeviceApiKey saved = deviceApiKeyRepository.save(DeviceApiKey.builder()
+                .name(name)
+                .keyPrefix(rawKey.substring(0, DISPLAY_PREFIX_LENGTH))
+                .keyHash(hash(rawKey))
+                .build());
+        log.info("Issued device key {} for {}", saved.getId(), name);
+        return new IssuedDeviceKey(saved, rawKey);
+    }
+
+    public List<DeviceApiKey> findAll() {
+        return deviceApiKeyRepository.findAll();
+    }
+
+    public void revoke(Long id) {
+        if (!deviceApiKeyRepository.revoke(id)) {
+            throw new ResourceNotFoundException("DeviceApiKey", "id", id);
+        }
+        invalidations.incrementAndGet();
+        verified.values().removeIf(cached -> Objects.equals(cached.key().getId(), id));
+        log.info("Revoked device key {}", id);
+    }
+
+    /**
+     * The active key matching rawKey, or null
+     */
+    public DeviceApiKey authenticate(String rawKey) {
+        if (rawKey == null || !rawKey.startsWith(KEY_PREFIX)) {
+            rejected.increment();
+            return null;
+        }
+        String keyHash = hash(rawKey);
+        long now = System.nanoTime();
+        CachedKey cached = verified.get(keyHash);
+        if (cached != null && now - cached.verifiedAt() < ttlNanos) {
+            hits.increment();
+            return cached.key();
+        }
+        misses.increment();
+
+        long generation = invalidations.get();
+        DeviceApiKey key = deviceApiKeyRepository.findActiveByKeyHash(keyHash).orElse(null);
+        if (key == null) {
+            verified.remove(keyHash);
+            rejected.increment();
+            return null;
+        }
+        // A revoke that overlapped the read must not be undone by caching what was read before it
+        if (ttlNanos > 0 && invalidations.get() == generation && (verified.size() < maxSize || sweep(now))) {
+            verified.put(keyHash, new CachedKey(key, now));
+        }
+        return key;
+    }
+
+    String hash(String rawKey) {
+        return HexFormat.of().formatHex(macs.get().doFinal(rawKey.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private boolean sweep(long now) {
+        verified.values().removeIf(cached -> now - cached.verifiedAt() >= ttlNanos);
+        return verified.size() < maxSize;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", ex);
+        }
+    }
+
+    /**
+     * A newly issued key and its raw value, to be shown to the administrator once
+     */
+    public record IssuedDeviceKey(DeviceApiKey key, String rawKey) {
+    }
+
+    private record CachedKey(DeviceApiKey key, long verifiedAt) {
+    }
+}
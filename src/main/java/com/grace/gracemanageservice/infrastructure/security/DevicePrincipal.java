@@ -0,0 +1,14 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import java.security.Principal;
+
+/**
+ * Principal of a request authenticated with a device API key
+ */
+public record DevicePrincipal(Long deviceKeyId, String deviceName) implements Principal {
+
+    @Override
+    public String getName() {
+        return "device:" + deviceName;
+    }
+}
@@ -1,11 +1,13 @@
 package com.grace.gracemanageservice.infrastructure.security;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,9 +21,11 @@ import java.io.IOException;
 
 /**
  * JWT Authentication Filter - validates JWT from Authorization Bearer header on every request
+ * In stateless mode the principal is built from the access-token claims and checked against the
+ * in-memory revocation registry, so authenticating a request runs no SQL. Otherwise the principal
+ * is loaded (cached) from the database and only individually revoked tokens are rejected.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -30,6 +34,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final boolean statelessAuth;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+            CustomUserDetailsService userDetailsService,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            @Value("${security.stateless-auth.enabled:false}") boolean statelessAuth) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.statelessAuth = statelessAuth;
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -49,27 +65,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // Only validate access tokens for API authentication (not refresh tokens)
             if (jwt != null) {
-                // Check if token is expired first to return 401
-                if (jwtTokenProvider.isTokenExpired(jwt)) {
+                // One verification per request; expired tokens return 401
+                VerifiedToken token;
+                try {
+                    token = jwtTokenProvider.verify(jwt);
+                } catch (ExpiredJwtException ex) {
                     throw new BadCredentialsException("Expired JWT token");
                 }
 
-                // Validate and set authentication
-                if (jwtTokenProvider.validateAccessToken(jwt)) {
-                    String username = jwtTokenProvider.getUsernameFromToken(jwt);
+                if (token.isAccessToken()) {
+                    String username = token.username();
 
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    UserDetails userDetails = resolvePrincipal(token);
+                    if (userDetails == null) {
+                        log.warn("Rejected revoked token for user: {}", username);
+                    } else if (userDetails.isEnabled()) {
+                        UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Set authentication for user: {}", username);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Set authentication for user: {}", username);
+                    } else {
+                        // Deactivated after the token was issued
+                        log.warn("Rejected token for inactive user: {}", username);
+                    }
                 }
             }
         } catch (BadCredentialsException ex) {
             log.error("Authentication failed: {}", ex.getMessage());
             throw ex;
+        } catch (JwtException ex) {
+            log.warn("Invalid JWT token: {}", ex.getMessage());
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
         }
@@ -77,6 +104,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Principal for a verified access token, or null if the token was revoked
+     */
+    private UserDetails resolvePrincipal(VerifiedToken token) {
+        if (statelessAuth) {
+            return tokenRevocationRegistry.isRevoked(token) ? null : CustomUserDetails.fromToken(token);
+        }
+        return tokenRevocationRegistry.isTokenRevoked(token) ? null
+            : userDetailsService.loadUserByUsername(token.username());
+    }
+
     /**
      * Extract JWT token from Authorization Bearer header
      */
@@ -0,0 +1,193 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keys JWTs are signed and verified with.
+ * HS256 (default) signs with jwt.secret. ES256 or EdDSA sign with the private key named by active-kid and put
+ * that kid in the token header; every public key in keys-dir verifies, so a key can be rotated without downtime:
+ * 1. add the new {kid}.key / {kid}.pub to every node (restart rolls it in as a verification key),
+ * 2. switch active-kid, 3. remove the old key once the last token it signed has expired (7 days).
+ * Public keys are published as a JWK set (/.well-known/jwks.json) so other services verify tokens locally.
+ * While accept-hmac is on, HS256 tokens from before the switch to asymmetric keys stay valid.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    public static final String HS256 = "HS256";
+
+    private final ActiveKey activeKey;
+    private final Map<String, PublicKey> verificationKeys;
+    // Null when HS256 tokens are not accepted
+    private final SecretKey hmacKey;
+    private final List<Map<String, Object>> jwks;
+
+    @Autowired
+    public JwtKeyRing(@Value("${jwt.secret}") String secret,
+            @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+            @Value("${jwt.signing.keys-dir:}") String keysDir,
+            @Value("${jwt.signing.active-kid:}") String activeKid,
+            @Value("${jwt.signing.accept-hmac:true}") boolean acceptHmac) {
+        this(secret, algorithm, loadKeys(keysDir, algorithm), activeKid, acceptHmac);
+    }
+
+    private JwtKeyRing(String secret, String algorithm, Map<String, KeyFiles> keys, String activeKid,
+            boolean acceptHmac) {
+        // Ensure secret is at least 256 bits (32 bytes) for HS256
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        if (HS256.equals(algorithm)) {
+            this.activeKey = new ActiveKey(null, secretKey, null);
+            this.verificationKeys = Map.of();
+            this.hmacKey = secretKey;
+            this.jwks = List.of();
+            return;
+        }
+
+        if (keys.isEmpty()) {
+            // Local development only: tokens stop verifying when the process restarts
+            String kid = "ephemeral-" + UUID.randomUUID();
+            KeyPair pair = SigningKeys.generate(algorithm);
+            keys = Map.of(kid, new KeyFiles(pair.getPublic(), pair.getPrivate()));
+            log.warn("No {} keys configured (jwt.signing.keys-dir) - signing with ephemeral key {}", algorithm, kid);
+        }
+        String kid = activeKid == null || activeKid.isBlank() ? onlySigningKid(keys) : activeKid;
+        KeyFiles active = keys.get(kid);
+        if (active == null || active.privateKey() == null) {
+            throw new IllegalStateException("No private key for jwt.signing.active-kid " + kid);
+        }
+
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        keys.forEach((keyId, files) -> {
+            publicKeys.put(keyId, files.publicKey());
+            jwkList.add(SigningKeys.toJwk(keyId, algorithm, files.publicKey()));
+        });
+        this.activeKey = new ActiveKey(kid, active.privateKey(), signatureAlgorithm(algorithm));
+        this.verificationKeys = Map.copyOf(publicKeys);
+        this.hmacKey = acceptHmac ? secretKey : null;
+        this.jwks = List.copyOf(jwkList);
+        log.info("JWT signing with {} key {}; {} verification key(s)", algorithm, kid, publicKeys.size());
+    }
+
+    /**
+     * HS256 with the given secret - no kid, nothing to publish
+     */
+    public static JwtKeyRing hmac(String secret) {
+        return new JwtKeyRing(secret, HS256, Map.of(), null, true);
+    }
+
+    /**
+     * A fresh key pair for ES256 or EdDSA; the secret only verifies legacy HS256 tokens if acceptHmac
+     */
+    public static JwtKeyRing generate(String algorithm, String secret, boolean acceptHmac) {
+        return new JwtKeyRing(secret, algorithm, Map.of(), null, acceptHmac);
+    }
+
+    public ActiveKey activeKey() {
+        return activeKey;
+    }
+
+    /**
+     * Verification key for a token header: the public key named by kid, or the HS256 secret
+     *
+     * @throws UnsupportedJwtException if no key matches
+     */
+    public Key locate(Header header) {
+        if (HS256.equals(header.getAlgorithm())) {
+            if (hmacKey == null) {
+                throw new UnsupportedJwtException("HS256-signed tokens are no longer accepted");
+            }
+            return hmacKey;
+        }
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        PublicKey key = kid != null ? verificationKeys.get(kid) : null;
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT signing key: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Public verification keys as JWK set members (empty for HS256)
+     */
+    public Map<String, Object> jwkSet() {
+        return Map.of("keys", jwks);
+    }
+
+    private static Map<String, KeyFiles> loadKeys(String keysDir, String algorithm) {
+        if (HS256.equals(algorithm) || keysDir == null || keysDir.isBlank()) {
+            return Map.of();
+        }
+        Map<String, KeyFiles> keys = new LinkedHashMap<>();
+        try (DirectoryStream<Path> publicKeyFiles = Files.newDirectoryStream(Path.of(keysDir), "*.pub")) {
+            for (Path publicKeyFile : publicKeyFiles) {
+                String fileName = publicKeyFile.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - ".pub".length());
+                Path privateKeyFile = publicKeyFile.resolveSibling(kid + ".key");
+                PrivateKey privateKey = Files.exists(privateKeyFile)
+                        ? SigningKeys.readPrivateKey(privateKeyFile, algorithm)
+                        : null;
+                keys.put(kid, new KeyFiles(SigningKeys.readPublicKey(publicKeyFile, algorithm), privateKey));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read JWT keys from " + keysDir, ex);
+        }
+        return keys;
+    }
+
+    private static String onlySigningKid(Map<String, KeyFiles> keys) {
+        List<String> signing = keys.entrySet().stream()
+                .filter(entry -> entry.getValue().privateKey() != null)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (signing.size() != 1) {
+            throw new IllegalStateException("Set jwt.signing.active-kid to one of " + signing);
+        }
+        return signing.get(0);
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case SigningKeys.ES256 -> Jwts.SIG.ES256;
+            case SigningKeys.EDDSA -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalArgumentException("Unsupported JWT algorithm: " + algorithm);
+        };
+    }
+
+    /**
+     * The key new tokens are signed with; kid and algorithm are null for HS256
+     */
+    public record ActiveKey(String kid, Key key, SignatureAlgorithm algorithm) {
+    }
+
+    private record KeyFiles(PublicKey publicKey, PrivateKey privateKey) {
+    }
+}
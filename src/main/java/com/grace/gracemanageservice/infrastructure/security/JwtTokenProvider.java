@@ -1,19 +1,23 @@
 package com.grace.gracemanageservice.infrastructure.security;
 
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
 import com.grace.gracemanageservice.domain.entity.User;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * JWT Token Provider - handles token generation and validation
  * Supports dual-token strategy: access token (15 min) + refresh token (7 days)
+ * Signing and verification keys come from JwtKeyRing (HS256, or ES256/EdDSA with key rotation)
  */
 @Component
 @Slf4j
@@ -22,14 +26,20 @@ public class JwtTokenProvider {
     private static final long ACCESS_TOKEN_EXPIRATION_MS = 15 * 60 * 1000; // 15 minutes
     private static final long REFRESH_TOKEN_EXPIRATION_MS = 7 * 24 * 60 * 60 * 1000L; // 7 days
 
-    private static final String TOKEN_TYPE_ACCESS = "access";
-    private static final String TOKEN_TYPE_REFRESH = "refresh";
+    static final String TOKEN_TYPE_ACCESS = "access";
+    static final String TOKEN_TYPE_REFRESH = "refresh";
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
+    // Immutable and thread-safe - built once instead of per call
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
-        // Ensure secret is at least 256 bits (32 bytes) for HS256
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtTokenProvider(JwtKeyRing keyRing,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheSize) {
+        this.keyRing = keyRing;
+        // The key is picked per token from its header (alg, kid), so rotated-out keys still verify
+        this.parser = Jwts.parser().keyLocator(keyRing::locate).build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
     }
 
     /**
@@ -37,19 +47,28 @@ public class JwtTokenProvider {
      * Contains full user claims: id, email, role
      */
     public String generateAccessToken(User user) {
+        return generateAccessToken(user, EnumSet.noneOf(PermissionCode.class));
+    }
+
+    /**
+     * Generate ACCESS token carrying everything needed to authorize a request without the database:
+     * id, email, role, roleId and the role's permissions as a PermissionCode bitmask ("perm")
+     */
+    public String generateAccessToken(User user, Set<PermissionCode> permissions) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION_MS);
 
-        return Jwts.builder()
+        return sign(Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .subject(user.getUsername())
             .claim("id", user.getId())
             .claim("email", user.getEmail())
             .claim("role", user.getRole())
+            .claim("roleId", user.getRoleId())
+            .claim("perm", PermissionCode.toMask(permissions))
             .claim("type", TOKEN_TYPE_ACCESS)
             .issuedAt(now)
-            .expiration(expiryDate)
-            .signWith(secretKey, Jwts.SIG.HS256)
-            .compact();
+            .expiration(expiryDate));
     }
 
     /**
@@ -60,130 +79,68 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION_MS);
 
-        return Jwts.builder()
+        return sign(Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .subject(user.getUsername())
             .claim("id", user.getId())
             .claim("type", TOKEN_TYPE_REFRESH)
             .issuedAt(now)
-            .expiration(expiryDate)
-            .signWith(secretKey, Jwts.SIG.HS256)
-            .compact();
-    }
-
-    /**
-     * Get access token expiration time in seconds
-     */
-    public long getAccessTokenExpirationSeconds() {
-        return ACCESS_TOKEN_EXPIRATION_MS / 1000;
+            .expiration(expiryDate));
     }
 
     /**
-     * Extract username from JWT token
+     * Sign with the key ring's active key - HS256, or ES256/EdDSA with its kid in the header
      */
-    public String getUsernameFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.getSubject();
-    }
-
-    /**
-     * Extract token type from JWT token
-     */
-    public String getTokenType(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("type", String.class);
-    }
-
-    /**
-     * Check if token is an access token
-     */
-    public boolean isAccessToken(String token) {
-        try {
-            return TOKEN_TYPE_ACCESS.equals(getTokenType(token));
-        } catch (Exception e) {
-            return false;
+    private String sign(JwtBuilder builder) {
+        JwtKeyRing.ActiveKey activeKey = keyRing.activeKey();
+        if (activeKey.algorithm() == null) {
+            return builder.signWith((SecretKey) activeKey.key(), Jwts.SIG.HS256).compact();
         }
+        return builder
+            .header().keyId(activeKey.kid()).and()
+            .signWith((PrivateKey) activeKey.key(), activeKey.algorithm())
+            .compact();
     }
 
     /**
-     * Check if token is a refresh token
+     * Get access token expiration time in seconds
      */
-    public boolean isRefreshToken(String token) {
-        try {
-            String tokenType = getTokenType(token);
-            boolean isRefresh = TOKEN_TYPE_REFRESH.equals(tokenType);
-            if(!isRefresh) {
-                log.error("Expected refresh token but found type: {}", tokenType);
-            }
-            return isRefresh;
-        } catch (Exception e) {
-            return false;
-        }
+    public long getAccessTokenExpirationSeconds() {
+        return ACCESS_TOKEN_EXPIRATION_MS / 1000;
     }
 
     /**
-     * Parse token and return claims
+     * Get refresh token expiration time in seconds - the longest any issued token stays valid
      */
-    private Claims parseToken(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    public long getRefreshTokenExpirationSeconds() {
+        return REFRESH_TOKEN_EXPIRATION_MS / 1000;
     }
 
     /**
-     * Validate JWT token
+     * Verify a token once - signature, expiry and structure - and return its typed claims.
+     * Tokens verified earlier are served from the cache until they expire, skipping the signature check.
+     *
+     * @throws ExpiredJwtException if the token has expired
+     * @throws JwtException if the token is malformed, unsigned or its signature does not match
      */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty");
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new MalformedJwtException("JWT is empty");
         }
-        return false;
-    }
-
-    /**
-     * Check if token is expired (throws ExpiredJwtException)
-     */
-    public boolean isTokenExpired(String token) {
-        try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return false;
-        } catch (ExpiredJwtException ex) {
-            log.warn("Token is expired");
-            return true;
-        } catch (Exception ex) {
-            // For other exceptions, we'll handle them in validateToken
-            return false;
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            return cached;
         }
+        VerifiedToken verified = VerifiedToken.from(parser.parseSignedClaims(token).getPayload());
+        verifiedTokens.put(token, verified, now);
+        return verified;
     }
 
     /**
-     * Validate access token specifically (must be valid AND be access type)
-     */
-    public boolean validateAccessToken(String token) {
-        return validateToken(token) && isAccessToken(token);
-    }
-
-    /**
-     * Validate refresh token specifically (must be valid AND be refresh type)
+     * Drop all cached verifications, e.g. after the signing secret or a revocation changes
      */
-    public boolean validateRefreshToken(String token) {
-        return !validateToken(token) || !isRefreshToken(token);
+    public void clearVerifiedTokens() {
+        verifiedTokens.clear();
     }
 }
-
@@ -0,0 +1,233 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles POST /api/v1/auth/login and /refresh before they reach AuthController.
+ * Every request takes a token from its client IP's bucket; a login also takes one from the
+ * bucket of the username in its body. An empty bucket answers 429 with Retry-After, so
+ * brute-force attempts are turned away before any database read or password hash.
+ * The client IP is request.getRemoteAddr(): behind a load balancer, server.forward-headers-strategy
+ * must be set so the container resolves it from X-Forwarded-For (see application-azure.properties),
+ * otherwise every client shares the balancer's bucket. Login bodies over max-body-bytes get 413.
+ */
+@Slf4j
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+    private static final Set<String> THROTTLED_PATHS = Set.of(LOGIN_PATH, "/api/v1/auth/refresh");
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter usernameLimiter;
+    private final Counter ipRejected;
+    private final Counter usernameRejected;
+
+    @Autowired
+    public LoginRateLimitFilter(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${security.rate-limit.ip.refill-per-minute:30}") int ipRefillPerMinute,
+            @Value("${security.rate-limit.username.capacity:5}") int usernameCapacity,
+            @Value("${security.rate-limit.username.refill-per-minute:5}") int usernameRefillPerMinute,
+            @Value("${security.rate-limit.max-entries:100000}") int maxEntries,
+            @Value("${security.rate-limit.stripes:64}") int stripes,
+            @Value("${security.rate-limit.max-body-bytes:8192}") int maxBodyBytes) {
+        this(objectMapper, meterRegistry, enabled, maxBodyBytes,
+                new TokenBucketLimiter(ipCapacity, ipRefillPerMinute, maxEntries, stripes),
+                new TokenBucketLimiter(usernameCapacity, usernameRefillPerMinute, maxEntries, stripes));
+    }
+
+    LoginRateLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry, boolean enabled, int maxBodyBytes,
+            TokenBucketLimiter ipLimiter, TokenBucketLimiter usernameLimiter) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxBodyBytes = maxBodyBytes;
+        this.ipLimiter = ipLimiter;
+        this.usernameLimiter = usernameLimiter;
+
+        this.ipRejected = Counter.builder("security.rate-limit.rejected")
+                .tag("scope", "ip")
+                .description("Auth requests refused because the client IP ran out of tokens")
+                .register(meterRegistry);
+        this.usernameRejected = Counter.builder("security.rate-limit.rejected")
+                .tag("scope", "username")
+                .description("Logins refused because the username ran out of tokens")
+                .register(meterRegistry);
+        Gauge.builder("security.rate-limit.buckets", this,
+                        filter -> filter.ipLimiter.size() + filter.usernameLimiter.size())
+                .description("Token buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || !THROTTLED_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            ipRejected.increment();
+            reject(response, waitNanos);
+            return;
+        }
+
+        HttpServletRequest forwarded = request;
+        if (LOGIN_PATH.equals(request.getServletPath())) {
+            // Read at most one byte past the limit: the body is buffered before authentication
+            byte[] body = request.getContentLengthLong() > maxBodyBytes
+                    ? null
+                    : request.getInputStream().readNBytes(maxBodyBytes + 1);
+            if (body == null || body.length > maxBodyBytes) {
+                writeError(response, HttpStatus.CONTENT_TOO_LARGE, "Content Too Large",
+                        "Login request body exceeds " + maxBodyBytes + " bytes");
+                return;
+            }
+            CachedBodyRequest cached = new CachedBodyRequest(request, body);
+            String username = usernameOf(cached.body);
+            if (username != null) {
+                waitNanos = usernameLimiter.tryAcquire(username);
+                if (waitNanos > 0) {
+                    usernameRejected.increment();
+                    log.warn("Throttled login attempts for user {}", username);
+                    reject(response, waitNanos);
+                    return;
+                }
+            }
+            forwarded = cached;
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    /**
+     * Username from the login body, normalized so case variations share a bucket; null if absent or unreadable
+     */
+    private String usernameOf(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            return username != null && username.isTextual() && !username.asText().isBlank()
+                    ? username.asText().trim().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (IOException ex) {
+            // Malformed body: the controller reports it, the IP bucket already counted it
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(TimeUnit.NANOSECONDS.toSeconds(waitNanos), 1);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                "Too many authentication attempts, please retry later");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String error, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        var errorResponse = new HashMap<String, Object>();
+        errorResponse.put("error", error);
+        errorResponse.put("message", message);
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+    /**
+     * Request whose body was read up front to find the username and is replayed to the controller
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+/**
+ * Immutable-after-build bloom filter over 64-bit keys. mightContain never returns false for an added key;
+ * for other keys it returns true with roughly the false-positive rate it was sized for.
+ * Probe positions come from double hashing of one mixed key, so a lookup allocates nothing.
+ */
+final class LongBloomFilter {
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    LongBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(expectedEntries, 1);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.words = new long[(int) Math.max((bits + 63) >>> 6, 1)];
+        this.bitCount = (long) words.length << 6;
+        this.hashCount = Math.max((int) Math.round((double) bitCount / entries * ln2), 1);
+    }
+
+    void add(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * SplitMix64 finalizer - spreads sequential ids across the whole word range
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
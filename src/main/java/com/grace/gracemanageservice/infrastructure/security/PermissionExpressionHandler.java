@@ -0,0 +1,47 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.MethodExecutor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.SecurityExpressionOperations;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Method security expression handler that adds a one-argument hasPermission('code') to the
+ * standard expressions, backed by BitmaskPermissionEvaluator. The two- and three-argument
+ * forms go through the same evaluator.
+ */
+public class PermissionExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    private final MethodResolver hasPermissionResolver;
+
+    public PermissionExpressionHandler(BitmaskPermissionEvaluator permissionEvaluator) {
+        setPermissionEvaluator(permissionEvaluator);
+        MethodExecutor hasPermission = (context, target, arguments) -> new TypedValue(
+                permissionEvaluator.hasPermission(((SecurityExpressionOperations) target).getAuthentication(),
+                        arguments[0]));
+        this.hasPermissionResolver = (context, target, name, argumentTypes) ->
+                isHasPermission(target, name, argumentTypes) ? hasPermission : null;
+    }
+
+    @Override
+    public EvaluationContext createEvaluationContext(Supplier<? extends Authentication> authentication,
+            MethodInvocation mi) {
+        StandardEvaluationContext context = (StandardEvaluationContext) super.createEvaluationContext(authentication, mi);
+        context.addMethodResolver(hasPermissionResolver);
+        return context;
+    }
+
+    private static boolean isHasPermission(Object target, String name, List<TypeDescriptor> argumentTypes) {
+        return "hasPermission".equals(name) && argumentTypes.size() == 1
+                && target instanceof SecurityExpressionOperations;
+    }
+}
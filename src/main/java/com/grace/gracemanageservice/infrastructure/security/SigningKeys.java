@@ -0,0 +1,133 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JDK-only helpers for the asymmetric JWT keys: PEM files, key generation and JWK encoding.
+ * ES256 keys are EC P-256, EdDSA keys are Ed25519.
+ */
+final class SigningKeys {
+
+    static final String ES256 = "ES256";
+    static final String EDDSA = "EdDSA";
+
+    private static final int P256_COORDINATE_BYTES = 32;
+    private static final int ED25519_KEY_BYTES = 32;
+
+    private SigningKeys() {
+    }
+
+    static KeyPair generate(String algorithm) {
+        try {
+            if (ES256.equals(algorithm)) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            return KeyPairGenerator.getInstance(keyFactoryAlgorithm(algorithm)).generateKeyPair();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot generate " + algorithm + " key pair", ex);
+        }
+    }
+
+    /**
+     * X.509 SubjectPublicKeyInfo PEM ("BEGIN PUBLIC KEY"), as written by openssl pkey -pubout
+     */
+    static PublicKey readPublicKey(Path file, String algorithm) throws IOException {
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm(algorithm))
+                    .generatePublic(new X509EncodedKeySpec(readPem(file)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Not a " + algorithm + " public key: " + file, ex);
+        }
+    }
+
+    /**
+     * Unencrypted PKCS#8 PEM ("BEGIN PRIVATE KEY"), as written by openssl genpkey or openssl pkcs8 -topk8 -nocrypt
+     */
+    static PrivateKey readPrivateKey(Path file, String algorithm) throws IOException {
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm(algorithm))
+                    .generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Not an unencrypted PKCS#8 " + algorithm + " private key: " + file, ex);
+        }
+    }
+
+    static String toPem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    /**
+     * Public JWK (RFC 7517 / RFC 8037) members for a verification key
+     */
+    static Map<String, Object> toJwk(String kid, String algorithm, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof ECPublicKey ecKey) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(unsigned(ecKey.getW().getAffineX(), P256_COORDINATE_BYTES)));
+            jwk.put("y", base64Url(unsigned(ecKey.getW().getAffineY(), P256_COORDINATE_BYTES)));
+        } else {
+            // Ed25519 SubjectPublicKeyInfo ends with the raw 32-byte public key
+            byte[] encoded = publicKey.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_BYTES, encoded.length)));
+        }
+        jwk.put("kid", kid);
+        jwk.put("alg", algorithm);
+        jwk.put("use", "sig");
+        return jwk;
+    }
+
+    private static String keyFactoryAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case ES256 -> "EC";
+            case EDDSA -> "Ed25519";
+            default -> throw new IllegalArgumentException("Unsupported asymmetric JWT algorithm: " + algorithm);
+        };
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        String base64 = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    /**
+     * Fixed-length big-endian bytes: BigInteger may add a sign byte or drop leading zeros
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, result, length - copy, copy);
+        return result;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
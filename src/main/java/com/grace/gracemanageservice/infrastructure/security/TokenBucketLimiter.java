@@ -0,0 +1,119 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets keyed by string (client IP, username), each holding up to capacity tokens and
+ * refilling at a steady rate. Keys are spread over lock stripes so concurrent requests for different
+ * keys rarely contend. Each stripe keeps its buckets in access order and drops the least recently used
+ * ones beyond its share of maxEntries, and any that have been idle long enough to be full again:
+ * a missing bucket and a full one behave the same.
+ */
+final class TokenBucketLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+    private final LongSupplier ticker;
+    private final Stripe[] stripes;
+
+    TokenBucketLimiter(int capacity, int refillPerMinute, int maxEntries, int stripeCount) {
+        this(capacity, refillPerMinute, maxEntries, stripeCount, System::nanoTime);
+    }
+
+    TokenBucketLimiter(int capacity, int refillPerMinute, int maxEntries, int stripeCount, LongSupplier ticker) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.idleNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.ticker = ticker;
+        // Power of two so the stripe is picked with a mask
+        int count = Integer.highestOneBit(Math.max(stripeCount, 1) * 2 - 1);
+        int perStripe = Math.max(maxEntries / count, 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Take one token for the key
+     *
+     * @return 0 if a token was taken, otherwise nanoseconds until one will be available
+     */
+    long tryAcquire(String key) {
+        long now = ticker.getAsLong();
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        synchronized (stripe) {
+            stripe.evictIdle(now, idleNanos);
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAt) * tokensPerNano);
+                bucket.updatedAt = now;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return Math.max((long) Math.ceil((1 - bucket.tokens) / tokensPerNano), 1);
+        }
+    }
+
+    /**
+     * Tracked buckets across all stripes
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        Stripe(int maxEntries) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        /**
+         * Least recently used first, so stop at the first bucket that is still refilling
+         */
+        void evictIdle(long now, long idleNanos) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext() && now - iterator.next().updatedAt >= idleNanos) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
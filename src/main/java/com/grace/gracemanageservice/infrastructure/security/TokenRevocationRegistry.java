@@ -0,0 +1,226 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.domain.entity.TokenRevocation;
+import com.grace.gracemanageservice.domain.repository.TokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory view of T_TOKEN_REVOCATION so the request path can reject revoked tokens without SQL.
+ * A bloom filter answers the common "nothing revoked for this token" case; only its (rare) positives
+ * consult the exact maps. The snapshot is immutable and swapped whole on change.
+ * Revocations never un-revoke, so a reload is merged with what is already known instead of replacing it:
+ * an entry applied locally is never lost to a concurrent reload that read the table just before it.
+ * Reloaded at startup and every refresh-ms to pick up other nodes' revocations.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final Duration retention;
+    private final double falsePositiveRate;
+
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationRegistry(TokenRevocationRepository tokenRevocationRepository,
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${security.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        // A user or role revocation must outlive every token issued before it, refresh tokens included
+        this.retention = Duration.ofSeconds(jwtTokenProvider.getRefreshTokenExpirationSeconds());
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = Snapshot.of(Map.of(), falsePositiveRate);
+    }
+
+    /**
+     * True if the token itself, its user or its role was revoked after it was issued
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        Snapshot current = snapshot;
+        if (current.isEmpty()) {
+            return false;
+        }
+        return current.revokedBefore(TokenRevocation.Kind.USER, token.userId(), token.issuedAt())
+                || current.revokedBefore(TokenRevocation.Kind.ROLE, token.roleId(), token.issuedAt())
+                || current.tokenRevoked(token.tokenId());
+    }
+
+    /**
+     * True if this one token was revoked (e.g. by logout)
+     */
+    public boolean isTokenRevoked(VerifiedToken token) {
+        Snapshot current = snapshot;
+        return !current.isEmpty() && current.tokenRevoked(token.tokenId());
+    }
+
+    /**
+     * When the user's latest committed change was recorded, or null if none is known.
+     * Anything cached about the user from before that instant is stale.
+     */
+    public Instant userRevokedAt(Long userId) {
+        return userId == null ? null : snapshot.revokedAt(TokenRevocation.Kind.USER, userId);
+    }
+
+    public void revokeToken(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            log.warn("Token for user {} has no id and cannot be revoked individually", token.username());
+            return;
+        }
+        record(TokenRevocation.token(token.tokenId(), Instant.now(), token.expiresAt()));
+    }
+
+    public void revokeUser(Long userId) {
+        Instant now = Instant.now();
+        record(TokenRevocation.user(userId, now, now.plus(retention)));
+    }
+
+    public void revokeRole(Long roleId) {
+        Instant now = Instant.now();
+        record(TokenRevocation.role(roleId, now, now.plus(retention)));
+    }
+
+    /**
+     * Claims in tokens issued before a committed user change may be stale - revoke them
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        revokeUser(event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRoleChanged(RoleChangedEvent event) {
+        revokeRole(event.roleId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-ms:5000}",
+            initialDelayString = "${security.revocation.refresh-ms:5000}")
+    public void refresh() {
+        merge(tokenRevocationRepository.findUnexpired(Instant.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-ms:3600000}",
+            initialDelayString = "${security.revocation.purge-ms:3600000}")
+    public void purge() {
+        int deleted = tokenRevocationRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired token revocations", deleted);
+        }
+    }
+
+    int size() {
+        return snapshot.entries().size();
+    }
+
+    private void record(TokenRevocation revocation) {
+        // Effective on this node immediately, on the others at their next refresh
+        merge(List.of(revocation));
+        tokenRevocationRepository.save(revocation);
+    }
+
+    private synchronized void merge(Collection<TokenRevocation> revocations) {
+        Instant now = Instant.now();
+        Map<String, TokenRevocation> entries = new HashMap<>(snapshot.entries());
+        entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        for (TokenRevocation revocation : revocations) {
+            entries.merge(revocation.kind() + ":" + revocation.subject(), revocation, TokenRevocationRegistry::latest);
+        }
+        snapshot = Snapshot.of(entries, falsePositiveRate);
+        log.debug("Token revocation snapshot holds {} entries", entries.size());
+    }
+
+    private static TokenRevocation latest(TokenRevocation a, TokenRevocation b) {
+        Instant revokedAt = a.revokedAt().isAfter(b.revokedAt()) ? a.revokedAt() : b.revokedAt();
+        Instant expiresAt = a.expiresAt().isAfter(b.expiresAt()) ? a.expiresAt() : b.expiresAt();
+        return new TokenRevocation(a.kind(), a.subject(), revokedAt, expiresAt);
+    }
+
+    private record Snapshot(Map<String, TokenRevocation> entries, LongBloomFilter filter,
+            Map<Long, Instant> users, Map<Long, Instant> roles, Map<String, Instant> tokens) {
+
+        static Snapshot of(Map<String, TokenRevocation> entries, double falsePositiveRate) {
+            LongBloomFilter filter = new LongBloomFilter(entries.size(), falsePositiveRate);
+            Map<Long, Instant> users = new HashMap<>();
+            Map<Long, Instant> roles = new HashMap<>();
+            Map<String, Instant> tokens = new HashMap<>();
+            for (TokenRevocation entry : entries.values()) {
+                switch (entry.kind()) {
+                    case USER -> {
+                        long userId = Long.parseLong(entry.subject());
+                        users.put(userId, entry.revokedAt());
+                        filter.add(idKey(TokenRevocation.Kind.USER, userId));
+                    }
+                    case ROLE -> {
+                        long roleId = Long.parseLong(entry.subject());
+                        roles.put(roleId, entry.revokedAt());
+                        filter.add(idKey(TokenRevocation.Kind.ROLE, roleId));
+                    }
+                    case TOKEN -> {
+                        tokens.put(entry.subject(), entry.expiresAt());
+                        filter.add(tokenKey(entry.subject()));
+                    }
+                }
+            }
+            return new Snapshot(Map.copyOf(entries), filter, Map.copyOf(users), Map.copyOf(roles), Map.copyOf(tokens));
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        boolean revokedBefore(TokenRevocation.Kind kind, Long id, Instant issuedAt) {
+            Instant revokedAt = id == null ? null : revokedAt(kind, id);
+            // iat has second precision: a token from the same second as the revocation is treated as older
+            return revokedAt != null && (issuedAt == null || !issuedAt.isAfter(revokedAt));
+        }
+
+        Instant revokedAt(TokenRevocation.Kind kind, long id) {
+            if (!filter.mightContain(idKey(kind, id))) {
+                return null;
+            }
+            return (kind == TokenRevocation.Kind.USER ? users : roles).get(id);
+        }
+
+        boolean tokenRevoked(String tokenId) {
+            return tokenId != null && filter.mightContain(tokenKey(tokenId)) && tokens.containsKey(tokenId);
+        }
+
+        private static long idKey(TokenRevocation.Kind kind, long id) {
+            return id * 4 + kind.ordinal();
+        }
+
+        private static long tokenKey(String tokenId) {
+            // FNV-1a over the jti characters
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < tokenId.length(); i++) {
+                hash ^= tokenId.charAt(i);
+                hash *= 0x100000001B3L;
+            }
+            return hash * 4 + TokenRevocation.Kind.TOKEN.ordinal();
+        }
+    }
+}
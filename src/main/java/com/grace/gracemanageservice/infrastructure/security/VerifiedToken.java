@@ -0,0 +1,50 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked - the result of JwtTokenProvider.verify
+ */
+public record VerifiedToken(
+        String username,
+        Long userId,
+        String email,
+        String role,
+        Long roleId,
+        long permissionMask,
+        String type,
+        String tokenId,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    static VerifiedToken from(Claims claims) {
+        Number id = claims.get("id", Number.class);
+        Number roleId = claims.get("roleId", Number.class);
+        Number permissionMask = claims.get("perm", Number.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                id != null ? id.longValue() : null,
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                roleId != null ? roleId.longValue() : null,
+                permissionMask != null ? permissionMask.longValue() : 0L,
+                claims.get("type", String.class),
+                claims.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant());
+    }
+
+    public boolean isAccessToken() {
+        return JwtTokenProvider.TOKEN_TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.TOKEN_TYPE_REFRESH.equals(type);
+    }
+
+    public boolean isExpiredAt(long epochMillis) {
+        return expiresAt.toEpochMilli() <= epochMillis;
+    }
+}
@@ -0,0 +1,87 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of tokens that already passed signature verification, keyed by the SHA-256 of the
+ * token so raw tokens are never retained. An entry is only served until the token's own expiry.
+ * When full, expired entries are swept; if none have expired, new tokens are simply not cached.
+ */
+class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    });
+
+    private final int maxSize;
+    private final ConcurrentMap<ByteBuffer, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Cached claims for the token, or null when absent or expired
+     */
+    VerifiedToken get(String token, long nowMillis) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        ByteBuffer key = digest(token);
+        VerifiedToken verified = entries.get(key);
+        if (verified != null && verified.isExpiredAt(nowMillis)) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    void put(String token, VerifiedToken verified, long nowMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            sweep(nowMillis);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(digest(token), verified);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    private void sweep(long nowMillis) {
+        // One thread sweeps; the others skip caching rather than wait
+        if (sweepLock.tryLock()) {
+            try {
+                entries.values().removeIf(verified -> verified.isExpiredAt(nowMillis));
+            } finally {
+                sweepLock.unlock();
+            }
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
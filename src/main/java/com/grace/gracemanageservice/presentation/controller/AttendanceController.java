@@ -1,22 +1,41 @@
 package com.grace.gracemanageservice.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.grace.gracemanageservice.application.service.AttendanceApplicationService;
+import com.grace.gracemanageservice.application.service.AttendanceDailyService;
+import com.grace.gracemanageservice.application.service.AttendanceExportService;
+import com.grace.gracemanageservice.application.service.CheckInIngestionService;
+import com.grace.gracemanageservice.presentation.request.BatchCheckInRequest;
 import com.grace.gracemanageservice.presentation.request.CheckInRequest;
 import com.grace.gracemanageservice.presentation.response.ApiResponse;
+import com.grace.gracemanageservice.presentation.response.AttendanceDailyResponse;
 import com.grace.gracemanageservice.presentation.response.AttendanceStatusResponse;
+import com.grace.gracemanageservice.presentation.response.BatchCheckInResponse;
+import com.grace.gracemanageservice.common.constant.AppConstants;
 import com.grace.gracemanageservice.presentation.response.CheckInRecordResponse;
+import com.grace.gracemanageservice.presentation.response.CursorPageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for attendance operations (check-in/check-out)
@@ -28,6 +47,10 @@ import java.util.List;
 public class AttendanceController {
 
     private final AttendanceApplicationService attendanceService;
+    private final CheckInIngestionService checkInIngestionService;
+    private final AttendanceDailyService attendanceDailyService;
+    private final AttendanceExportService attendanceExportService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Record a check-in for a user
@@ -38,7 +61,9 @@ public class AttendanceController {
 
         log.info("Check-in request for user: {}", request.userId());
 
-        CheckInRecordResponse response = attendanceService.checkIn(request);
+        CheckInRecordResponse response = checkInIngestionService.isEnabled()
+                ? checkInIngestionService.checkIn(request)
+                : attendanceService.checkIn(request);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -54,13 +79,32 @@ public class AttendanceController {
 
         log.info("Check-out request for user: {}", request.userId());
 
-        CheckInRecordResponse response = attendanceService.checkOut(request);
+        CheckInRecordResponse response = checkInIngestionService.isEnabled()
+                ? checkInIngestionService.checkOut(request)
+                : attendanceService.checkOut(request);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response, "Check-out recorded successfully"));
     }
 
+    /**
+     * Record a batch of check-in/check-out events captured by a kiosk or an offline device
+     * Each event carries its own user and timestamp; results are reported per item
+     */
+    @PostMapping("/events/batch")
+    public ResponseEntity<ApiResponse<BatchCheckInResponse>> recordBatch(
+            @Valid @RequestBody BatchCheckInRequest request) {
+
+        log.info("Batch attendance request with {} events", request.events().size());
+
+        BatchCheckInResponse response = attendanceService.recordBatch(request.events());
+
+        return ResponseEntity.ok(ApiResponse.success(response,
+                "Batch processed: " + response.acceptedCount() + " accepted, "
+                        + response.rejectedCount() + " rejected"));
+    }
+
     /**
      * Get current attendance status for a user
      */
@@ -86,15 +130,117 @@ public class AttendanceController {
 
         log.info("Getting attendance history for user: {}", userId);
 
-        // Default to last 30 days if not specified
-        LocalDateTime start = startDate != null
-                ? startDate.atStartOfDay()
-                : LocalDate.now().minusDays(30).atStartOfDay();
-        LocalDateTime end = endDate != null
-                ? endDate.atTime(LocalTime.MAX)
-                : LocalDate.now().atTime(LocalTime.MAX);
+        List<CheckInRecordResponse> response = attendanceService.getHistory(
+                userId, rangeStart(startDate), rangeEnd(endDate));
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Get attendance history one keyset page at a time, ordered by (timestamp, id)
+     * Pass nextCursor from the previous page as cursor to continue
+     */
+    @GetMapping("/history/{userId}/page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CheckInRecordResponse>>> getHistoryPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AppConstants.DEFAULT_PAGE_SIZE) int size) {
+
+        log.info("Getting attendance history page for user: {}", userId);
+
+        CursorPageResponse<CheckInRecordResponse> response = attendanceService.getHistoryPage(
+                userId, rangeStart(startDate), rangeEnd(endDate), cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Stream attendance history as NDJSON - one record per line, written as rows are read
+     */
+    @GetMapping(value = "/history/{userId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("Streaming attendance history for user: {}", userId);
 
-        List<CheckInRecordResponse> response = attendanceService.getHistory(userId, start, end);
+        // Fail with 404 before the response is committed
+        attendanceService.requireUser(userId);
+        LocalDateTime start = rangeStart(startDate);
+        LocalDateTime end = rangeEnd(endDate);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                // A write failure (client gone) propagates out of the row callback and closes the cursor
+                attendanceService.streamHistory(userId, start, end, record -> writeLine(generator, record));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Export every user's check-ins over a date range as CSV or NDJSON (payroll)
+     * Rows stream from a forward-only cursor; gzip-encoded when the client accepts it
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasPermission('export_data')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Exporting attendance from {} to {} as {}", startDate, endDate, format);
+
+        // Fail with 400 before the response is committed
+        AttendanceExportService.Format exportFormat = AttendanceExportService.Format.fromParameter(format);
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        attendanceExportService.validateRange(start, end);
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024)) {
+                    attendanceExportService.export(start, end, exportFormat, compressed);
+                }
+            } else {
+                attendanceExportService.export(start, end, exportFormat, out);
+            }
+        };
+
+        String filename = "attendance-" + startDate + "-" + endDate + "." + exportFormat.getExtension();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Get per-day attendance summaries (first in, last out, counts, worked minutes) for a user
+     */
+    @GetMapping("/daily/{userId}")
+    public ResponseEntity<ApiResponse<List<AttendanceDailyResponse>>> getDailySummaries(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("Getting daily attendance summaries for user: {}", userId);
+
+        List<AttendanceDailyResponse> response = attendanceDailyService.getDailySummaries(
+                userId, rangeStart(startDate).toLocalDate(), rangeEnd(endDate).toLocalDate());
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -112,4 +258,43 @@ public class AttendanceController {
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    // Default to last 30 days if not specified
+    private static LocalDateTime rangeStart(LocalDate startDate) {
+        return startDate != null
+                ? startDate.atStartOfDay()
+                : LocalDate.now().minusDays(30).atStartOfDay();
+    }
+
+    private static LocalDateTime rangeEnd(LocalDate endDate) {
+        return endDate != null
+                ? endDate.atTime(LocalTime.MAX)
+                : LocalDate.now().atTime(LocalTime.MAX);
+    }
+
+    private static void writeLine(JsonGenerator generator, CheckInRecordResponse record) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", record.id());
+            generator.writeNumberField("userId", record.userId());
+            generator.writeStringField("type", record.type());
+            generator.writeStringField("timestamp", record.timestamp().toString());
+            writeNullableNumber(generator, "latitude", record.latitude());
+            writeNullableNumber(generator, "longitude", record.longitude());
+            writeNullableNumber(generator, "accuracy", record.accuracy());
+            generator.writeStringField("address", record.address());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeNullableNumber(JsonGenerator generator, String name, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
 }
@@ -4,19 +4,25 @@ import com.grace.gracemanageservice.application.dto.LoginRequestDTO;
 import com.grace.gracemanageservice.application.dto.LoginResponseDTO;
 import com.grace.gracemanageservice.application.dto.RefreshTokenResponseDTO;
 import com.grace.gracemanageservice.domain.entity.User;
-import com.grace.gracemanageservice.domain.repository.UserRepository;
 import com.grace.gracemanageservice.domain.usecase.LoginUserUseCase;
+import com.grace.gracemanageservice.infrastructure.security.CustomUserDetails;
+import com.grace.gracemanageservice.infrastructure.security.CustomUserDetailsService;
 import com.grace.gracemanageservice.infrastructure.security.JwtTokenProvider;
+import com.grace.gracemanageservice.infrastructure.security.TokenRevocationRegistry;
+import com.grace.gracemanageservice.infrastructure.security.VerifiedToken;
 import com.grace.gracemanageservice.presentation.response.ApiResponse;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 /**
  * Authentication Controller - handles login and token refresh
+ * /me and /refresh read the user from the principal cache, not the database (see currentPrincipal)
  */
 @Slf4j
 @RestController
@@ -26,7 +32,8 @@ public class AuthController {
 
     private final LoginUserUseCase loginUserUseCase;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     /**
      * Login endpoint - authenticates user and returns access + refresh tokens
@@ -41,7 +48,8 @@ public class AuthController {
         User user = loginUserUseCase.execute(request.getUsername(), request.getPassword());
 
         // Generate tokens
-        String accessToken = jwtTokenProvider.generateAccessToken(user);
+        String accessToken = jwtTokenProvider.generateAccessToken(user,
+            userDetailsService.loadPermissions(user.getRoleId()));
         String refreshToken = jwtTokenProvider.generateRefreshToken(user);
 
         // Prepare response with tokens in body (Bearer token approach)
@@ -83,25 +91,26 @@ public class AuthController {
         String refreshToken = authHeader.substring(7);
 
         // Validate refresh token
-        if (jwtTokenProvider.validateRefreshToken(refreshToken)) {
+        VerifiedToken token = verifyOrNull(refreshToken);
+        if (token == null || !token.isRefreshToken() || tokenRevocationRegistry.isTokenRevoked(token)) {
             log.warn("Invalid or expired refresh token");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(ApiResponse.error("Invalid or expired refresh token"));
         }
 
-        // Extract username and load fresh user data from DB
-        String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
-        User user = userRepository.findByUsername(username)
-            .orElse(null);
+        // Current user and permissions from the principal cache
+        String username = token.username();
+        CustomUserDetails principal = currentPrincipal(token);
 
-        if (user == null || !user.isActive()) {
+        if (principal == null) {
             log.warn("User not found or inactive: {}", username);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(ApiResponse.error("User not found or inactive"));
         }
 
         // Generate new access token (refresh token stays the same)
-        String newAccessToken = jwtTokenProvider.generateAccessToken(user);
+        String newAccessToken = jwtTokenProvider.generateAccessToken(principal.getUser(),
+            principal.getPermissions());
 
         RefreshTokenResponseDTO response = RefreshTokenResponseDTO.builder()
             .accessToken(newAccessToken)
@@ -129,21 +138,21 @@ public class AuthController {
         String token = authHeader.substring(7);
 
         // Validate access token
-        if (!jwtTokenProvider.validateAccessToken(token)) {
+        VerifiedToken verified = verifyOrNull(token);
+        if (verified == null || !verified.isAccessToken() || tokenRevocationRegistry.isTokenRevoked(verified)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(ApiResponse.error("Invalid or expired access token"));
         }
 
-        // Extract username and load user from DB
-        String username = jwtTokenProvider.getUsernameFromToken(token);
-        User user = userRepository.findByUsername(username)
-            .orElse(null);
+        // Current user from the principal cache
+        CustomUserDetails principal = currentPrincipal(verified);
 
-        if (user == null || !user.isActive()) {
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(ApiResponse.error("User not found or inactive"));
         }
 
+        User user = principal.getUser();
         LoginResponseDTO.UserInfo userInfo = LoginResponseDTO.UserInfo.builder()
             .id(user.getId())
             .username(user.getUsername())
@@ -156,5 +165,52 @@ public class AuthController {
 
         return ResponseEntity.ok(ApiResponse.success(userInfo, "Current user retrieved"));
     }
-}
 
+    /**
+     * Logout endpoint - revokes the presented token (access or refresh) until it expires
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader("Authorization") String authHeader) {
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("Missing or invalid Authorization header"));
+        }
+
+        VerifiedToken token = verifyOrNull(authHeader.substring(7));
+        if (token == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("Invalid or expired token"));
+        }
+
+        tokenRevocationRegistry.revokeToken(token);
+        log.info("User {} logged out", token.username());
+        return ResponseEntity.ok(ApiResponse.success(null, "Logged out"));
+    }
+
+    /**
+     * The token's user from the principal cache, or null if unknown or inactive.
+     * A cached principal is reused for at most security.principal-cache.ttl-seconds, and never once
+     * the user has changed since it was loaded: changes on this node evict it on commit, and changes on
+     * other nodes are seen through the revocation registry within security.revocation.refresh-ms.
+     */
+    private CustomUserDetails currentPrincipal(VerifiedToken token) {
+        try {
+            CustomUserDetails principal = userDetailsService.loadUserByUsername(token.username(),
+                tokenRevocationRegistry.userRevokedAt(token.userId()));
+            return principal.isEnabled() ? principal : null;
+        } catch (UsernameNotFoundException ex) {
+            return null;
+        }
+    }
+
+    private VerifiedToken verifyOrNull(String token) {
+        try {
+            return jwtTokenProvider.verify(token);
+        } catch (JwtException ex) {
+            log.debug("Token rejected: {}", ex.getMessage());
+            return null;
+        }
+    }
+}
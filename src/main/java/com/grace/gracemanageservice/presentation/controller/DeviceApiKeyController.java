@@ -0,0 +1,67 @@
+package com.grace.gracemanageservice.presentation.controller;
+
+import com.grace.gracemanageservice.infrastructure.security.DeviceApiKeyRegistry;
+import com.grace.gracemanageservice.presentation.request.CreateDeviceKeyRequest;
+import com.grace.gracemanageservice.presentation.response.ApiResponse;
+import com.grace.gracemanageservice.presentation.response.DeviceApiKeyResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Device API key REST controller - issues and revokes the keys check-in kiosks authenticate with
+ * (X-Device-Key header). All endpoints require ADMIN role
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/devices/keys")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class DeviceApiKeyController {
+
+    private final DeviceApiKeyRegistry deviceApiKeyRegistry;
+
+    /**
+     * Get all device keys (without the keys themselves)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DeviceApiKeyResponse>>> getAllKeys() {
+        log.info("Getting all device keys");
+        List<DeviceApiKeyResponse> keys = deviceApiKeyRegistry.findAll().stream()
+                .map(DeviceApiKeyResponse::from)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(keys));
+    }
+
+    /**
+     * Issue a key for a device - the key is returned only in this response
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<DeviceApiKeyResponse>> issueKey(
+            @Valid @RequestBody CreateDeviceKeyRequest request) {
+        log.info("Issuing device key for: {}", request.name());
+
+        DeviceApiKeyRegistry.IssuedDeviceKey issued = deviceApiKeyRegistry.issue(request.name());
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(DeviceApiKeyResponse.issued(issued.key(), issued.rawKey()),
+                        "Device key issued - store it now, it cannot be shown again"));
+    }
+
+    /**
+     * Revoke a device key
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> revokeKey(@PathVariable Long id) {
+        log.info("Revoking device key with id: {}", id);
+        deviceApiKeyRegistry.revoke(id);
+        return ResponseEntity.ok(ApiResponse.success(null, "Device key revoked successfully"));
+    }
+}
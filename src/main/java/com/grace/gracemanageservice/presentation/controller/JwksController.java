@@ -0,0 +1,44 @@
+package com.grace.gracemanageservice.presentation.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.infrastructure.security.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public JWT verification keys (RFC 7517 JWK set) for services that verify tokens locally.
+ * The key set only changes on restart, so the body and its ETag are built once; clients cache it
+ * for max-age-seconds and revalidate with If-None-Match (answered 304 without a body).
+ */
+@RestController
+public class JwksController {
+
+    static final String JWK_SET_CONTENT_TYPE = "application/jwk-set+json";
+
+    private final String body;
+    private final String etag;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyRing keyRing, ObjectMapper objectMapper,
+            @Value("${jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) throws JsonProcessingException {
+        this.body = objectMapper.writeValueAsString(keyRing.jwkSet());
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8)) + "\"";
+        this.cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = JWK_SET_CONTENT_TYPE)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .body(body);
+    }
+}
@@ -3,17 +3,30 @@ package com.grace.gracemanageservice.presentation.controller;
 import com.grace.gracemanageservice.application.dto.UserDTO;
 import com.grace.gracemanageservice.application.mapper.UserMapper;
 import com.grace.gracemanageservice.application.service.UserApplicationService;
+import com.grace.gracemanageservice.application.service.UserImportService;
+import com.grace.gracemanageservice.common.constant.AppConstants;
+import com.grace.gracemanageservice.domain.entity.UserFilter;
 import com.grace.gracemanageservice.presentation.request.CreateUserRequest;
 import com.grace.gracemanageservice.presentation.request.UpdateUserRequest;
 import com.grace.gracemanageservice.presentation.response.ApiResponse;
+import com.grace.gracemanageservice.presentation.response.CursorPageResponse;
+import com.grace.gracemanageservice.presentation.response.UserImportResponse;
 import com.grace.gracemanageservice.presentation.response.UserResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * User REST controller - handles HTTP requests
  * Presentation layer - converts requests/responses
@@ -26,6 +39,7 @@ public class UserController {
 
     private final UserApplicationService userApplicationService;
     private final UserMapper userMapper;
+    private final UserImportService userImportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<UserResponse>> createUser(
@@ -49,12 +63,31 @@ public class UserController {
                 .body(ApiResponse.success(response, "User created successfully"));
     }
 
+    /**
+     * Bulk-create users from a text/csv body (header row of username, email, password, first_name, last_name
+     * and optional role, date_of_birth, role_id) or an application/x-ndjson body (one create-user object per
+     * line). Valid rows are created; the rest are reported by row number
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN') or hasPermission('import_data')")
+    public ResponseEntity<ApiResponse<UserImportResponse>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        log.info("Importing users from {}", contentType);
+
+        UserImportResponse response = userImportService.importUsers(body,
+                UserImportService.Format.fromContentType(contentType));
+
+        return ResponseEntity.ok(ApiResponse.success(response,
+                "Import processed: " + response.createdCount() + " created, "
+                        + response.rejectedCount() + " rejected"));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
         log.info("Getting user with id: {}", id);
 
-        UserDTO userDTO = userApplicationService.getUserById(id);
-        UserResponse response = userMapper.toResponse(userDTO);
+        UserResponse response = userApplicationService.getUserById(id);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -63,20 +96,47 @@ public class UserController {
     public ResponseEntity<ApiResponse<UserResponse>> getUserByEmail(@PathVariable String email) {
         log.info("Getting user with email: {}", email);
 
-        UserDTO userDTO = userApplicationService.getUserByEmail(email);
-        UserResponse response = userMapper.toResponse(userDTO);
+        UserResponse response = userApplicationService.getUserByEmail(email);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * List users one keyset page at a time, filtered by role, roleId, active and created date range
+     * sort is id, username or email; pass nextCursor from the previous page as cursor to continue.
+     * total=exact or total=estimate adds totalElements to the page
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<java.util.List<UserResponse>>> getAllUsers() {
-        log.info("Getting all users");
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserResponse>>> getUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Long roleId,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AppConstants.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(defaultValue = "none") String total) {
+        log.info("Getting users page");
+
+        UserFilter filter = new UserFilter(role, roleId, active, createdFrom, createdTo);
+        CursorPageResponse<UserResponse> response = userApplicationService.getUsersPage(
+                filter, sort, direction, cursor, size, total);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Search as you type over username, email and first/last name; best matches first, at most limit of them
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<UserResponse>>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Searching users: {}", q);
 
-        java.util.List<UserDTO> users = userApplicationService.getAllUsers();
-        java.util.List<UserResponse> response = users.stream()
-                .map(userMapper::toResponse)
-                .collect(java.util.stream.Collectors.toList());
+        List<UserResponse> response = userApplicationService.searchUsers(q, limit);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
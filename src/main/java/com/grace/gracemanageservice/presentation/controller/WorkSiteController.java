@@ -0,0 +1,87 @@
+package com.grace.gracemanageservice.presentation.controller;
+
+import com.grace.gracemanageservice.application.service.WorkSiteApplicationService;
+import com.grace.gracemanageservice.presentation.request.WorkSiteRequest;
+import com.grace.gracemanageservice.presentation.response.ApiResponse;
+import com.grace.gracemanageservice.presentation.response.WorkSiteResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Work site REST controller - manages the geofences check-ins are validated against
+ * All endpoints require ADMIN role
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/work-sites")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class WorkSiteController {
+
+    private final WorkSiteApplicationService workSiteApplicationService;
+
+    /**
+     * Get all work sites
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<WorkSiteResponse>>> getAllSites() {
+        log.info("Getting all work sites");
+        return ResponseEntity.ok(ApiResponse.success(workSiteApplicationService.getAllSites()));
+    }
+
+    /**
+     * Get a work site by id
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<WorkSiteResponse>> getSiteById(@PathVariable Long id) {
+        log.info("Getting work site with id: {}", id);
+        return ResponseEntity.ok(ApiResponse.success(workSiteApplicationService.getSiteById(id)));
+    }
+
+    /**
+     * Create a new work site
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<WorkSiteResponse>> createSite(@Valid @RequestBody WorkSiteRequest request) {
+        log.info("Creating work site with name: {}", request.name());
+
+        WorkSiteResponse response = workSiteApplicationService.createSite(request);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response, "Work site created successfully"));
+    }
+
+    /**
+     * Replace a work site's definition
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<WorkSiteResponse>> updateSite(
+            @PathVariable Long id,
+            @Valid @RequestBody WorkSiteRequest request) {
+        log.info("Updating work site with id: {}", id);
+
+        WorkSiteResponse response = workSiteApplicationService.updateSite(id, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Work site updated successfully"));
+    }
+
+    /**
+     * Delete a work site
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteSite(@PathVariable Long id) {
+        log.info("Deleting work site with id: {}", id);
+
+        workSiteApplicationService.deleteSite(id);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "Work site deleted successfully"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.grace.gracemanageservice.presentation.request;
+
+import com.grace.gracemanageservice.common.constant.AppConstants;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request record for bulk check-in/check-out sync
+ */
+public record BatchCheckInRequest(
+        @NotEmpty(message = "At least one event is required")
+        @Size(max = AppConstants.MAX_BATCH_EVENTS, message = "A batch may contain at most "
+                + AppConstants.MAX_BATCH_EVENTS + " events")
+        List<CheckInEventRequest> events) {
+}
@@ -0,0 +1,23 @@
+package com.grace.gracemanageservice.presentation.request;
+
+import java.time.LocalDateTime;
+
+/**
+ * One buffered check-in/check-out punch from a kiosk or offline device.
+ * Fields are validated per item by the service so one bad punch does not reject the whole batch.
+ */
+public record CheckInEventRequest(
+        Long userId,
+
+        String type,
+
+        LocalDateTime timestamp,
+
+        Double latitude,
+
+        Double longitude,
+
+        Double accuracy,
+
+        String address) {
+}
@@ -0,0 +1,12 @@
+package com.grace.gracemanageservice.presentation.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request record for issuing a device API key
+ */
+public record CreateDeviceKeyRequest(
+        @NotBlank(message = "Device name is required")
+        @Size(max = 100, message = "Device name must be at most 100 characters") String name) {
+}
@@ -0,0 +1,44 @@
+package com.grace.gracemanageservice.presentation.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request record for creating or replacing a work site
+ * Give radiusMeters for a circular site, or at least three boundary points for a polygon
+ */
+public record WorkSiteRequest(
+        @NotBlank(message = "Site name is required")
+        @Size(max = 100, message = "Site name must be at most 100 characters") String name,
+
+        @NotNull(message = "Latitude is required")
+        @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+        @DecimalMax(value = "90", message = "Latitude must be between -90 and 90") Double latitude,
+
+        @NotNull(message = "Longitude is required")
+        @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+        @DecimalMax(value = "180", message = "Longitude must be between -180 and 180") Double longitude,
+
+        @Positive(message = "Radius must be positive") Double radiusMeters,
+
+        List<@Valid Point> boundary,
+
+        Boolean active) {
+
+    public record Point(
+            @NotNull(message = "Latitude is required")
+            @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+            @DecimalMax(value = "90", message = "Latitude must be between -90 and 90") Double latitude,
+
+            @NotNull(message = "Longitude is required")
+            @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+            @DecimalMax(value = "180", message = "Longitude must be between -180 and 180") Double longitude) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.grace.gracemanageservice.presentation.response;
+
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Response record for one user's attendance summary on one day
+ */
+public record AttendanceDailyResponse(
+        Long userId,
+        LocalDate workDate,
+        LocalDateTime firstCheckIn,
+        LocalDateTime lastCheckOut,
+        int checkInCount,
+        int checkOutCount,
+        int workedMinutes) {
+
+    public static AttendanceDailyResponse from(AttendanceDaily daily) {
+        return new AttendanceDailyResponse(
+                daily.getUserId(),
+                daily.getWorkDate(),
+                daily.getFirstCheckIn(),
+                daily.getLastCheckOut(),
+                daily.getCheckInCount(),
+                daily.getCheckOutCount(),
+                daily.getWorkedMinutes());
+    }
+}
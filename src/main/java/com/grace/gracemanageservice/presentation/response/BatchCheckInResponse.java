@@ -0,0 +1,27 @@
+package com.grace.gracemanageservice.presentation.response;
+
+import java.util.List;
+
+/**
+ * Response record for bulk check-in/check-out sync - one result per submitted event, in request order
+ */
+public record BatchCheckInResponse(
+        int acceptedCount,
+        int rejectedCount,
+        List<ItemResult> results) {
+
+    public record ItemResult(
+            int index,
+            String status,
+            Long recordId,
+            String error) {
+
+        public static ItemResult accepted(int index, Long recordId) {
+            return new ItemResult(index, "accepted", recordId, null);
+        }
+
+        public static ItemResult rejected(int index, String error) {
+            return new ItemResult(index, "rejected", null, error);
+        }
+    }
+}
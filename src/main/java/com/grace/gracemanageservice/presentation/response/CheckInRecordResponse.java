@@ -1,5 +1,7 @@
 package com.grace.gracemanageservice.presentation.response;
 
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+
 import java.time.LocalDateTime;
 
 /**
@@ -14,4 +16,16 @@ public record CheckInRecordResponse(
         Double longitude,
         Double accuracy,
         String address) {
+
+    public static CheckInRecordResponse from(CheckInRecord record) {
+        return new CheckInRecordResponse(
+                record.getId(),
+                record.getUserId(),
+                record.getType().name(),
+                record.getTimestamp(),
+                record.getLatitude(),
+                record.getLongitude(),
+                record.getAccuracy(),
+                record.getAddress());
+    }
 }
@@ -0,0 +1,25 @@
+package com.grace.gracemanageservice.presentation.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One keyset page. nextCursor is null on the last page; pass it back unchanged to continue.
+ * totalElements is only present when the caller asked for a count.
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long totalElements) {
+
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return of(content, nextCursor, null);
+    }
+
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor, Long totalElements) {
+        return new CursorPageResponse<>(content, content.size(), nextCursor, nextCursor != null, totalElements);
+    }
+}
@@ -0,0 +1,30 @@
+package com.grace.gracemanageservice.presentation.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response record for device API key data
+ * key is only present in the response that issued it
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeviceApiKeyResponse(
+        Long id,
+        String name,
+        String keyPrefix,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime revokedAt,
+        String key) {
+
+    public static DeviceApiKeyResponse from(DeviceApiKey deviceApiKey) {
+        return issued(deviceApiKey, null);
+    }
+
+    public static DeviceApiKeyResponse issued(DeviceApiKey deviceApiKey, String rawKey) {
+        return new DeviceApiKeyResponse(deviceApiKey.getId(), deviceApiKey.getName(), deviceApiKey.getKeyPrefix(),
+                deviceApiKey.isActive(), deviceApiKey.getCreatedAt(), deviceApiKey.getRevokedAt(), rawKey);
+    }
+}
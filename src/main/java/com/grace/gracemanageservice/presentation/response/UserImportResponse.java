@@ -0,0 +1,21 @@
+package com.grace.gracemanageservice.presentation.response;
+
+import java.util.List;
+
+/**
+ * Response record for bulk user import - counts, plus one error per rejected row in row order
+ */
+public record UserImportResponse(
+        int createdCount,
+        int rejectedCount,
+        List<RowError> errors) {
+
+    /**
+     * row is the 1-based data row (CSV, after the header) or line (NDJSON); field is null for whole-row errors
+     */
+    public record RowError(
+            int row,
+            String field,
+            String error) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.grace.gracemanageservice.presentation.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.grace.gracemanageservice.domain.entity.UserView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,4 +33,36 @@ public class UserResponse {
     private Long roleId;
     private java.time.LocalDateTime lastCheckInTime;
     private java.time.LocalDateTime lastCheckOutTime;
+
+    /**
+     * Response straight from a projection; today is taken once per page for the age
+     */
+    public static UserResponse from(UserView user, LocalDate today) {
+        return new UserResponse(
+                user.id(),
+                user.username(),
+                user.email(),
+                user.firstName(),
+                user.lastName(),
+                user.firstName() + " " + user.lastName(),
+                user.role(),
+                user.active(),
+                user.createdAt(),
+                user.updatedAt(),
+                user.dateOfBirth() != null ? ageOn(user.dateOfBirth(), today) : null,
+                user.roleId(),
+                user.lastCheckInTime(),
+                user.lastCheckOutTime());
+    }
+
+    /**
+     * Whole years from dateOfBirth to today - Period.between(...).getYears() without the Period
+     */
+    static int ageOn(LocalDate dateOfBirth, LocalDate today) {
+        int years = today.getYear() - dateOfBirth.getYear();
+        boolean birthdayPending = today.getMonthValue() < dateOfBirth.getMonthValue()
+                || (today.getMonthValue() == dateOfBirth.getMonthValue()
+                        && today.getDayOfMonth() < dateOfBirth.getDayOfMonth());
+        return birthdayPending ? years - 1 : years;
+    }
 }
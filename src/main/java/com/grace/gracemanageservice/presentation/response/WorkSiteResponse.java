@@ -0,0 +1,27 @@
+package com.grace.gracemanageservice.presentation.response;
+
+import com.grace.gracemanageservice.domain.entity.GeoPoint;
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response record for work site data
+ */
+public record WorkSiteResponse(
+        Long id,
+        String name,
+        double latitude,
+        double longitude,
+        Double radiusMeters,
+        List<GeoPoint> boundary,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static WorkSiteResponse from(WorkSite site) {
+        return new WorkSiteResponse(site.getId(), site.getName(), site.getLatitude(), site.getLongitude(),
+                site.getRadiusMeters(), site.getBoundary(), site.isActive(), site.getCreatedAt(), site.getUpdatedAt());
+    }
+}
@@ -0,0 +1,9 @@
+-- Persisted date bucket for T_CHECK_IN_RECORD so day-scoped reads can seek instead of
+-- evaluating CAST(timestamp AS date) against every row of a user's history
+
+ALTER TABLE T_CHECK_IN_RECORD ADD work_date AS CAST(timestamp AS date) PERSISTED;
+
+-- Covers the rollup and status reads (type + timestamp) without key lookups
+CREATE INDEX idx_check_in_record_user_work_date
+    ON T_CHECK_IN_RECORD(user_id, work_date)
+    INCLUDE (type, timestamp);
@@ -0,0 +1,56 @@
+-- Monthly partitioning of T_CHECK_IN_RECORD on timestamp.
+-- Boundaries are pre-created through 2027; CheckInArchiveJob splits further months ahead of time
+-- and archives closed months out of the table. Everything before 2025 shares the first partition.
+
+CREATE PARTITION FUNCTION pf_check_in_record_month (DATETIME2) AS RANGE RIGHT FOR VALUES (
+    '2025-01-01', '2025-02-01', '2025-03-01', '2025-04-01', '2025-05-01', '2025-06-01',
+    '2025-07-01', '2025-08-01', '2025-09-01', '2025-10-01', '2025-11-01', '2025-12-01',
+    '2026-01-01', '2026-02-01', '2026-03-01', '2026-04-01', '2026-05-01', '2026-06-01',
+    '2026-07-01', '2026-08-01', '2026-09-01', '2026-10-01', '2026-11-01', '2026-12-01',
+    '2027-01-01', '2027-02-01', '2027-03-01', '2027-04-01', '2027-05-01', '2027-06-01',
+    '2027-07-01', '2027-08-01', '2027-09-01', '2027-10-01', '2027-11-01', '2027-12-01'
+);
+
+CREATE PARTITION SCHEME ps_check_in_record_month AS PARTITION pf_check_in_record_month ALL TO ([PRIMARY]);
+
+-- Rebuild the table on the partition scheme. The partitioning column must be part of the clustered key.
+CREATE TABLE T_CHECK_IN_RECORD_PARTITIONED (
+    id BIGINT IDENTITY(1,1) NOT NULL,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(10) NOT NULL, -- 'IN' or 'OUT'
+    timestamp DATETIME2 NOT NULL,
+    latitude FLOAT,
+    longitude FLOAT,
+    accuracy FLOAT,
+    address NVARCHAR(500),
+    created_at DATETIME2 DEFAULT GETDATE(),
+    work_date AS CAST(timestamp AS date) PERSISTED,
+
+    CONSTRAINT pk_check_in_record PRIMARY KEY CLUSTERED (id, timestamp)
+) ON ps_check_in_record_month(timestamp);
+
+SET IDENTITY_INSERT T_CHECK_IN_RECORD_PARTITIONED ON;
+
+INSERT INTO T_CHECK_IN_RECORD_PARTITIONED (id, user_id, type, timestamp, latitude, longitude, accuracy, address, created_at)
+SELECT id, user_id, type, timestamp, latitude, longitude, accuracy, address, created_at
+FROM T_CHECK_IN_RECORD;
+
+SET IDENTITY_INSERT T_CHECK_IN_RECORD_PARTITIONED OFF;
+
+DROP TABLE T_CHECK_IN_RECORD;
+
+EXEC sp_rename 'T_CHECK_IN_RECORD_PARTITIONED', 'T_CHECK_IN_RECORD';
+
+ALTER TABLE T_CHECK_IN_RECORD ADD CONSTRAINT fk_check_in_record_user
+    FOREIGN KEY (user_id) REFERENCES T_USER(id) ON DELETE CASCADE;
+
+-- Indexes are partition-aligned so a closed month can be truncated as a unit
+CREATE INDEX idx_check_in_record_user_id ON T_CHECK_IN_RECORD(user_id)
+    ON ps_check_in_record_month(timestamp);
+CREATE INDEX idx_check_in_record_timestamp ON T_CHECK_IN_RECORD(timestamp)
+    ON ps_check_in_record_month(timestamp);
+CREATE INDEX idx_check_in_record_user_timestamp ON T_CHECK_IN_RECORD(user_id, timestamp)
+    ON ps_check_in_record_month(timestamp);
+CREATE INDEX idx_check_in_record_user_work_date ON T_CHECK_IN_RECORD(user_id, work_date)
+    INCLUDE (type, timestamp)
+    ON ps_check_in_record_month(timestamp);
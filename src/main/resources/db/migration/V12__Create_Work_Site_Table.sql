@@ -0,0 +1,17 @@
+-- Create T_WORK_SITE: geofences that check-ins are validated against.
+-- A site is either a circle (center + radius_meters) or a polygon (boundary = 'lat lng,lat lng,...').
+
+CREATE TABLE T_WORK_SITE (
+    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    name NVARCHAR(100) NOT NULL,
+    latitude FLOAT NOT NULL,
+    longitude FLOAT NOT NULL,
+    radius_meters FLOAT,
+    boundary NVARCHAR(MAX),
+    active BIT NOT NULL DEFAULT 1,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    updated_at DATETIME2 DEFAULT GETDATE(),
+
+    CONSTRAINT uq_work_site_name UNIQUE (name),
+    CONSTRAINT chk_work_site_shape CHECK (radius_meters > 0 OR boundary IS NOT NULL)
+);
@@ -0,0 +1,17 @@
+-- Create T_TOKEN_REVOCATION: JWTs that must no longer be accepted before their own expiry.
+-- subject_type USER / ROLE revokes every token for that user id / role id issued before revoked_at;
+-- subject_type TOKEN revokes the single token whose jti is subject.
+-- Rows are only needed until every token they can match has expired (expires_at), then purged.
+
+CREATE TABLE T_TOKEN_REVOCATION (
+    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    subject_type VARCHAR(10) NOT NULL,
+    subject NVARCHAR(64) NOT NULL,
+    revoked_at DATETIME2 NOT NULL,
+    expires_at DATETIME2 NOT NULL,
+
+    CONSTRAINT chk_token_revocation_type CHECK (subject_type IN ('USER', 'ROLE', 'TOKEN'))
+);
+
+-- Refresh reads and purges by expiry
+CREATE INDEX idx_token_revocation_expires_at ON T_TOKEN_REVOCATION(expires_at);
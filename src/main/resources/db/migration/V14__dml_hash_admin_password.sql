@@ -0,0 +1,5 @@
+-- V4 seeded the admin password in plain text, which can never match a hash.
+-- Replace it with the BCrypt hash of the same password; it is re-hashed at the configured cost on first login.
+update t_user
+set password = '{bcrypt}$2b$10$BGhNPciOFC2cnrKJ3M7TfOk3rlaBIPtST.Isj46ZLj6E0FOI2CBcW'
+where username = 'admin' and password = 'admin123';
@@ -0,0 +1,15 @@
+-- Create T_DEVICE_API_KEY: credentials for shared check-in kiosks.
+-- Only an HMAC-SHA256 of each key is stored (key_hash, hex); the key itself is shown once when issued.
+-- key_prefix keeps the first characters so administrators can tell keys apart.
+
+CREATE TABLE T_DEVICE_API_KEY (
+    id BIGINT PRIMARY KEY IDENTITY(1,1),
+    name NVARCHAR(100) NOT NULL,
+    key_prefix VARCHAR(12) NOT NULL,
+    key_hash CHAR(64) NOT NULL,
+    active BIT NOT NULL DEFAULT 1,
+    created_at DATETIME2 NOT NULL,
+    revoked_at DATETIME2 NULL,
+
+    CONSTRAINT uq_device_api_key_hash UNIQUE (key_hash)
+);
@@ -0,0 +1,7 @@
+-- Indexes for the filtered user listing (/api/v1/users). Each nonclustered index carries the
+-- clustered id, so a roleId-filtered page sorted by id is a seek on (role_id, id) like idx_role is
+-- for [role]; the created range narrows to its rows instead of scanning the table.
+
+CREATE INDEX idx_user_role_id ON T_USER(role_id);
+
+CREATE INDEX idx_user_created_at ON T_USER(created_at);
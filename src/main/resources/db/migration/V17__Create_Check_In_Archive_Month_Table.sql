@@ -0,0 +1,8 @@
+-- Create T_CHECK_IN_ARCHIVE_MONTH: months of T_CHECK_IN_RECORD published as archive segment files.
+-- Every node reads its archive/live boundary from here, so a month archived by one node is served from its
+-- segment on all of them. The segment files themselves live under attendance.archive.dir, shared storage.
+
+CREATE TABLE T_CHECK_IN_ARCHIVE_MONTH (
+    archive_month DATE PRIMARY KEY,
+    archived_at DATETIME2 NOT NULL
+);
@@ -0,0 +1,20 @@
+-- Create T_ATTENDANCE_DAILY: one rollup row per user per day, maintained from the check-in write path
+
+CREATE TABLE T_ATTENDANCE_DAILY (
+    user_id BIGINT NOT NULL,
+    work_date DATE NOT NULL,
+    first_check_in DATETIME2,
+    last_check_in DATETIME2,
+    last_check_out DATETIME2,
+    check_in_count INT NOT NULL DEFAULT 0,
+    check_out_count INT NOT NULL DEFAULT 0,
+    worked_minutes INT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 1, -- bumped on every change; lets caches discard stale snapshots
+    updated_at DATETIME2 DEFAULT GETDATE(),
+
+    CONSTRAINT pk_attendance_daily PRIMARY KEY (user_id, work_date),
+    CONSTRAINT fk_attendance_daily_user FOREIGN KEY (user_id) REFERENCES T_USER(id) ON DELETE CASCADE
+);
+
+-- Day-wide reports across all users
+CREATE INDEX idx_attendance_daily_work_date ON T_ATTENDANCE_DAILY(work_date);
@@ -0,0 +1,209 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.application.event.AttendanceDailyChangedEvent;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.repository.AttendanceDailyRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.response.AttendanceStatusResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceStatusStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 10, 0);
+    private static final long MAX_AGE_MS = 15_000;
+
+    @Mock
+    private AttendanceDailyRepository attendanceDailyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MutableClock clock;
+    private AttendanceStatusStore store;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        store = new AttendanceStatusStore(attendanceDailyRepository, userRepository, clock, MAX_AGE_MS);
+        testUser = User.builder()
+                .id(1L)
+                .username("testuser")
+                .lastCheckInTime(NOW.minusHours(2))
+                .build();
+    }
+
+    @Test
+    void getStatus_shouldReadTodayRollupRowOnMiss() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(attendanceDailyRepository.findByUserIdAndWorkDate(1L, NOW.toLocalDate()))
+                .thenReturn(Optional.of(daily(1, 0, NOW.minusHours(2), null, 1)));
+
+        // Act
+        AttendanceStatusResponse status = store.getStatus(1L);
+
+        // Assert
+        assertTrue(status.isCheckedIn());
+        assertEquals(1, status.todayCheckInCount());
+        assertEquals(0, status.todayCheckOutCount());
+        assertEquals(NOW.minusHours(2), status.lastCheckInTime());
+    }
+
+    @Test
+    void getStatus_shouldNotHitDatabaseAgainAfterLoad() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(attendanceDailyRepository.findByUserIdAndWorkDate(1L, NOW.toLocalDate()))
+                .thenReturn(Optional.of(daily(1, 0, NOW.minusHours(2), null, 1)));
+        store.getStatus(1L);
+
+        // Act
+        store.onAttendanceDailyChanged(new AttendanceDailyChangedEvent(daily(1, 1, NOW.minusHours(2), NOW, 2)));
+        AttendanceStatusResponse status = store.getStatus(1L);
+
+        // Assert
+        assertFalse(status.isCheckedIn());
+        assertEquals(1, status.todayCheckInCount());
+        assertEquals(1, status.todayCheckOutCount());
+        assertEquals(NOW, status.lastCheckOutTime());
+        verify(userRepository, times(1)).findById(1L);
+        verify(attendanceDailyRepository, times(1)).findByUserIdAndWorkDate(any(), any());
+    }
+
+    @Test
+    void getStatus_shouldReReadEntryOlderThanMaxAge() {
+        // Arrange - a check-out is committed through another node, so no event reaches this one
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(attendanceDailyRepository.findByUserIdAndWorkDate(1L, NOW.toLocalDate()))
+                .thenReturn(Optional.of(daily(1, 0, NOW.minusHours(2), null, 1)))
+                .thenReturn(Optional.of(daily(1, 1, NOW.minusHours(2), NOW.plusSeconds(5), 2)));
+        store.getStatus(1L);
+
+        // Act
+        clock.set(NOW.plusSeconds(10));
+        AttendanceStatusResponse fresh = store.getStatus(1L);
+        clock.set(NOW.plusSeconds(15));
+        AttendanceStatusResponse refreshed = store.getStatus(1L);
+        AttendanceStatusResponse cached = store.getStatus(1L);
+
+        // Assert
+        assertTrue(fresh.isCheckedIn());
+        assertFalse(refreshed.isCheckedIn());
+        assertEquals(NOW.plusSeconds(5), refreshed.lastCheckOutTime());
+        assertEquals(refreshed, cached);
+        verify(attendanceDailyRepository, times(2)).findByUserIdAndWorkDate(any(), any());
+    }
+
+    @Test
+    void onAttendanceDailyChanged_shouldIgnoreOlderVersion() {
+        // Arrange - the load already saw version 2
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(attendanceDailyRepository.findByUserIdAndWorkDate(1L, NOW.toLocalDate()))
+                .thenReturn(Optional.of(daily(1, 1, NOW.minusHours(2), NOW.minusHours(1), 2)));
+        store.getStatus(1L);
+
+        // Act - the event for version 1 is delivered late
+        store.onAttendanceDailyChanged(new AttendanceDailyChangedEvent(daily(1, 0, NOW.minusHours(2), null, 1)));
+
+        // Assert
+        AttendanceStatusResponse status = store.getStatus(1L);
+        assertEquals(1, status.todayCheckOutCount());
+        assertFalse(status.isCheckedIn());
+    }
+
+    @Test
+    void getStatus_shouldRollOverAtMidnight() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(attendanceDailyRepository.findByUserIdAndWorkDate(eq(1L), any()))
+                .thenReturn(Optional.of(daily(1, 0, NOW.minusHours(2), null, 1)))
+                .thenReturn(Optional.empty());
+        store.getStatus(1L);
+
+        // Act
+        clock.set(NOW.plusDays(1));
+        AttendanceStatusResponse nextDay = store.getStatus(1L);
+        clock.set(NOW.plusDays(3));
+        store.getStatus(1L);
+
+        // Assert
+        assertEquals(0, nextDay.todayCheckInCount());
+        assertFalse(nextDay.isCheckedIn());
+        assertEquals(NOW.minusHours(2), nextDay.lastCheckInTime());
+        assertTrue(store.cachedDayCount() <= 2);
+    }
+
+    @Test
+    void onUserChanged_shouldForceReload() {
+        // Arrange
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(attendanceDailyRepository.findByUserIdAndWorkDate(eq(1L), any())).thenReturn(Optional.empty());
+        store.getStatus(1L);
+
+        // Act
+        store.onUserChanged(new UserChangedEvent(1L));
+        store.getStatus(1L);
+
+        // Assert
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    private static AttendanceDaily daily(int in, int out, LocalDateTime lastIn, LocalDateTime lastOut, long version) {
+        return AttendanceDaily.builder()
+                .userId(1L)
+                .workDate(NOW.toLocalDate())
+                .firstCheckIn(lastIn)
+                .lastCheckIn(lastIn)
+                .lastCheckOut(lastOut)
+                .checkInCount(in)
+                .checkOutCount(out)
+                .version(version)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            this.instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import com.grace.gracemanageservice.domain.entity.Role;
+import com.grace.gracemanageservice.domain.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RolePermissionCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RolePermissionCacheTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private RolePermissionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RolePermissionCache(roleRepository);
+    }
+
+    @Test
+    void isGranted_answersFromOneLoadPerRole() {
+        givenRole(5L, EnumSet.of(PermissionCode.VIEW_STATISTICS, PermissionCode.EXPORT_DATA));
+
+        assertThat(cache.isGranted(5L, PermissionCode.VIEW_STATISTICS)).isTrue();
+        assertThat(cache.isGranted(5L, "export_data")).isTrue();
+        assertThat(cache.isGranted(5L, PermissionCode.IMPORT_DATA)).isFalse();
+        assertThat(cache.isGranted(5L, "no_such_permission")).isFalse();
+        assertThat(cache.permissionsOf(5L))
+            .containsExactlyInAnyOrder(PermissionCode.VIEW_STATISTICS, PermissionCode.EXPORT_DATA);
+
+        verify(roleRepository, times(1)).findById(5L);
+    }
+
+    @Test
+    void maskOf_unknownOrMissingRole_grantsNothing() {
+        when(roleRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThat(cache.maskOf(9L)).isZero();
+        assertThat(cache.maskOf(null)).isZero();
+        assertThat(cache.isGranted(null, PermissionCode.VIEW_ROLES)).isFalse();
+    }
+
+    @Test
+    void onRoleChanged_reloadsThatRoleOnly() {
+        givenRole(5L, EnumSet.of(PermissionCode.VIEW_STATISTICS));
+        givenRole(6L, EnumSet.of(PermissionCode.VIEW_ROLES));
+        cache.maskOf(5L);
+        cache.maskOf(6L);
+
+        givenRole(5L, EnumSet.of(PermissionCode.EXPORT_DATA));
+        cache.onRoleChanged(new RoleChangedEvent(5L));
+
+        assertThat(cache.isGranted(5L, PermissionCode.VIEW_STATISTICS)).isFalse();
+        assertThat(cache.isGranted(5L, PermissionCode.EXPORT_DATA)).isTrue();
+        assertThat(cache.isGranted(6L, PermissionCode.VIEW_ROLES)).isTrue();
+        verify(roleRepository, times(1)).findById(6L);
+    }
+
+    @Test
+    void refresh_picksUpChangesMadeOnOtherNodes() {
+        givenRole(5L, EnumSet.of(PermissionCode.EXPORT_DATA));
+        assertThat(cache.isGranted(5L, PermissionCode.EXPORT_DATA)).isTrue();
+
+        // Revoked on another node: no RoleChangedEvent reaches this one
+        givenRole(5L, EnumSet.noneOf(PermissionCode.class));
+        cache.refresh();
+
+        assertThat(cache.isGranted(5L, PermissionCode.EXPORT_DATA)).isFalse();
+        verify(roleRepository, times(2)).findById(5L);
+    }
+
+    @Test
+    void maskOf_overlappingInvalidation_isNotCached() {
+        when(roleRepository.findById(5L)).thenAnswer(invocation -> {
+            // The role update commits while the old row is being read
+            cache.onRoleChanged(new RoleChangedEvent(5L));
+            return Optional.of(role(5L, EnumSet.of(PermissionCode.VIEW_STATISTICS)));
+        });
+
+        cache.maskOf(5L);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private void givenRole(Long id, EnumSet<PermissionCode> permissions) {
+        when(roleRepository.findById(id)).thenReturn(Optional.of(role(id, permissions)));
+    }
+
+    private static Role role(Long id, EnumSet<PermissionCode> permissions) {
+        return Role.builder().id(id).name("ROLE" + id).permissions(permissions).build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.domain.entity.UserView;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSearchIndexTest {
+
+    private final UserSearchIndex index = new UserSearchIndex();
+
+    @Test
+    void search_shouldMatchPrefixOfAnyField() {
+        index.put(user(1L, "john_doe", "jdoe@grace.com", "John", "Doe"));
+        index.put(user(2L, "mary", "mary.smith@grace.com", "Mary", "Smith"));
+
+        assertEquals(List.of(1L), ids(index.search("jo", 10)));
+        assertEquals(List.of(1L), ids(index.search("jdo", 10)));
+        assertEquals(List.of(2L), ids(index.search("smi", 10)));
+        assertEquals(List.of(1L), ids(index.search("johnd", 10)));
+    }
+
+    @Test
+    void search_shouldIgnoreCaseAndDiacritics() {
+        index.put(user(1L, "duc.nguyen", "duc@grace.com", "Đức", "Nguyễn"));
+
+        assertEquals(List.of(1L), ids(index.search("NGUYEN", 10)));
+        assertEquals(List.of(1L), ids(index.search("Đức Nguyễn", 10)));
+    }
+
+    @Test
+    void search_shouldRequireEveryToken() {
+        index.put(user(1L, "u1", "u1@grace.com", "Trang", "Le"));
+        index.put(user(2L, "u2", "u2@grace.com", "Trang", "Pham"));
+
+        assertEquals(List.of(1L), ids(index.search("trang le", 10)));
+        assertTrue(index.search("trang vo", 10).isEmpty());
+    }
+
+    @Test
+    void search_shouldRankExactThenPrefixThenSubstring() {
+        index.put(user(1L, "xannex", "x1@grace.com", null, null));
+        index.put(user(2L, "annabelle", "x2@grace.com", null, null));
+        index.put(user(3L, "ann", "x3@grace.com", null, null));
+
+        assertEquals(List.of(3L, 2L, 1L), ids(index.search("ann", 10)));
+    }
+
+    @Test
+    void search_shouldBreakTiesByShorterUsernameThenId() {
+        index.put(user(3L, "anna", "a3@grace.com", null, null));
+        index.put(user(2L, "annabel", "a2@grace.com", null, null));
+        index.put(user(1L, "annie", "a1@grace.com", null, null));
+
+        assertEquals(List.of(3L, 1L, 2L), ids(index.search("an", 10)));
+    }
+
+    @Test
+    void search_shortQueryOnBulkLoadedIndex_shouldMatchFullScan() {
+        List<UserSearchIndex.Entry> batch = new ArrayList<>();
+        UserSearchIndex scanned = new UserSearchIndex();
+        for (long id = 1; id <= 500; id++) {
+            UserView user = user(id, "user" + (id * 7919 % 1000), "e" + id + "@grace.com", "Ha" + id % 3, "Le");
+            batch.add(UserSearchIndex.entryOf(user));
+            // Added one by one, so nothing is in rank order and every candidate is scored
+            scanned.put(user);
+        }
+        index.putAll(batch);
+        index.put(user(501L, "h", "h@grace.com", null, null));
+        scanned.put(user(501L, "h", "h@grace.com", null, null));
+
+        for (String query : List.of("h", "ha", "u", "us", "le", "e")) {
+            assertEquals(ids(scanned.search(query, 5)), ids(index.search(query, 5)), query);
+        }
+        assertEquals(501L, index.search("h", 1).get(0).id());
+    }
+
+    @Test
+    void search_shouldHonourLimit() {
+        for (long id = 1; id <= 20; id++) {
+            index.put(user(id, "user" + id, "user" + id + "@grace.com", null, null));
+        }
+
+        assertEquals(List.of(1L, 2L, 3L), ids(index.search("user", 3)));
+        assertTrue(index.search("user", 0).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void put_shouldReplacePreviousVersionOfUser() {
+        index.put(user(1L, "alice", "alice@grace.com", "Alice", "Tran"));
+        index.put(user(1L, "alice", "alice@grace.com", "Alice", "Vo"));
+
+        assertTrue(index.search("tran", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("vo", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void remove_shouldDropUserAndSurviveCompaction() {
+        for (long id = 1; id <= 3000; id++) {
+            index.put(user(id, "user" + id, "user" + id + "@grace.com", null, null));
+        }
+        for (long id = 1; id <= 2000; id++) {
+            index.remove(id);
+        }
+
+        assertEquals(1000, index.size());
+        assertTrue(index.search("user1999", 10).isEmpty());
+        assertEquals(List.of(2001L), ids(index.search("user2001", 10)));
+    }
+
+    private static UserView user(Long id, String username, String email, String firstName, String lastName) {
+        return new UserView(id, username, email, firstName, lastName, "user", true, null, null, null, null, null,
+                null);
+    }
+
+    private static List<Long> ids(List<UserView> users) {
+        return users.stream().map(UserView::id).toList();
+    }
+}
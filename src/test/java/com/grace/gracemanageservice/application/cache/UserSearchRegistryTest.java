@@ -0,0 +1,93 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.application.event.UserCreatedEvent;
+import com.grace.gracemanageservice.domain.entity.UserView;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class UserSearchRegistryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserSearchRegistry registry = new UserSearchRegistry(userRepository, 2, 2);
+
+    @Test
+    void rebuild_shouldLoadEveryIdRange() {
+        when(userRepository.maxId()).thenReturn(5L);
+        when(userRepository.findViewsByIdRange(anyLong(), anyLong())).thenReturn(List.of());
+        when(userRepository.findViewsByIdRange(0, 2)).thenReturn(List.of(user(1L, "alice")));
+        when(userRepository.findViewsByIdRange(4, 6)).thenReturn(List.of(user(5L, "alan")));
+
+        registry.rebuild();
+
+        verify(userRepository).findViewsByIdRange(2, 4);
+        assertEquals(2, registry.size());
+        assertEquals(List.of(5L, 1L), ids(registry.search("al", 10)));
+    }
+
+    @Test
+    void rebuild_emptyDirectory_shouldLeaveEmptyIndex() {
+        when(userRepository.maxId()).thenReturn(0L);
+        when(userRepository.findViewsByIdRange(0, 1)).thenReturn(List.of());
+
+        registry.rebuild();
+
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void rebuild_shouldReplayUsersChangedWhileLoading() {
+        AtomicReference<String> currentName = new AtomicReference<>("bob");
+        when(userRepository.maxId()).thenReturn(1L);
+        when(userRepository.findViewById(1L)).thenAnswer(invocation -> Optional.of(user(1L, currentName.get())));
+        when(userRepository.findViewsByIdRange(0, 2)).thenAnswer(invocation -> {
+            List<UserView> loaded = List.of(user(1L, currentName.get()));
+            // Renamed and committed after this range was read
+            currentName.set("robert");
+            registry.onUserChanged(new UserChangedEvent(1L));
+            return loaded;
+        });
+
+        registry.rebuild();
+
+        assertTrue(registry.search("bob", 10).isEmpty());
+        assertEquals(List.of(1L), ids(registry.search("robert", 10)));
+    }
+
+    @Test
+    void onUserCreated_shouldIndexUser() {
+        when(userRepository.findViewById(3L)).thenReturn(Optional.of(user(3L, "carol")));
+
+        registry.onUserCreated(new UserCreatedEvent(3L));
+
+        assertEquals(List.of(3L), ids(registry.search("car", 10)));
+    }
+
+    @Test
+    void onUserChanged_deletedUser_shouldBeRemoved() {
+        when(userRepository.findViewById(3L)).thenReturn(Optional.of(user(3L, "carol")));
+        registry.onUserCreated(new UserCreatedEvent(3L));
+        when(userRepository.findViewById(3L)).thenReturn(Optional.empty());
+
+        registry.onUserChanged(new UserChangedEvent(3L));
+
+        assertTrue(registry.search("carol", 10).isEmpty());
+    }
+
+    private static UserView user(Long id, String username) {
+        return new UserView(id, username, username + "@grace.com", null, null, "user", true, null, null, null, null,
+                null, null);
+    }
+
+    private static List<Long> ids(List<UserView> users) {
+        return users.stream().map(UserView::id).toList();
+    }
+}
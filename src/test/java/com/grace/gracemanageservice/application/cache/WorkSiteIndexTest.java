@@ -0,0 +1,99 @@
+package com.grace.gracemanageservice.application.cache;
+
+import com.grace.gracemanageservice.domain.entity.GeoPoint;
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkSiteIndexTest {
+
+    // ~1.11 m per 0.00001 degree of latitude
+    private static final double METERS_PER_DEGREE = 111_195.08;
+
+    private static final WorkSite OFFICE = WorkSite.builder()
+            .id(1L)
+            .name("Office")
+            .latitude(10.776589)
+            .longitude(106.696540)
+            .radiusMeters(50.0)
+            .build();
+
+    // Square warehouse, roughly 110 m a side
+    private static final WorkSite WAREHOUSE = WorkSite.builder()
+            .id(2L)
+            .name("Warehouse")
+            .latitude(10.8005)
+            .longitude(106.6505)
+            .boundary(List.of(
+                    new GeoPoint(10.8000, 106.6500),
+                    new GeoPoint(10.8000, 106.6510),
+                    new GeoPoint(10.8010, 106.6510),
+                    new GeoPoint(10.8010, 106.6500)))
+            .build();
+
+    private final WorkSiteIndex index = WorkSiteIndex.build(List.of(OFFICE, WAREHOUSE), 0.01);
+
+    @Test
+    void locate_shouldMatchPointInsideRadius() {
+        double north30m = OFFICE.getLatitude() + 30 / METERS_PER_DEGREE;
+
+        assertEquals(OFFICE, index.locate(north30m, OFFICE.getLongitude(), 0).orElseThrow());
+    }
+
+    @Test
+    void locate_shouldGivePointTheBenefitOfItsAccuracy() {
+        double north70m = OFFICE.getLatitude() + 70 / METERS_PER_DEGREE;
+
+        assertTrue(index.locate(north70m, OFFICE.getLongitude(), 10).isEmpty());
+        assertEquals(OFFICE, index.locate(north70m, OFFICE.getLongitude(), 25).orElseThrow());
+    }
+
+    @Test
+    void locate_shouldMatchPointInsidePolygon() {
+        assertEquals(WAREHOUSE, index.locate(10.8003, 106.6507, 0).orElseThrow());
+        assertTrue(index.locate(10.8020, 106.6507, 0).isEmpty());
+    }
+
+    @Test
+    void locate_shouldMatchPointNearPolygonEdgeWithinAccuracy() {
+        // ~22 m south of the southern edge
+        double south = 10.8000 - 22 / METERS_PER_DEGREE;
+
+        assertTrue(index.locate(south, 106.6505, 15).isEmpty());
+        assertEquals(WAREHOUSE, index.locate(south, 106.6505, 30).orElseThrow());
+    }
+
+    @Test
+    void locate_shouldFindSiteAcrossCellBoundary() {
+        // Site centered exactly on a cell corner is reachable from all four neighbouring cells
+        WorkSite corner = WorkSite.builder().id(3L).name("Corner").latitude(10.0).longitude(106.0)
+                .radiusMeters(100.0).build();
+        WorkSiteIndex cornerIndex = WorkSiteIndex.build(List.of(corner), 0.01);
+        double offset = 50 / METERS_PER_DEGREE;
+
+        assertTrue(cornerIndex.locate(10.0 - offset, 106.0 - offset, 0).isPresent());
+        assertTrue(cornerIndex.locate(10.0 + offset, 106.0 + offset, 0).isPresent());
+        assertTrue(cornerIndex.locate(10.0 - offset, 106.0 + offset, 0).isPresent());
+    }
+
+    @Test
+    void locate_shouldPreferSiteContainingThePoint() {
+        WorkSite annex = WorkSite.builder().id(4L).name("Annex")
+                .latitude(OFFICE.getLatitude() + 90 / METERS_PER_DEGREE).longitude(OFFICE.getLongitude())
+                .radiusMeters(30.0).build();
+        WorkSiteIndex overlapping = WorkSiteIndex.build(List.of(OFFICE, annex), 0.01);
+        double north45m = OFFICE.getLatitude() + 45 / METERS_PER_DEGREE;
+
+        // Inside the office, 15 m outside the annex - both within accuracy, the office wins
+        assertEquals(OFFICE, overlapping.locate(north45m, OFFICE.getLongitude(), 20).orElseThrow());
+    }
+
+    @Test
+    void empty_shouldMatchNothing() {
+        assertTrue(WorkSiteIndex.empty().locate(OFFICE.getLatitude(), OFFICE.getLongitude(), 100).isEmpty());
+        assertEquals(0, WorkSiteIndex.empty().size());
+    }
+}
@@ -1,6 +1,7 @@
 package com.grace.gracemanageservice.application.mapper;
 
 import com.grace.gracemanageservice.application.dto.UserDTO;
+import com.grace.gracemanageservice.domain.entity.UserView;
 import com.grace.gracemanageservice.presentation.response.UserResponse;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
@@ -59,4 +60,33 @@ class UserMapperTest {
         assertEquals("John Doe", response.getFullName());
         assertNull(response.getAge());
     }
+
+    @Test
+    void projectionResponse_shouldMatchMapperResponse() {
+        // Arrange - birthdays either side of today, including a leap day
+        LocalDate today = LocalDate.now();
+        for (LocalDate dateOfBirth : new LocalDate[] {
+                today.minusYears(30), today.minusYears(30).plusDays(1), LocalDate.of(2000, 2, 29), null}) {
+            UserView view = new UserView(1L, "test", "test@example.com", "John", "Doe", "user", true,
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), dateOfBirth, 5L,
+                    LocalDateTime.of(2024, 3, 1, 8, 0), null);
+            UserDTO userDTO = UserDTO.builder()
+                    .id(1L)
+                    .username("test")
+                    .email("test@example.com")
+                    .firstName("John")
+                    .lastName("Doe")
+                    .role("user")
+                    .active(true)
+                    .createdAt(LocalDate.of(2024, 1, 1))
+                    .updatedAt(LocalDate.of(2024, 2, 1))
+                    .dateOfBirth(dateOfBirth)
+                    .roleId(5L)
+                    .lastCheckInTime(LocalDateTime.of(2024, 3, 1, 8, 0))
+                    .build();
+
+            // Act & Assert
+            assertEquals(mapper.toResponse(userDTO), UserResponse.from(view, today));
+        }
+    }
 }
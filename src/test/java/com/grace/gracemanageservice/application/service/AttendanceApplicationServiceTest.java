@@ -1,13 +1,22 @@
 package com.grace.gracemanageservice.application.service;
 
+import com.grace.gracemanageservice.application.cache.AttendanceStatusStore;
+import com.grace.gracemanageservice.application.cache.WorkSiteRegistry;
+import com.grace.gracemanageservice.application.dto.HistoryCursor;
+import com.grace.gracemanageservice.application.event.CheckInRecordedEvent;
 import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.application.exception.ValidationException;
 import com.grace.gracemanageservice.domain.entity.CheckInRecord;
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
 import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.request.CheckInEventRequest;
 import com.grace.gracemanageservice.presentation.request.CheckInRequest;
 import com.grace.gracemanageservice.presentation.response.AttendanceStatusResponse;
+import com.grace.gracemanageservice.presentation.response.BatchCheckInResponse;
 import com.grace.gracemanageservice.presentation.response.CheckInRecordResponse;
+import com.grace.gracemanageservice.presentation.response.CursorPageResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,13 +24,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +47,15 @@ class AttendanceApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AttendanceStatusStore attendanceStatusStore;
+
+    @Mock
+    private WorkSiteRegistry workSiteRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AttendanceApplicationService attendanceService;
 
@@ -54,13 +77,12 @@ class AttendanceApplicationServiceTest {
         // Arrange
         CheckInRequest request = new CheckInRequest(1L, 10.776589, 106.696540, 5.0, "Test Address");
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.update(eq(1L), any(UserChanges.class))).thenReturn(true);
         when(checkInRecordRepository.save(any(CheckInRecord.class))).thenAnswer(invocation -> {
             CheckInRecord record = invocation.getArgument(0);
             record.setId(1L);
             return record;
         });
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
         CheckInRecordResponse response = attendanceService.checkIn(request);
@@ -72,10 +94,17 @@ class AttendanceApplicationServiceTest {
         assertEquals("IN", response.type());
         assertEquals(10.776589, response.latitude());
 
-        // Verify user's lastCheckInTime was updated
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(userCaptor.capture());
-        assertNotNull(userCaptor.getValue().getLastCheckInTime());
+        // Verify only user's lastCheckInTime was written, without a read or full-row save
+        ArgumentCaptor<UserChanges> changesCaptor = ArgumentCaptor.forClass(UserChanges.class);
+        verify(userRepository).update(eq(1L), changesCaptor.capture());
+        assertEquals(Set.of(UserChanges.Field.LAST_CHECK_IN_TIME), changesCaptor.getValue().asMap().keySet());
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).save(any(User.class));
+
+        // Verify the committed record is announced for in-memory views
+        ArgumentCaptor<CheckInRecordedEvent> eventCaptor = ArgumentCaptor.forClass(CheckInRecordedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(1L, eventCaptor.getValue().records().get(0).getId());
     }
 
     @Test
@@ -83,13 +112,12 @@ class AttendanceApplicationServiceTest {
         // Arrange
         CheckInRequest request = new CheckInRequest(1L, 10.776589, 106.696540, 5.0, "Test Address");
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.update(eq(1L), any(UserChanges.class))).thenReturn(true);
         when(checkInRecordRepository.save(any(CheckInRecord.class))).thenAnswer(invocation -> {
             CheckInRecord record = invocation.getArgument(0);
             record.setId(2L);
             return record;
         });
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // Act
         CheckInRecordResponse response = attendanceService.checkOut(request);
@@ -99,78 +127,152 @@ class AttendanceApplicationServiceTest {
         assertEquals(2L, response.id());
         assertEquals("OUT", response.type());
 
-        // Verify user's lastCheckOutTime was updated
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(userCaptor.capture());
-        assertNotNull(userCaptor.getValue().getLastCheckOutTime());
+        // Verify only user's lastCheckOutTime was written
+        ArgumentCaptor<UserChanges> changesCaptor = ArgumentCaptor.forClass(UserChanges.class);
+        verify(userRepository).update(eq(1L), changesCaptor.capture());
+        assertEquals(Set.of(UserChanges.Field.LAST_CHECK_OUT_TIME), changesCaptor.getValue().asMap().keySet());
     }
 
     @Test
     void checkIn_shouldThrowExceptionWhenUserNotFound() {
         // Arrange
         CheckInRequest request = new CheckInRequest(999L, 10.776589, 106.696540, 5.0, "Test Address");
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.update(eq(999L), any(UserChanges.class))).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> attendanceService.checkIn(request));
+        verify(checkInRecordRepository, never()).save(any(CheckInRecord.class));
     }
 
     @Test
-    void getStatus_shouldReturnCorrectStatus() {
+    void checkIn_shouldRejectLocationOutsideWorkSites() {
         // Arrange
-        LocalDateTime checkInTime = LocalDateTime.now().minusHours(2);
-        testUser.setLastCheckInTime(checkInTime);
+        CheckInRequest request = new CheckInRequest(1L, 10.9, 106.9, 5.0, "Elsewhere");
+        doThrow(new ValidationException("location", "Location is outside all work sites"))
+                .when(workSiteRegistry).verify(10.9, 106.9, 5.0);
 
-        List<CheckInRecord> todayRecords = List.of(
-                CheckInRecord.builder()
-                        .id(1L)
-                        .userId(1L)
-                        .type(CheckInRecord.CheckInType.IN)
-                        .timestamp(checkInTime)
-                        .build());
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> attendanceService.checkIn(request));
+        verify(userRepository, never()).update(any(), any(UserChanges.class));
+        verify(checkInRecordRepository, never()).save(any(CheckInRecord.class));
+    }
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(checkInRecordRepository.findByUserIdAndTimestampBetween(eq(1L), any(), any()))
-                .thenReturn(todayRecords);
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordBatch_shouldInsertValidEventsAndReportRejectedOnes() {
+        // Arrange
+        LocalDateTime earlier = LocalDateTime.now().minusHours(3);
+        LocalDateTime later = LocalDateTime.now().minusHours(1);
+        List<CheckInEventRequest> events = List.of(
+                new CheckInEventRequest(1L, "IN", earlier, 10.77, 106.69, 5.0, "Kiosk"),
+                new CheckInEventRequest(1L, "IN", later, 10.77, 106.69, 5.0, "Kiosk"),
+                new CheckInEventRequest(1L, "BREAK", later, null, null, null, null),
+                new CheckInEventRequest(999L, "OUT", later, null, null, null, null),
+                new CheckInEventRequest(1L, "OUT", LocalDateTime.now().plusHours(2), null, null, null, null));
+
+        when(userRepository.findExistingIds(anyList())).thenReturn(Set.of(1L));
+        when(checkInRecordRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CheckInRecord> records = invocation.getArgument(0);
+            long id = 100;
+            for (CheckInRecord record : records) {
+                record.setId(id++);
+            }
+            return records;
+        });
+
+        // Act
+        BatchCheckInResponse response = attendanceService.recordBatch(events);
+
+        // Assert
+        assertEquals(2, response.acceptedCount());
+        assertEquals(3, response.rejectedCount());
+        assertEquals(100L, response.results().get(0).recordId());
+        assertEquals(101L, response.results().get(1).recordId());
+        assertEquals("rejected", response.results().get(2).status());
+        assertEquals("User not found with id: 999", response.results().get(3).error());
+        assertEquals("Timestamp is in the future", response.results().get(4).error());
+
+        // One multi-row insert, one set-based user check, one batched last-check update
+        verify(checkInRecordRepository).saveAll(anyList());
+        verify(checkInRecordRepository, never()).save(any(CheckInRecord.class));
+        ArgumentCaptor<Map<Long, LocalDateTime>> checkIns = ArgumentCaptor.forClass(Map.class);
+        verify(userRepository).updateLastCheckTimes(checkIns.capture(), eq(Map.of()));
+        assertEquals(Map.of(1L, later), checkIns.getValue());
+        ArgumentCaptor<CheckInRecordedEvent> recorded = ArgumentCaptor.forClass(CheckInRecordedEvent.class);
+        verify(eventPublisher).publishEvent(recorded.capture());
+        assertEquals(2, recorded.getValue().records().size());
+    }
+
+    @Test
+    void getStatus_shouldBeServedFromStatusStore() {
+        // Arrange
+        LocalDateTime checkInTime = LocalDateTime.now().minusHours(2);
+        AttendanceStatusResponse expected = new AttendanceStatusResponse(true, checkInTime, null, 1, 0);
+        when(attendanceStatusStore.getStatus(1L)).thenReturn(expected);
 
         // Act
         AttendanceStatusResponse status = attendanceService.getStatus(1L);
 
         // Assert
-        assertTrue(status.isCheckedIn());
-        assertEquals(1, status.todayCheckInCount());
-        assertEquals(0, status.todayCheckOutCount());
-        assertEquals(checkInTime, status.lastCheckInTime());
+        assertEquals(expected, status);
+        verifyNoInteractions(checkInRecordRepository, userRepository);
     }
 
     @Test
-    void getStatus_shouldReturnNotCheckedInWhenEqualCheckInsAndOuts() {
+    void getHistoryPage_shouldReturnCursorForNextPage() {
         // Arrange
-        List<CheckInRecord> todayRecords = List.of(
-                CheckInRecord.builder()
-                        .id(1L)
-                        .userId(1L)
-                        .type(CheckInRecord.CheckInType.IN)
-                        .timestamp(LocalDateTime.now().minusHours(2))
-                        .build(),
-                CheckInRecord.builder()
-                        .id(2L)
-                        .userId(1L)
-                        .type(CheckInRecord.CheckInType.OUT)
-                        .timestamp(LocalDateTime.now().minusHours(1))
-                        .build());
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        LocalDateTime end = LocalDateTime.now();
+        LocalDateTime t1 = end.minusDays(3);
+        LocalDateTime t2 = end.minusDays(2);
+        List<CheckInRecord> rows = List.of(
+                CheckInRecord.builder().id(1L).userId(1L).type(CheckInRecord.CheckInType.IN).timestamp(t1).build(),
+                CheckInRecord.builder().id(2L).userId(1L).type(CheckInRecord.CheckInType.OUT).timestamp(t2).build(),
+                CheckInRecord.builder().id(3L).userId(1L).type(CheckInRecord.CheckInType.IN).timestamp(end).build());
+
+        when(userRepository.findExistingIds(List.of(1L))).thenReturn(Set.of(1L));
+        when(checkInRecordRepository.findPageByUserIdAndTimestampBetween(
+                eq(1L), eq(start), eq(end), isNull(), isNull(), eq(3)))
+                .thenReturn(rows);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(checkInRecordRepository.findByUserIdAndTimestampBetween(eq(1L), any(), any()))
-                .thenReturn(todayRecords);
+        // Act
+        CursorPageResponse<CheckInRecordResponse> page = attendanceService.getHistoryPage(1L, start, end, null, 2);
+
+        // Assert - one extra row was fetched to detect the next page, then dropped
+        assertEquals(2, page.size());
+        assertTrue(page.hasNext());
+        assertEquals(new HistoryCursor(t2, 2L), HistoryCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void getHistoryPage_shouldSeekPastCursorOnLastPage() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        LocalDateTime end = LocalDateTime.now();
+        LocalDateTime after = end.minusDays(2);
+        String cursor = new HistoryCursor(after, 2L).encode();
+
+        when(userRepository.findExistingIds(List.of(1L))).thenReturn(Set.of(1L));
+        when(checkInRecordRepository.findPageByUserIdAndTimestampBetween(1L, start, end, after, 2L, 3))
+                .thenReturn(List.of(CheckInRecord.builder().id(3L).userId(1L)
+                        .type(CheckInRecord.CheckInType.IN).timestamp(end).build()));
 
         // Act
-        AttendanceStatusResponse status = attendanceService.getStatus(1L);
+        CursorPageResponse<CheckInRecordResponse> page = attendanceService.getHistoryPage(1L, start, end, cursor, 2);
 
         // Assert
-        assertFalse(status.isCheckedIn());
-        assertEquals(1, status.todayCheckInCount());
-        assertEquals(1, status.todayCheckOutCount());
+        assertEquals(1, page.size());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getHistoryPage_shouldRejectMalformedCursor() {
+        when(userRepository.findExistingIds(List.of(1L))).thenReturn(Set.of(1L));
+
+        assertThrows(ValidationException.class, () -> attendanceService.getHistoryPage(
+                1L, LocalDateTime.now().minusDays(1), LocalDateTime.now(), "not-a-cursor", 20));
+        verifyNoInteractions(checkInRecordRepository);
     }
 
     @Test
@@ -186,15 +288,16 @@ class AttendanceApplicationServiceTest {
                         .longitude(106.696540)
                         .build());
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(checkInRecordRepository.findByUserIdAndTimestampBetween(eq(1L), any(), any()))
+        when(userRepository.findExistingIds(List.of(1L))).thenReturn(Set.of(1L));
+        when(checkInRecordRepository.findByUserIdAndWorkDate(eq(1L), any(LocalDate.class)))
                 .thenReturn(todayRecords);
 
         // Act
         List<CheckInRecordResponse> records = attendanceService.getTodayRecords(1L);
 
-        // Assert
+        // Assert - served from the work_date bucket, not a timestamp range
         assertEquals(1, records.size());
         assertEquals("IN", records.get(0).type());
+        verify(checkInRecordRepository, never()).findByUserIdAndTimestampBetween(any(), any(), any());
     }
 }
@@ -0,0 +1,189 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.grace.gracemanageservice.application.event.AttendanceDailyChangedEvent;
+import com.grace.gracemanageservice.application.event.CheckInRecordedEvent;
+import com.grace.gracemanageservice.domain.entity.AttendanceDaily;
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+import com.grace.gracemanageservice.domain.repository.AttendanceDailyRepository;
+import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceDailyServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private AttendanceDailyRepository attendanceDailyRepository;
+
+    @Mock
+    private CheckInRecordRepository checkInRecordRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AttendanceDailyService attendanceDailyService;
+
+    @Test
+    void onCheckInRecorded_shouldFoldInOrderEventIntoExistingRow() {
+        // Arrange - checked in at 08:00
+        AttendanceDaily existing = AttendanceDaily.empty(1L, DAY);
+        existing.apply(record(1L, CheckInRecord.CheckInType.IN, DAY.atTime(8, 0)));
+        existing.setVersion(1);
+        when(attendanceDailyRepository.findByUserIdAndWorkDateForUpdate(1L, DAY)).thenReturn(Optional.of(existing));
+        when(attendanceDailyRepository.save(any(AttendanceDaily.class))).thenAnswer(invocation -> {
+            AttendanceDaily daily = invocation.getArgument(0);
+            daily.setVersion(daily.getVersion() + 1);
+            return daily;
+        });
+
+        // Act - check out at 17:30:45
+        attendanceDailyService.onCheckInRecorded(new CheckInRecordedEvent(
+                record(2L, CheckInRecord.CheckInType.OUT, DAY.atTime(17, 30, 45))));
+
+        // Assert
+        ArgumentCaptor<AttendanceDaily> saved = ArgumentCaptor.forClass(AttendanceDaily.class);
+        verify(attendanceDailyRepository).save(saved.capture());
+        assertEquals(1, saved.getValue().getCheckInCount());
+        assertEquals(1, saved.getValue().getCheckOutCount());
+        assertEquals(570, saved.getValue().getWorkedMinutes());
+        assertEquals(DAY.atTime(8, 0), saved.getValue().getFirstCheckIn());
+        verifyNoInteractions(checkInRecordRepository);
+
+        ArgumentCaptor<AttendanceDailyChangedEvent> event = ArgumentCaptor.forClass(AttendanceDailyChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(2, event.getValue().daily().getVersion());
+    }
+
+    @Test
+    void onCheckInRecorded_shouldRebuildDayForLateEvent() {
+        // Arrange - the row already has 08:00 IN and 17:00 OUT; a 12:00 OUT/13:00 IN pair syncs late
+        AttendanceDaily existing = AttendanceDaily.empty(1L, DAY);
+        existing.apply(record(1L, CheckInRecord.CheckInType.IN, DAY.atTime(8, 0)));
+        existing.apply(record(2L, CheckInRecord.CheckInType.OUT, DAY.atTime(17, 0)));
+        existing.setVersion(3);
+        when(attendanceDailyRepository.findByUserIdAndWorkDateForUpdate(1L, DAY)).thenReturn(Optional.of(existing));
+        when(checkInRecordRepository.findByUserIdAndWorkDate(1L, DAY)).thenReturn(List.of(
+                record(2L, CheckInRecord.CheckInType.OUT, DAY.atTime(17, 0)),
+                record(1L, CheckInRecord.CheckInType.IN, DAY.atTime(8, 0)),
+                record(3L, CheckInRecord.CheckInType.OUT, DAY.atTime(12, 0)),
+                record(4L, CheckInRecord.CheckInType.IN, DAY.atTime(13, 0))));
+        when(attendanceDailyRepository.save(any(AttendanceDaily.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        attendanceDailyService.onCheckInRecorded(new CheckInRecordedEvent(
+                record(4L, CheckInRecord.CheckInType.IN, DAY.atTime(13, 0))));
+
+        // Assert - 08:00-12:00 plus 13:00-17:00, version carried over for the UPDATE
+        ArgumentCaptor<AttendanceDaily> saved = ArgumentCaptor.forClass(AttendanceDaily.class);
+        verify(attendanceDailyRepository).save(saved.capture());
+        assertEquals(480, saved.getValue().getWorkedMinutes());
+        assertEquals(2, saved.getValue().getCheckInCount());
+        assertEquals(2, saved.getValue().getCheckOutCount());
+        assertEquals(3, saved.getValue().getVersion());
+    }
+
+    @Test
+    void onCheckInRecorded_shouldCreateRowOnFirstEventOfDay() {
+        // Arrange
+        when(attendanceDailyRepository.findByUserIdAndWorkDateForUpdate(1L, DAY)).thenReturn(Optional.empty());
+        when(attendanceDailyRepository.save(any(AttendanceDaily.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        attendanceDailyService.onCheckInRecorded(new CheckInRecordedEvent(
+                record(1L, CheckInRecord.CheckInType.IN, DAY.atTime(8, 0))));
+
+        // Assert
+        ArgumentCaptor<AttendanceDaily> saved = ArgumentCaptor.forClass(AttendanceDaily.class);
+        verify(attendanceDailyRepository).save(saved.capture());
+        assertEquals(0, saved.getValue().getVersion());
+        assertTrue(saved.getValue().isCheckedIn());
+    }
+
+    @Test
+    void onCheckInRecorded_shouldFoldOutOfOrderBatchOnce() {
+        // Arrange - the row has 08:00 IN and 17:00 OUT; one offline sync writes 18:00 IN, 12:00 OUT and 13:00 IN
+        AttendanceDaily existing = AttendanceDaily.empty(1L, DAY);
+        existing.apply(record(1L, CheckInRecord.CheckInType.IN, DAY.atTime(8, 0)));
+        existing.apply(record(2L, CheckInRecord.CheckInType.OUT, DAY.atTime(17, 0)));
+        existing.setVersion(3);
+        when(attendanceDailyRepository.findByUserIdAndWorkDateForUpdate(1L, DAY)).thenReturn(Optional.of(existing));
+        when(checkInRecordRepository.findByUserIdAndWorkDate(1L, DAY)).thenReturn(List.of(
+                record(1L, CheckInRecord.CheckInType.IN, DAY.atTime(8, 0)),
+                record(2L, CheckInRecord.CheckInType.OUT, DAY.atTime(17, 0)),
+                record(3L, CheckInRecord.CheckInType.IN, DAY.atTime(18, 0)),
+                record(4L, CheckInRecord.CheckInType.OUT, DAY.atTime(12, 0)),
+                record(5L, CheckInRecord.CheckInType.IN, DAY.atTime(13, 0))));
+        when(attendanceDailyRepository.save(any(AttendanceDaily.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        attendanceDailyService.onCheckInRecorded(new CheckInRecordedEvent(List.of(
+                record(3L, CheckInRecord.CheckInType.IN, DAY.atTime(18, 0)),
+                record(4L, CheckInRecord.CheckInType.OUT, DAY.atTime(12, 0)),
+                record(5L, CheckInRecord.CheckInType.IN, DAY.atTime(13, 0)))));
+
+        // Assert - one refold that already holds the whole batch, nothing applied twice
+        ArgumentCaptor<AttendanceDaily> saved = ArgumentCaptor.forClass(AttendanceDaily.class);
+        verify(attendanceDailyRepository).save(saved.capture());
+        verify(checkInRecordRepository).findByUserIdAndWorkDate(1L, DAY);
+        assertEquals(3, saved.getValue().getCheckInCount());
+        assertEquals(2, saved.getValue().getCheckOutCount());
+        assertEquals(480, saved.getValue().getWorkedMinutes());
+        assertEquals(DAY.atTime(18, 0), saved.getValue().getLastCheckIn());
+        assertEquals(3, saved.getValue().getVersion());
+        verify(eventPublisher, times(1)).publishEvent(any(AttendanceDailyChangedEvent.class));
+    }
+
+    @Test
+    void onCheckInRecorded_shouldFoldEachUserDayOfBatchSeparately() {
+        // Arrange
+        LocalDate nextDay = DAY.plusDays(1);
+        when(attendanceDailyRepository.findByUserIdAndWorkDateForUpdate(eq(1L), any())).thenReturn(Optional.empty());
+        when(attendanceDailyRepository.save(any(AttendanceDaily.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        attendanceDailyService.onCheckInRecorded(new CheckInRecordedEvent(List.of(
+                record(2L, CheckInRecord.CheckInType.IN, nextDay.atTime(8, 0)),
+                record(1L, CheckInRecord.CheckInType.IN, DAY.atTime(8, 0)),
+                record(3L, CheckInRecord.CheckInType.OUT, DAY.atTime(9, 0)))));
+
+        // Assert - locked in date order, each day written once, raw records never re-read
+        ArgumentCaptor<AttendanceDaily> saved = ArgumentCaptor.forClass(AttendanceDaily.class);
+        verify(attendanceDailyRepository, times(2)).save(saved.capture());
+        assertEquals(DAY, saved.getAllValues().get(0).getWorkDate());
+        assertEquals(60, saved.getAllValues().get(0).getWorkedMinutes());
+        assertEquals(nextDay, saved.getAllValues().get(1).getWorkDate());
+        assertTrue(saved.getAllValues().get(1).isCheckedIn());
+        verifyNoInteractions(checkInRecordRepository);
+    }
+
+    private static CheckInRecord record(Long id, CheckInRecord.CheckInType type, LocalDateTime timestamp) {
+        return CheckInRecord.builder()
+                .id(id)
+                .userId(1L)
+                .type(type)
+                .timestamp(timestamp)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.domain.entity.CheckInExportRow;
+import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceExportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 4, 1, 0, 0);
+
+    @Mock
+    private CheckInRecordRepository checkInRecordRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AttendanceExportService attendanceExportService;
+
+    @BeforeEach
+    void setUp() {
+        attendanceExportService = new AttendanceExportService(checkInRecordRepository, objectMapper, 1000);
+    }
+
+    @Test
+    void export_csv_shouldWriteHeaderAndEscapeTextColumns() throws Exception {
+        // Arrange - the repository reuses one row instance, as the JDBC reader does
+        givenRows();
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        attendanceExportService.export(START, END, AttendanceExportService.Format.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(AttendanceExportService.CSV_HEADER, lines[0]);
+        assertEquals("1,7,alice,IN,2026-03-02T08:00,10.5,106.5,,\"Floor 2, \"\"North\"\" wing\"", lines[1]);
+        assertEquals("2,7,alice,OUT,2026-03-02T17:00,,,,\"'=HYPERLINK(1)\"", lines[2]);
+        verify(checkInRecordRepository).exportByTimestampBetween(eq(START), eq(END), eq(1000), any());
+    }
+
+    @Test
+    void export_ndjson_shouldWriteOneObjectPerRow() throws Exception {
+        // Arrange
+        givenRows();
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        attendanceExportService.export(START, END, AttendanceExportService.Format.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("alice", first.get("username").asText());
+        assertEquals("2026-03-02T08:00", first.get("timestamp").asText());
+        assertTrue(first.get("accuracy").isNull());
+        assertEquals("OUT", objectMapper.readTree(lines[1]).get("type").asText());
+    }
+
+    @Test
+    void validateRange_shouldRejectArchivedMonths() {
+        when(checkInRecordRepository.archivedBefore()).thenReturn(Optional.of(START.plusDays(10)));
+
+        assertThrows(ValidationException.class, () -> attendanceExportService.validateRange(START, END));
+    }
+
+    @Test
+    void validateRange_shouldRejectInvertedRange() {
+        assertThrows(ValidationException.class, () -> attendanceExportService.validateRange(END, START));
+
+        verifyNoInteractions(checkInRecordRepository);
+    }
+
+    @Test
+    void format_shouldRejectUnknownValues() {
+        assertEquals(AttendanceExportService.Format.NDJSON, AttendanceExportService.Format.fromParameter("NDJSON"));
+        assertThrows(ValidationException.class, () -> AttendanceExportService.Format.fromParameter("xml"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows() {
+        doAnswer(invocation -> {
+            Consumer<CheckInExportRow> consumer = invocation.getArgument(3);
+            CheckInExportRow row = new CheckInExportRow();
+            row.setId(1);
+            row.setUserId(7);
+            row.setUsername("alice");
+            row.setType("IN");
+            row.setTimestamp(LocalDateTime.of(2026, 3, 2, 8, 0));
+            row.setLatitude(10.5);
+            row.setLongitude(106.5);
+            row.setAddress("Floor 2, \"North\" wing");
+            consumer.accept(row);
+
+            row.setId(2);
+            row.setType("OUT");
+            row.setTimestamp(LocalDateTime.of(2026, 3, 2, 17, 0));
+            row.setLatitude(null);
+            row.setLongitude(null);
+            row.setAddress("=HYPERLINK(1)");
+            consumer.accept(row);
+            return null;
+        }).when(checkInRecordRepository).exportByTimestampBetween(any(), any(), anyInt(), any(Consumer.class));
+    }
+}
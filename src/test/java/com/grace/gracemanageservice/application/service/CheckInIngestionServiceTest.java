@@ -0,0 +1,177 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.grace.gracemanageservice.application.event.CheckInRecordedEvent;
+import com.grace.gracemanageservice.application.cache.WorkSiteRegistry;
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.application.exception.ServiceOverloadedException;
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+import com.grace.gracemanageservice.domain.repository.CheckInRecordRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.request.CheckInRequest;
+import com.grace.gracemanageservice.presentation.response.CheckInRecordResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInIngestionServiceTest {
+
+    @Mock
+    private CheckInRecordRepository checkInRecordRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private WorkSiteRegistry workSiteRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CheckInIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ingestionService = new CheckInIngestionService(checkInRecordRepository, userRepository, transactionManager,
+                eventPublisher, workSiteRegistry, meterRegistry, true, 100, 50, 1000);
+    }
+
+    @Test
+    void writeBatch_shouldInsertAllRecordsAndUpdateLatestTimesInOneTransaction() throws Exception {
+        // Arrange
+        LocalDateTime earlier = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime later = LocalDateTime.now();
+        CheckInIngestionService.PendingCheckIn first = pending(1L, CheckInRecord.CheckInType.IN, earlier);
+        CheckInIngestionService.PendingCheckIn second = pending(1L, CheckInRecord.CheckInType.IN, later);
+        CheckInIngestionService.PendingCheckIn third = pending(2L, CheckInRecord.CheckInType.OUT, later);
+
+        when(userRepository.findExistingIds(anyList())).thenReturn(Set.of(1L, 2L));
+        when(checkInRecordRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CheckInRecord> records = invocation.getArgument(0);
+            long id = 10;
+            for (CheckInRecord record : records) {
+                record.setId(id++);
+            }
+            return records;
+        });
+
+        // Act
+        ingestionService.writeBatch(List.of(first, second, third));
+
+        // Assert
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertEquals(10L, first.ack().get().getId());
+        assertEquals(12L, third.ack().get().getId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, LocalDateTime>> checkIns = ArgumentCaptor.forClass(Map.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, LocalDateTime>> checkOuts = ArgumentCaptor.forClass(Map.class);
+        verify(userRepository).updateLastCheckTimes(checkIns.capture(), checkOuts.capture());
+        assertEquals(Map.of(1L, later), checkIns.getValue());
+        assertEquals(Map.of(2L, later), checkOuts.getValue());
+
+        ArgumentCaptor<CheckInRecordedEvent> recorded = ArgumentCaptor.forClass(CheckInRecordedEvent.class);
+        verify(eventPublisher).publishEvent(recorded.capture());
+        assertEquals(3, recorded.getValue().records().size());
+        assertEquals(3.0, meterRegistry.get("attendance.ingestion.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void writeBatch_shouldFailOnlyEventsForUnknownUsers() throws Exception {
+        // Arrange
+        CheckInIngestionService.PendingCheckIn known = pending(1L, CheckInRecord.CheckInType.IN, LocalDateTime.now());
+        CheckInIngestionService.PendingCheckIn unknown = pending(999L, CheckInRecord.CheckInType.IN,
+                LocalDateTime.now());
+
+        when(userRepository.findExistingIds(anyList())).thenReturn(Set.of(1L));
+        when(checkInRecordRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        ingestionService.writeBatch(List.of(known, unknown));
+
+        // Assert
+        assertNotNull(known.ack().get());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> unknown.ack().get());
+        assertInstanceOf(ResourceNotFoundException.class, ex.getCause());
+    }
+
+    @Test
+    void checkIn_timedOutBeforeWriterTookIt_isNeverWritten() throws Exception {
+        // Arrange - no writer running yet, so the first event sits in the queue past the ack timeout
+        ingestionService = new CheckInIngestionService(checkInRecordRepository, userRepository, transactionManager,
+                eventPublisher, workSiteRegistry, meterRegistry, true, 100, 50, 200);
+        when(userRepository.findExistingIds(anyList())).thenReturn(Set.of(2L));
+        when(checkInRecordRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        assertThrows(ServiceOverloadedException.class,
+                () -> ingestionService.checkIn(new CheckInRequest(1L, null, null, null, null)));
+        ingestionService.start();
+        ingestionService.checkIn(new CheckInRequest(2L, null, null, null, null));
+        ingestionService.stop();
+
+        // Assert - the writer drained the withdrawn event without writing it, so a retry cannot duplicate it
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CheckInRecord>> written = ArgumentCaptor.forClass(List.class);
+        verify(checkInRecordRepository).saveAll(written.capture());
+        assertEquals(List.of(2L), written.getValue().stream().map(CheckInRecord::getUserId).toList());
+        assertEquals(1.0, meterRegistry.get("attendance.ingestion.rejected").counter().count());
+    }
+
+    @Test
+    void checkIn_timedOutWhileCommitting_waitsForTheCommit() throws Exception {
+        // Arrange - the commit takes longer than the ack timeout
+        ingestionService = new CheckInIngestionService(checkInRecordRepository, userRepository, transactionManager,
+                eventPublisher, workSiteRegistry, meterRegistry, true, 100, 50, 50);
+        when(userRepository.findExistingIds(anyList())).thenReturn(Set.of(1L));
+        when(checkInRecordRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            List<CheckInRecord> records = invocation.getArgument(0);
+            records.forEach(record -> record.setId(42L));
+            return records;
+        });
+        ingestionService.start();
+
+        // Act
+        CheckInRecordResponse response = ingestionService.checkIn(new CheckInRequest(1L, null, null, null, null));
+        ingestionService.stop();
+
+        // Assert - success reported for the committed record instead of a failure inviting a retry
+        assertEquals(42L, response.id());
+        verify(checkInRecordRepository, times(1)).saveAll(anyList());
+    }
+
+    private static CheckInIngestionService.PendingCheckIn pending(Long userId, CheckInRecord.CheckInType type,
+            LocalDateTime timestamp) {
+        CheckInRecord record = CheckInRecord.builder()
+                .userId(userId)
+                .type(type)
+                .timestamp(timestamp)
+                .build();
+        return new CheckInIngestionService.PendingCheckIn(record);
+    }
+}
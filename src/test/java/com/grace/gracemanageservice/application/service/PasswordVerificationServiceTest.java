@@ -0,0 +1,148 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.grace.gracemanageservice.application.exception.ServiceOverloadedException;
+import com.grace.gracemanageservice.application.service.PasswordVerificationService.PasswordCheck;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link PasswordVerificationService} worker pool and shedding.
+ */
+class PasswordVerificationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordVerificationService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void matches_checksPasswordOnWorkerAndRecordsLatency() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        service = new PasswordVerificationService(encoder, meterRegistry, 2, 4, 2000);
+        String hash = encoder.encode("secret");
+
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("security.password.hash.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_rehashesMatchingPasswordWithLowerCost() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+        service = new PasswordVerificationService(encoder, meterRegistry, 1, 4, 2000);
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        PasswordCheck check = service.verify("secret", weakHash);
+
+        assertThat(check.matched()).isTrue();
+        assertThat(check.upgradedHash()).startsWith("$2a$05$");
+        assertThat(encoder.matches("secret", check.upgradedHash())).isTrue();
+        assertThat(service.verify("wrong", weakHash).needsUpgrade()).isFalse();
+        assertThat(service.verify("secret", check.upgradedHash()).needsUpgrade()).isFalse();
+        assertThat(meterRegistry.get("security.password.rehashed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void matchDummy_paysForOneHash() {
+        service = new PasswordVerificationService(new BCryptPasswordEncoder(4), meterRegistry, 1, 4, 2000);
+
+        service.matchDummy("anything");
+
+        assertThat(meterRegistry.get("security.password.hash.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void matches_whenPoolAndQueueAreFull_shedsImmediately() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service = new PasswordVerificationService(new BlockingEncoder(started, release), meterRegistry, 1, 1, 5000);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> service.matches("a", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> service.matches("b", "hash"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> service.matches("c", "hash"))
+            .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("security.password.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void matches_whenWaitExceedsLimit_shedsQueuedCheck() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service = new PasswordVerificationService(new BlockingEncoder(started, release), meterRegistry, 1, 4, 50);
+
+        CompletableFuture.runAsync(() -> service.matches("a", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.matches("b", "hash"))
+            .isInstanceOf(ServiceOverloadedException.class);
+        // The timed-out check is dropped from the queue and never takes a worker
+        assertThat(meterRegistry.get("security.password.queue.depth").gauge().value()).isZero();
+        release.countDown();
+    }
+
+    @Test
+    void matches_whenHashOutlastsWaitLimit_returnsResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service = new PasswordVerificationService(new BlockingEncoder(started, release), meterRegistry, 1, 4, 50);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> service.matches("a", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(150);
+        release.countDown();
+
+        // The check reached a worker in time, so its finished hash is used rather than thrown away
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("security.password.rejected").counter().count()).isZero();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("security.password.queue.depth").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Holds the first check on its worker until released
+     */
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
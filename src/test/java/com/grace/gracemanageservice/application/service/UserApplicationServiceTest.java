@@ -1,26 +1,47 @@
 package com.grace.gracemanageservice.application.service;
 
+import com.grace.gracemanageservice.application.cache.UserSearchRegistry;
+import com.grace.gracemanageservice.application.dto.UserCursor;
 import com.grace.gracemanageservice.application.dto.UserDTO;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.application.event.UserCreatedEvent;
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.application.exception.ValidationException;
 import com.grace.gracemanageservice.application.mapper.UserMapper;
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserFilter;
+import com.grace.gracemanageservice.domain.entity.UserSort;
+import com.grace.gracemanageservice.domain.entity.UserView;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
 import com.grace.gracemanageservice.domain.usecase.CreateUserUseCase;
 import com.grace.gracemanageservice.domain.usecase.UpdateUserUseCase;
 import com.grace.gracemanageservice.presentation.request.UpdateUserRequest;
+import com.grace.gracemanageservice.presentation.response.CursorPageResponse;
+import com.grace.gracemanageservice.presentation.response.UserResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +59,12 @@ class UserApplicationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserSearchRegistry userSearchRegistry;
+
     @InjectMocks
     private UserApplicationService userApplicationService;
 
@@ -87,6 +114,7 @@ class UserApplicationServiceTest {
 
         verify(createUserUseCase).execute(username, email, firstName, lastName, password, role, dob, roleId);
         verify(userMapper).toDTO(user);
+        verify(eventPublisher).publishEvent(new UserCreatedEvent(1L));
     }
 
     @Test
@@ -139,6 +167,7 @@ class UserApplicationServiceTest {
         assertEquals(request.getDateOfBirth(), result.getDateOfBirth());
         assertEquals(request.getRoleId(), result.getRoleId());
         assertEquals(request.getLastCheckInTime(), result.getLastCheckInTime());
+        verify(eventPublisher).publishEvent(new UserChangedEvent(userId));
 
         verify(updateUserUseCase).execute(
                 eq(userId),
@@ -153,4 +182,94 @@ class UserApplicationServiceTest {
                 eq(request.getLastCheckInTime()),
                 eq(request.getLastCheckOutTime()));
     }
+
+    @Test
+    void getUsersPage_fullPage_returnsCursorThatContinuesAfterLastKey() {
+        UserFilter filter = new UserFilter("user", null, true, null, null);
+        UserSort byUsername = new UserSort(UserSort.Key.USERNAME, false);
+        when(userRepository.findPage(filter, byUsername, null, 3))
+                .thenReturn(List.of(view(1L, "alice"), view(2L, "bob"), view(3L, "carol")));
+
+        CursorPageResponse<UserResponse> page = userApplicationService.getUsersPage(filter, "username", "asc", null,
+                2, "none");
+
+        assertEquals(List.of("alice", "bob"), page.content().stream().map(UserResponse::getUsername).toList());
+        assertTrue(page.hasNext());
+        assertNull(page.totalElements());
+
+        when(userRepository.findPage(filter, byUsername, "bob", 3)).thenReturn(List.of(view(3L, "carol")));
+
+        CursorPageResponse<UserResponse> next = userApplicationService.getUsersPage(filter, "username", "asc",
+                page.nextCursor(), 2, "none");
+
+        assertEquals(1, next.size());
+        assertFalse(next.hasNext());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    void getUsersPage_cursorFromAnotherSort_isRejected() {
+        String cursor = new UserCursor(new UserSort(UserSort.Key.ID, false), "10").encode();
+
+        assertThrows(ValidationException.class, () -> userApplicationService.getUsersPage(UserFilter.none(),
+                "id", "desc", cursor, 20, "none"));
+    }
+
+    @Test
+    void getUsersPage_invalidSortOrTotal_isRejected() {
+        assertThrows(ValidationException.class, () -> userApplicationService.getUsersPage(UserFilter.none(),
+                "password", "asc", null, 20, "none"));
+        assertThrows(ValidationException.class, () -> userApplicationService.getUsersPage(UserFilter.none(),
+                "id", "asc", null, 20, "all"));
+    }
+
+    @Test
+    void getUsersPage_estimatedTotal_usesMetadataOnlyWhenUnfiltered() {
+        when(userRepository.findPage(any(), any(), any(), anyInt())).thenReturn(List.of());
+        when(userRepository.estimateCount()).thenReturn(50_000L);
+        UserFilter byRole = new UserFilter(null, 5L, null, null, null);
+        when(userRepository.count(byRole)).thenReturn(120L);
+
+        assertEquals(50_000L, userApplicationService.getUsersPage(UserFilter.none(), "id", "asc", null, 20,
+                "estimate").totalElements());
+        assertEquals(120L, userApplicationService.getUsersPage(byRole, "id", "asc", null, 20,
+                "estimate").totalElements());
+        verify(userRepository, never()).count(UserFilter.none());
+    }
+
+    @Test
+    void getUserById_mapsProjectionStraightToResponse() {
+        LocalDate dateOfBirth = LocalDate.now().minusYears(30).plusDays(1);
+        when(userRepository.findViewById(1L)).thenReturn(Optional.of(new UserView(1L, "alice", "alice@example.com",
+                "Alice", "Nguyen", "user", true, null, null, dateOfBirth, 5L, null, null)));
+
+        UserResponse response = userApplicationService.getUserById(1L);
+
+        assertEquals("Alice Nguyen", response.getFullName());
+        assertEquals(29, response.getAge());
+        assertEquals(5L, response.getRoleId());
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    void getUserById_unknownUser_throws() {
+        when(userRepository.findViewById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> userApplicationService.getUserById(9L));
+    }
+
+    @Test
+    void searchUsers_capsLimitAndMapsMatchesInOrder() {
+        when(userSearchRegistry.search("al", 100)).thenReturn(List.of(view(2L, "al"), view(1L, "alice")));
+
+        List<UserResponse> results = userApplicationService.searchUsers("al", 500);
+
+        assertEquals(List.of("al", "alice"), results.stream().map(UserResponse::getUsername).toList());
+        verifyNoInteractions(userRepository);
+    }
+
+    private static UserView view(Long id, String username) {
+        return new UserView(id, username, username + "@example.com", null, null, "user", true, null, null, null,
+                null, null, null);
+    }
 }
@@ -0,0 +1,235 @@
+package com.grace.gracemanageservice.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.application.event.UsersImportedEvent;
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.domain.entity.Role;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.repository.RoleRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.response.UserImportResponse;
+import com.grace.gracemanageservice.presentation.response.UserImportResponse.RowError;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    private static final String HEADER = "username,email,password,first_name,last_name,role,date_of_birth,role_id\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // Not a mock: encode is called from the hashing pool's threads
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{test}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(userRepository, roleRepository, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                transactionManager, eventPublisher, 2, 2, 100);
+        lenient().when(roleRepository.findAll()).thenReturn(List.of(Role.builder().id(5L).name("STAFF").build()));
+        lenient().when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+        lenient().when(userRepository.findExistingUsernames(any())).thenReturn(Set.of());
+        lenient().doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(userRepository).insertAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+    }
+
+    @Test
+    void importUsers_csv_shouldHashAndInsertValidRowsInChunks() throws Exception {
+        String csv = HEADER
+                + "alice,alice@grace.com,Password1!,Alice,Nguyen,,1990-04-01,5\n"
+                + "bob,bob@grace.com,Password2!,Bob,\"Tran, Jr\",viewer,,\n"
+                + "carol,carol@grace.com,Password3!,Carol,Le,,,\n";
+
+        UserImportResponse response = userImportService.importUsers(body(csv), UserImportService.Format.CSV);
+
+        assertEquals(3, response.createdCount());
+        assertEquals(0, response.rejectedCount());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).insertAll(inserted.capture());
+        User alice = inserted.getAllValues().get(0).get(0);
+        assertEquals("{test}Password1!", alice.getPassword());
+        assertEquals("user", alice.getRole());
+        assertEquals(LocalDate.of(1990, 4, 1), alice.getDateOfBirth());
+        assertEquals(5L, alice.getRoleId());
+        assertEquals("Tran, Jr", inserted.getAllValues().get(0).get(1).getLastName());
+        verify(eventPublisher).publishEvent(new UsersImportedEvent(List.of(100L, 101L)));
+        verify(eventPublisher).publishEvent(new UsersImportedEvent(List.of(102L)));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void importUsers_shouldReportInvalidAndDuplicateRowsByRowNumber() throws Exception {
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of("Taken@grace.com"));
+        String csv = HEADER
+                + "alice,alice@grace.com,Password1!,Alice,Nguyen,,,\n"
+                + "al,short@grace.com,Password1!,Al,Vo,,,\n"
+                + "dave,dave@grace.com,Password1!,Dave,Ho,,1990-13-01,\n"
+                + "erin,erin@grace.com,Password1!,Erin,Ly,,,9\n"
+                + "alice2,ALICE@grace.com,Password1!,Alice,Pham,,,\n"
+                + "taken,taken@grace.com,Password1!,Tak,En,,,\n";
+
+        UserImportResponse response = userImportService.importUsers(body(csv), UserImportService.Format.CSV);
+
+        assertEquals(1, response.createdCount());
+        assertEquals(List.of(
+                new RowError(2, "username", "Username must be between 3 and 50 characters"),
+                new RowError(3, "dateOfBirth", "Date of birth must be an ISO date (yyyy-MM-dd)"),
+                new RowError(4, "roleId", "Role not found with id: 9"),
+                new RowError(5, "email", "Email already appears in row 1"),
+                new RowError(6, "email", "Email already exists")), response.errors());
+        assertEquals(5, response.rejectedCount());
+    }
+
+    @Test
+    void importUsers_ndjson_shouldReportMalformedLinesAndSkipBlankOnes() throws Exception {
+        String ndjson = "{\"username\":\"alice\",\"email\":\"alice@grace.com\",\"password\":\"Password1!\","
+                + "\"firstName\":\"Alice\",\"lastName\":\"Nguyen\",\"dateOfBirth\":\"1990-04-01\"}\n"
+                + "\n"
+                + "{\"username\":\"bob\",\n"
+                + "null\n"
+                + "{\"username\":\"carol\",\"email\":\"carol@grace.com\",\"password\":\"Password1!\","
+                + "\"firstName\":\"Carol\",\"lastName\":\"Le\",\"dateOfBirth\":\"1990-13-01\"}\n";
+
+        UserImportResponse response = userImportService.importUsers(body(ndjson), UserImportService.Format.NDJSON);
+
+        assertEquals(1, response.createdCount());
+        assertEquals(List.of(3, 4, 5), response.errors().stream().map(RowError::row).toList());
+        assertTrue(response.errors().get(0).error().startsWith("Malformed JSON"));
+        assertEquals("Line must be a JSON object", response.errors().get(1).error());
+        assertTrue(response.errors().get(2).error().contains("ISO date"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).insertAll(inserted.capture());
+        assertEquals(LocalDate.of(1990, 4, 1), inserted.getValue().get(0).getDateOfBirth());
+    }
+
+    @Test
+    void importUsers_csv_shouldKeepPasswordSpacesAndTrimOtherCells() throws Exception {
+        String csv = HEADER + " alice , alice@grace.com ,\"  Password1! \", Alice ,Nguyen,,,\n";
+
+        userImportService.importUsers(body(csv), UserImportService.Format.CSV);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).insertAll(inserted.capture());
+        User alice = inserted.getValue().get(0);
+        assertEquals("alice", alice.getUsername());
+        assertEquals("alice@grace.com", alice.getEmail());
+        assertEquals("{test}  Password1! ", alice.getPassword());
+    }
+
+    @Test
+    void importUsers_concurrentCreate_shouldRecheckAndInsertTheRest() throws Exception {
+        when(userRepository.findExistingUsernames(any())).thenReturn(Set.of(), Set.of("bob"));
+        doThrow(new DuplicateKeyException("UNIQUE KEY"))
+                .doAnswer(invocation -> {
+                    List<User> users = invocation.getArgument(0);
+                    users.forEach(user -> user.setId(nextId.getAndIncrement()));
+                    return null;
+                })
+                .when(userRepository).insertAll(anyList());
+        String csv = HEADER
+                + "alice,alice@grace.com,Password1!,Alice,Nguyen,,,\n"
+                + "bob,bob@grace.com,Password2!,Bob,Tran,,,\n";
+
+        UserImportResponse response = userImportService.importUsers(body(csv), UserImportService.Format.CSV);
+
+        assertEquals(1, response.createdCount());
+        assertEquals(List.of(new RowError(2, "username", "Username already exists")), response.errors());
+        verify(transactionManager).rollback(any());
+        verify(eventPublisher).publishEvent(new UsersImportedEvent(List.of(100L)));
+    }
+
+    @Test
+    void importUsers_shouldStopReadingAfterMaxRows() throws Exception {
+        userImportService.shutdown();
+        userImportService = new UserImportService(userRepository, roleRepository, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), transactionManager,
+                eventPublisher, 1, 10, 1);
+        String csv = HEADER
+                + "alice,alice@grace.com,Password1!,Alice,Nguyen,,,\n"
+                + "bob,bob@grace.com,Password2!,Bob,Tran,,,\n";
+
+        UserImportResponse response = userImportService.importUsers(body(csv), UserImportService.Format.CSV);
+
+        assertEquals(1, response.createdCount());
+        assertEquals(2, response.errors().get(0).row());
+    }
+
+    @Test
+    void importUsers_csvMissingRequiredColumn_throws() {
+        assertThrows(ValidationException.class, () -> userImportService.importUsers(
+                body("username,email,first_name,last_name\nalice,alice@grace.com,Alice,Nguyen\n"),
+                UserImportService.Format.CSV));
+        verify(userRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void format_fromContentType_acceptsCharsetAndRejectsOthers() {
+        assertEquals(UserImportService.Format.CSV,
+                UserImportService.Format.fromContentType("text/csv; charset=UTF-8"));
+        assertEquals(UserImportService.Format.NDJSON,
+                UserImportService.Format.fromContentType("application/x-ndjson"));
+        assertThrows(ValidationException.class, () -> UserImportService.Format.fromContentType("application/json"));
+    }
+
+    private static ByteArrayInputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package com.grace.gracemanageservice.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the day-scoped check-in read before and after the work_date column:
+ * CAST(timestamp AS date) = ? (index scan of the user's history) versus work_date = ?
+ * (seek on idx_check_in_record_user_work_date).
+ * Builds a scratch copy of T_CHECK_IN_RECORD with the same indexes and `rows` rows
+ * (default 5,000,000: 1,000 users x 2,500 days, about 6.8 years, of two events a day) in the local
+ * SQL Server from docker-compose.yml, and drops it afterwards. Other sizes: pass -p rows=N to JMH.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.CheckInWorkDateQueryBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CheckInWorkDateQueryBenchmark {
+
+    private static final String URL = System.getProperty("bench.url",
+            "jdbc:sqlserver://localhost:1433;databaseName=grace_db;encrypt=false;trustServerCertificate=true");
+    private static final String USER = System.getProperty("bench.user", "sa");
+    private static final String PASSWORD = System.getProperty("bench.password", "YourStrong@Password123");
+    private static final int USERS = 1000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2013, 1, 1);
+
+    @Param({"5000000"})
+    private long rows;
+
+    private Connection connection;
+    private PreparedStatement castQuery;
+    private PreparedStatement workDateQuery;
+    private int days;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        days = (int) Math.max(1, rows / USERS / 2);
+        connection = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS BENCH_CHECK_IN_RECORD");
+            statement.execute("""
+                    CREATE TABLE BENCH_CHECK_IN_RECORD (
+                        id BIGINT IDENTITY(1,1) PRIMARY KEY,
+                        user_id BIGINT NOT NULL,
+                        type VARCHAR(10) NOT NULL,
+                        timestamp DATETIME2 NOT NULL,
+                        latitude FLOAT,
+                        longitude FLOAT,
+                        accuracy FLOAT,
+                        address NVARCHAR(500),
+                        created_at DATETIME2 DEFAULT GETDATE(),
+                        work_date AS CAST(timestamp AS date) PERSISTED
+                    )""");
+            // One set-based insert: users x days x (IN 08:xx, OUT 17:xx)
+            statement.setQueryTimeout(0);
+            statement.execute("""
+                    WITH n AS (SELECT TOP (%d) ROW_NUMBER() OVER (ORDER BY (SELECT NULL)) - 1 AS i
+                               FROM sys.all_objects a CROSS JOIN sys.all_objects b CROSS JOIN sys.all_objects c)
+                    INSERT INTO BENCH_CHECK_IN_RECORD (user_id, type, timestamp, latitude, longitude, accuracy)
+                    SELECT u.i + 1, e.type,
+                           DATEADD(minute, e.base + (u.i + d.i) %% 60, DATEADD(day, d.i, CAST('%s' AS DATETIME2))),
+                           10.77, 106.69, 5.0
+                    FROM (SELECT i FROM n WHERE i < %d) u
+                    CROSS JOIN (SELECT i FROM n WHERE i < %d) d
+                    CROSS JOIN (VALUES ('IN', 480), ('OUT', 1020)) e(type, base)
+                    """.formatted(Math.max(USERS, days), FIRST_DAY, USERS, days));
+            statement.execute("CREATE INDEX idx_bench_user_timestamp ON BENCH_CHECK_IN_RECORD(user_id, timestamp)");
+            statement.execute("CREATE INDEX idx_bench_user_work_date ON BENCH_CHECK_IN_RECORD(user_id, work_date) "
+                    + "INCLUDE (type, timestamp)");
+            statement.execute("UPDATE STATISTICS BENCH_CHECK_IN_RECORD WITH FULLSCAN");
+        }
+        castQuery = connection.prepareStatement("SELECT type, timestamp FROM BENCH_CHECK_IN_RECORD "
+                + "WHERE user_id = ? AND CAST(timestamp AS date) = CAST(? AS date)");
+        workDateQuery = connection.prepareStatement("SELECT type, timestamp FROM BENCH_CHECK_IN_RECORD "
+                + "WHERE user_id = ? AND work_date = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS BENCH_CHECK_IN_RECORD");
+        }
+        connection.close();
+    }
+
+    /**
+     * Previous findByUserIdAndDate predicate
+     */
+    @Benchmark
+    public void castPredicate(Blackhole blackhole) throws SQLException {
+        run(castQuery, blackhole);
+    }
+
+    /**
+     * Current findByUserIdAndWorkDate predicate
+     */
+    @Benchmark
+    public void workDateSeek(Blackhole blackhole) throws SQLException {
+        run(workDateQuery, blackhole);
+    }
+
+    private void run(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        query.setLong(1, random.nextInt(USERS) + 1);
+        query.setDate(2, Date.valueOf(FIRST_DAY.plusDays(random.nextInt(days))));
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString(1));
+                blackhole.consume(rs.getTimestamp(2));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CheckInWorkDateQueryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+import com.grace.gracemanageservice.domain.repository.DeviceApiKeyRepository;
+import com.grace.gracemanageservice.infrastructure.security.DeviceApiKeyRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one kiosk request:
+ * a cached device key (one HMAC-SHA256 and a map lookup) versus the BCrypt verification
+ * a kiosk logging in as a user paid. No database needed - keys live in an in-memory stub.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.DeviceKeyAuthenticationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DeviceKeyAuthenticationBenchmark {
+
+    private DeviceApiKeyRegistry registry;
+    private String rawKey;
+    private BCryptPasswordEncoder bcrypt;
+    private String passwordHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new DeviceApiKeyRegistry(new InMemoryDeviceApiKeyRepository(), new SimpleMeterRegistry(),
+                "BenchmarkDeviceKeySecretAtLeast32Bytes", 3600, 10_000);
+        rawKey = registry.issue("Benchmark kiosk").rawKey();
+        bcrypt = new BCryptPasswordEncoder();
+        passwordHash = bcrypt.encode("kiosk-password");
+    }
+
+    @Benchmark
+    public DeviceApiKey deviceKeyCached() {
+        return registry.authenticate(rawKey);
+    }
+
+    /**
+     * What a kiosk logging in as a user costs per login
+     */
+    @Benchmark
+    public boolean bcryptLogin() {
+        return bcrypt.matches("kiosk-password", passwordHash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DeviceKeyAuthenticationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static final class InMemoryDeviceApiKeyRepository implements DeviceApiKeyRepository {
+
+        private final List<DeviceApiKey> keys = new ArrayList<>();
+
+        @Override
+        public List<DeviceApiKey> findAll() {
+            return keys;
+        }
+
+        @Override
+        public Optional<DeviceApiKey> findActiveByKeyHash(String keyHash) {
+            return keys.stream().filter(key -> key.isActive() && key.getKeyHash().equals(keyHash)).findFirst();
+        }
+
+        @Override
+        public DeviceApiKey save(DeviceApiKey deviceApiKey) {
+            deviceApiKey.setId((long) keys.size() + 1);
+            keys.add(deviceApiKey);
+            return deviceApiKey;
+        }
+
+        @Override
+        public boolean revoke(Long id) {
+            return keys.removeIf(key -> key.getId().equals(id));
+        }
+    }
+}
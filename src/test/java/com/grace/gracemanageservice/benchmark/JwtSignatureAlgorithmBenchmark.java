@@ -0,0 +1,68 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.infrastructure.security.JwtKeyRing;
+import com.grace.gracemanageservice.infrastructure.security.JwtTokenProvider;
+import com.grace.gracemanageservice.infrastructure.security.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token throughput per signing algorithm: HS256 (jwt.secret) versus ES256 and EdDSA (JwtKeyRing).
+ * verify is uncached (verified-cache size 0) so every call checks the signature, as a cache miss does;
+ * sign is one access token per login/refresh. No database needed.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.JwtSignatureAlgorithmBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtSignatureAlgorithmBenchmark {
+
+    private static final String SECRET = "BenchmarkSecretKeyForJwtVerificationMustBeAtLeast256Bits";
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private JwtTokenProvider provider;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtKeyRing keyRing = JwtKeyRing.HS256.equals(algorithm)
+                ? JwtKeyRing.hmac(SECRET)
+                : JwtKeyRing.generate(algorithm, SECRET, true);
+        provider = new JwtTokenProvider(keyRing, 0);
+        user = User.builder()
+                .id(1L)
+                .username("admin")
+                .email("admin@grace.com")
+                .role("admin")
+                .build();
+        token = provider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return provider.verify(token);
+    }
+
+    @Benchmark
+    public String sign() {
+        return provider.generateAccessToken(user);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtSignatureAlgorithmBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.infrastructure.security.JwtKeyRing;
+import com.grace.gracemanageservice.infrastructure.security.JwtTokenProvider;
+import com.grace.gracemanageservice.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT handling in JwtAuthenticationFilter:
+ * the previous four parses (isTokenExpired, validateToken, getTokenType, getUsernameFromToken),
+ * each building a new parser and re-checking the HMAC, versus one verify() with and without
+ * the verified-token cache. No database needed.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.JwtVerificationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "BenchmarkSecretKeyForJwtVerificationMustBeAtLeast256Bits";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider uncached;
+    private JwtTokenProvider cached;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncached = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 0);
+        cached = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 10_000);
+        token = cached.generateAccessToken(User.builder()
+                .id(1L)
+                .username("admin")
+                .email("admin@grace.com")
+                .role("admin")
+                .build());
+    }
+
+    /**
+     * Previous filter path: four independent parse-and-verify passes
+     */
+    @Benchmark
+    public String legacyFourParses() {
+        parse(token);
+        parse(token);
+        String type = parse(token).get("type", String.class);
+        String username = parse(token).getSubject();
+        return "access".equals(type) ? username : null;
+    }
+
+    @Benchmark
+    public VerifiedToken verifyOnce() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cached.verify(token);
+    }
+
+    private Claims parse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
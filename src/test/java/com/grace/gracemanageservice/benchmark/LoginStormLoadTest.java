@@ -0,0 +1,183 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.GraceManageServiceApplication;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.infrastructure.security.JwtTokenProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Attendance read latency with and without a concurrent login storm.
+ * Probe threads poll GET /api/v1/attendance/status/{userId} for a quiet phase, then again while
+ * login threads hammer POST /api/v1/auth/login; percentiles of both phases and the login outcomes
+ * (200 / 429 shed / other) are printed. Shed logins wait for their Retry-After before trying again.
+ * With BCrypt on its own bounded pool the storm saturates that pool, not the request threads or the
+ * connection pool, so the probe percentiles should stay close to the baseline.
+ * Needs the local SQL Server from docker-compose.yml (start-local.sh) with migrations applied.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.LoginStormLoadTest
+ * Optional args: probe threads, login threads, seconds per phase (default 4 200 15).
+ */
+public class LoginStormLoadTest {
+
+    private static final String STORM_USERNAME = "login-storm";
+    private static final String STORM_PASSWORD = "LoginStorm#2024";
+
+    public static void main(String[] args) throws Exception {
+        int probeThreads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int loginThreads = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration phase = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 15);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GraceManageServiceApplication.class)
+                .run("--spring.profiles.active=local", "--server.port=0", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        // Measure the password pool itself, not the per-username login throttle
+                        "--security.rate-limit.enabled=false");
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            User probeUser = stormUser(context);
+            String accessToken = context.getBean(JwtTokenProvider.class).generateAccessToken(probeUser);
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newFixedThreadPool(probeThreads + loginThreads))
+                    .build();
+
+            HttpRequest probe = HttpRequest.newBuilder(
+                            URI.create(baseUrl + "/api/v1/attendance/status/" + probeUser.getId()))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .GET()
+                    .build();
+            HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"username\":\"" + STORM_USERNAME + "\",\"password\":\"" + STORM_PASSWORD + "\"}"))
+                    .build();
+
+            // Warm up connections, JIT and caches before measuring
+            runProbes(client, probe, probeThreads, Duration.ofSeconds(3));
+
+            List<Long> baseline = runProbes(client, probe, probeThreads, phase);
+            report("baseline", baseline);
+
+            Map<Integer, AtomicLong> loginStatuses = new ConcurrentHashMap<>();
+            ExecutorService storm = Executors.newFixedThreadPool(loginThreads);
+            long stormEnds = System.nanoTime() + phase.toNanos() + TimeUnit.SECONDS.toNanos(1);
+            for (int i = 0; i < loginThreads; i++) {
+                storm.execute(() -> {
+                    while (System.nanoTime() < stormEnds) {
+                        int status = login(client, login);
+                        loginStatuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                    }
+                });
+            }
+            List<Long> duringStorm = runProbes(client, probe, probeThreads, phase);
+            storm.shutdown();
+            storm.awaitTermination(1, TimeUnit.MINUTES);
+
+            report("login storm (" + loginThreads + " clients)", duringStorm);
+            System.out.println("login responses by status: " + loginStatuses);
+        } finally {
+            context.close();
+            System.exit(0);
+        }
+    }
+
+    /**
+     * The seeded users may not have hashed passwords, so the storm logs in as its own user
+     */
+    private static User stormUser(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        String hash = context.getBean(PasswordEncoder.class).encode(STORM_PASSWORD);
+        User user = userRepository.findByUsername(STORM_USERNAME)
+                .orElseGet(() -> User.builder()
+                        .username(STORM_USERNAME)
+                        .email(STORM_USERNAME + "@grace.com")
+                        .firstName("Login")
+                        .lastName("Storm")
+                        .role("user")
+                        .active(true)
+                        .createdAt(LocalDate.now())
+                        .build());
+        user.setPassword(hash);
+        return userRepository.save(user);
+    }
+
+    private static List<Long> runProbes(HttpClient client, HttpRequest probe, int threads, Duration duration)
+            throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService probes = Executors.newFixedThreadPool(threads);
+        long endsAt = System.nanoTime() + duration.toNanos();
+        for (int i = 0; i < threads; i++) {
+            probes.execute(() -> {
+                while (System.nanoTime() < endsAt) {
+                    long start = System.nanoTime();
+                    int status = send(client, probe);
+                    if (status == 200) {
+                        latencies.add(System.nanoTime() - start);
+                    }
+                }
+            });
+        }
+        probes.shutdown();
+        probes.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return latencies;
+    }
+
+    /**
+     * A shed login waits for its Retry-After like a well-behaved client instead of retrying at once
+     */
+    private static int login(HttpClient client, HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 429) {
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+            }
+            return response.statusCode();
+        } catch (Exception ex) {
+            return -1;
+        }
+    }
+
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception ex) {
+            return -1;
+        }
+    }
+
+    private static void report(String label, List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        if (sorted.isEmpty()) {
+            System.out.printf("%-28s no successful requests%n", label);
+            return;
+        }
+        System.out.printf("%-28s n=%-7d p50=%6.2fms p95=%6.2fms p99=%6.2fms max=%6.2fms%n", label, sorted.size(),
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.get(sorted.size() - 1) / 1e6);
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1e6;
+    }
+}
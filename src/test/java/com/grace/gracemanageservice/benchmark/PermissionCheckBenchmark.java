@@ -0,0 +1,118 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.application.cache.RolePermissionCache;
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import com.grace.gracemanageservice.domain.entity.Role;
+import com.grace.gracemanageservice.domain.repository.RoleRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One permission check for a role: the previous string model (validate the code with a linear
+ * scan of PermissionCode.values(), then HashSet contains) versus the EnumSet model and the cached
+ * per-role bitmask. The role repository is an in-memory stub, so only the check itself is timed.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.PermissionCheckBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PermissionCheckBenchmark {
+
+    private static final Long ROLE_ID = 5L;
+
+    private Set<String> legacyPermissions;
+    private Role role;
+    private RolePermissionCache cache;
+
+    @Param({"view_statistics", "import_data"})
+    public String permission;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EnumSet<PermissionCode> granted = EnumSet.of(PermissionCode.VIEW_EMPLOYEES, PermissionCode.VIEW_STATISTICS,
+                PermissionCode.VIEW_CHECK_IN_OUT, PermissionCode.EXPORT_DATA, PermissionCode.VIEW_NOTIFICATIONS);
+        legacyPermissions = new HashSet<>(PermissionCode.toCodes(granted));
+        role = Role.builder().id(ROLE_ID).name("HR").permissions(granted).build();
+        cache = new RolePermissionCache(new SingleRoleRepository(role));
+        cache.maskOf(ROLE_ID);
+    }
+
+    @Benchmark
+    public boolean legacyStringSet() {
+        boolean valid = Arrays.stream(PermissionCode.values()).anyMatch(p -> p.getCode().equals(permission));
+        return valid && legacyPermissions.contains(permission);
+    }
+
+    @Benchmark
+    public boolean roleEnumSet() {
+        return role.hasPermission(permission);
+    }
+
+    @Benchmark
+    public boolean cachedDecision() {
+        return cache.isGranted(ROLE_ID, permission);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PermissionCheckBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private record SingleRoleRepository(Role role) implements RoleRepository {
+
+        @Override
+        public List<Role> findAll() {
+            return List.of(role);
+        }
+
+        @Override
+        public Optional<Role> findById(Long id) {
+            return role.getId().equals(id) ? Optional.of(role) : Optional.empty();
+        }
+
+        @Override
+        public Optional<Role> findByName(String name) {
+            return role.getName().equals(name) ? Optional.of(role) : Optional.empty();
+        }
+
+        @Override
+        public Role save(Role saved) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsById(Long id) {
+            return role.getId().equals(id);
+        }
+
+        @Override
+        public boolean existsByName(String name) {
+            return role.getName().equals(name);
+        }
+
+        @Override
+        public boolean existsByNameAndIdNot(String name, Long id) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.GraceManageServiceApplication;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the user write done by each check-in:
+ * the old read + full-row merge of T_USER versus a single-column UPDATE.
+ * Needs the local SQL Server from docker-compose.yml (start-local.sh) with migrations applied.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.UserCheckInWriteBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class UserCheckInWriteBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(GraceManageServiceApplication.class)
+                .run("--spring.profiles.active=local", "--server.port=0", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        userId = userRepository.findByUsername("admin")
+                .map(User::getId)
+                .orElseThrow(() -> new IllegalStateException("Seeded admin user not found"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Previous check-in path: load the user, set one field, merge all columns back
+     */
+    @Benchmark
+    public void fullMerge() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.setLastCheckInTime(LocalDateTime.now());
+            userRepository.save(user);
+        });
+    }
+
+    /**
+     * Current check-in path: one UPDATE of last_check_in_time, no read
+     */
+    @Benchmark
+    public boolean partialUpdate() {
+        return transactionTemplate.execute(status ->
+                userRepository.update(userId, UserChanges.lastCheckIn(LocalDateTime.now())));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserCheckInWriteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.application.service.UserImportService;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.repository.RoleRepository;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.presentation.response.UserImportResponse;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Wall time of one CSV import, with the database stubbed out: parsing, validation, uniqueness bookkeeping
+ * and BCrypt at the given cost on the given number of hashing threads. Strength 4 shows what is left
+ * once hashing is nearly free; scale the strength-10 time by rows and threads to size a real file.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.UserImportBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserImportBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"4", "10"})
+    private int bcryptStrength;
+
+    @Param({"0"})
+    private int hashParallelism;
+
+    private UserImportService importService;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(userRepository.findExistingUsernames(any())).thenReturn(Set.of());
+        AtomicLong nextId = new AtomicLong(1);
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(userRepository).insertAll(anyList());
+        RoleRepository roleRepository = mock(RoleRepository.class);
+        when(roleRepository.findAll()).thenReturn(List.of());
+
+        importService = new UserImportService(userRepository, roleRepository,
+                new BCryptPasswordEncoder(bcryptStrength), Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(), mock(PlatformTransactionManager.class), mock(ApplicationEventPublisher.class),
+                hashParallelism, 500, rows);
+
+        StringBuilder body = new StringBuilder("username,email,password,first_name,last_name\n");
+        for (int i = 1; i <= rows; i++) {
+            body.append("user_").append(i).append(",emp").append(i).append("@grace.com,Password").append(i)
+                    .append("!,First").append(i).append(",Last").append(i).append('\n');
+        }
+        csv = body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public UserImportResponse importCsv() throws Exception {
+        return importService.importUsers(new ByteArrayInputStream(csv), UserImportService.Format.CSV);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserImportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
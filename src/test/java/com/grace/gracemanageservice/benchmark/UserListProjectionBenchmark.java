@@ -0,0 +1,119 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.GraceManageServiceApplication;
+import com.grace.gracemanageservice.application.mapper.UserMapper;
+import com.grace.gracemanageservice.domain.entity.UserFilter;
+import com.grace.gracemanageservice.domain.entity.UserSort;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import com.grace.gracemanageservice.infrastructure.persistence.UserEntity;
+import com.grace.gracemanageservice.infrastructure.persistence.jpa.UserJpaRepository;
+import com.grace.gracemanageservice.presentation.response.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of the user list, read two ways:
+ * the previous path (UserEntity hydrated into the persistence context, then toDomain, UserMapper.toDTO
+ * and toResponse with Period.between) versus the UserView projection mapped straight to UserResponse.
+ * Run with the GC profiler; gc.alloc.rate.norm divided by page-size is the allocation per row.
+ * Seeds bench-projection-* users until T_USER holds at least page-size rows and deletes them afterwards.
+ * Needs the local SQL Server from docker-compose.yml (start-local.sh) with migrations applied.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.UserListProjectionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class UserListProjectionBenchmark {
+
+    private static final String SEED_PREFIX = "bench-projection-";
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private UserJpaRepository userJpaRepository;
+    private UserRepository userRepository;
+    private UserMapper userMapper;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(GraceManageServiceApplication.class)
+                .run("--spring.profiles.active=local", "--server.port=0", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        userJpaRepository = context.getBean(UserJpaRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        userMapper = context.getBean(UserMapper.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        long missing = pageSize - userRepository.count();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < missing; i++) {
+            rows.add(new Object[] {SEED_PREFIX + i, SEED_PREFIX + i + "@bench.local", "Bench", "User " + i,
+                    java.sql.Date.valueOf(LocalDate.of(1990, 1, 1).plusDays(i * 37L))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO T_USER (username, email, password, first_name, last_name, active, "
+                + "created_at, date_of_birth) VALUES (?, ?, 'x', ?, ?, 1, GETDATE(), ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM T_USER WHERE username LIKE ?", SEED_PREFIX + "%");
+        context.close();
+    }
+
+    /**
+     * Previous list path: managed entities, three object copies per row
+     */
+    @Benchmark
+    public List<UserResponse> entityMapperChain() {
+        return readOnlyTransaction.execute(status ->
+                userJpaRepository.findAll(PageRequest.of(0, pageSize, Sort.by("id"))).stream()
+                        .map(UserEntity::toDomain)
+                        .map(userMapper::toDTO)
+                        .map(userMapper::toResponse)
+                        .toList());
+    }
+
+    /**
+     * Current list path: response columns into UserView records, then UserResponse
+     */
+    @Benchmark
+    public List<UserResponse> projection() {
+        return readOnlyTransaction.execute(status -> {
+            LocalDate today = LocalDate.now();
+            return userRepository.findPage(UserFilter.none(), UserSort.DEFAULT, null, pageSize).stream()
+                    .map(user -> UserResponse.from(user, today))
+                    .toList();
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserListProjectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
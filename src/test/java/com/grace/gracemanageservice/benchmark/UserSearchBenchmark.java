@@ -0,0 +1,67 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.application.cache.UserSearchIndex;
+import com.grace.gracemanageservice.domain.entity.UserView;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead latency on a synthetic directory whose names repeat heavily, as Vietnamese family names do
+ * (a sixth of users share one): each query is a keystroke of a user typing, from the first letter on.
+ * No database needed.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.UserSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"An", "Bình", "Châu", "Dũng", "Đức", "Giang", "Hà", "Hải", "Hùng",
+            "Khánh", "Linh", "Minh", "Nam", "Ngọc", "Phương", "Quân", "Thảo", "Trang", "Tuấn", "Vy"};
+    private static final String[] LAST_NAMES = {"Nguyễn", "Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan",
+            "Vũ", "Võ", "Đặng", "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý"};
+
+    @Param({"50000"})
+    private int users;
+
+    @Param({"n", "ng", "ngu", "nguyen", "nguyen tr", "emp1234"})
+    private String query;
+
+    private UserSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<UserSearchIndex.Entry> entries = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            entries.add(UserSearchIndex.entryOf(new UserView(id, "user_" + id, "emp" + id + "@grace.com",
+                    firstName, lastName, "user", true, null, null, null, null, null, null)));
+        }
+        index = new UserSearchIndex();
+        index.putAll(entries);
+    }
+
+    @Benchmark
+    public List<UserView> search() {
+        return index.search(query, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+package com.grace.gracemanageservice.benchmark;
+
+import com.grace.gracemanageservice.application.cache.WorkSiteIndex;
+import com.grace.gracemanageservice.domain.entity.GeoPoint;
+import com.grace.gracemanageservice.domain.entity.WorkSite;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geofence lookup for one check-in: the grid index versus testing every site in turn.
+ * Sites (half circles, half polygons) are scattered over a metro-sized area; query points are
+ * a mix of hits near site centers and misses anywhere in the area. No database needed.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.grace.gracemanageservice.benchmark.WorkSiteIndexBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WorkSiteIndexBenchmark {
+
+    private static final double MIN_LAT = 10.60;
+    private static final double MIN_LNG = 106.50;
+    private static final double SPAN = 0.50;
+    private static final int QUERIES = 4096;
+
+    @Param({"1000", "10000"})
+    public int siteCount;
+
+    @Param({"10"})
+    public double accuracyMeters;
+
+    private List<WorkSite> sites;
+    private WorkSiteIndex index;
+    private WorkSiteIndex[] singles;
+    private double[] lats;
+    private double[] lngs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        sites = new ArrayList<>(siteCount);
+        for (int i = 0; i < siteCount; i++) {
+            double lat = MIN_LAT + random.nextDouble() * SPAN;
+            double lng = MIN_LNG + random.nextDouble() * SPAN;
+            WorkSite.WorkSiteBuilder site = WorkSite.builder().id((long) i).name("site-" + i)
+                    .latitude(lat).longitude(lng);
+            if (i % 2 == 0) {
+                site.radiusMeters(30 + random.nextDouble() * 170);
+            } else {
+                double half = 0.0003 + random.nextDouble() * 0.0010;
+                site.boundary(List.of(
+                        new GeoPoint(lat - half, lng - half),
+                        new GeoPoint(lat - half, lng + half),
+                        new GeoPoint(lat + half * 0.5, lng + half * 1.2),
+                        new GeoPoint(lat + half, lng),
+                        new GeoPoint(lat + half * 0.5, lng - half * 1.2)));
+            }
+            sites.add(site.build());
+        }
+        index = WorkSiteIndex.build(sites, 0.01);
+
+        // Baseline: one single-site index per site, so both paths share the same exact shape test
+        singles = sites.stream()
+                .map(site -> WorkSiteIndex.build(List.of(site), 360))
+                .toArray(WorkSiteIndex[]::new);
+
+        lats = new double[QUERIES];
+        lngs = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            if (i % 2 == 0) {
+                WorkSite site = sites.get(random.nextInt(siteCount));
+                lats[i] = site.getLatitude() + (random.nextDouble() - 0.5) * 0.0005;
+                lngs[i] = site.getLongitude() + (random.nextDouble() - 0.5) * 0.0005;
+            } else {
+                lats[i] = MIN_LAT + random.nextDouble() * SPAN;
+                lngs[i] = MIN_LNG + random.nextDouble() * SPAN;
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<WorkSite> gridIndex() {
+        int i = next++ & (QUERIES - 1);
+        return index.locate(lats[i], lngs[i], accuracyMeters);
+    }
+
+    @Benchmark
+    public Optional<WorkSite> linearScan() {
+        int i = next++ & (QUERIES - 1);
+        for (WorkSiteIndex single : singles) {
+            Optional<WorkSite> site = single.locate(lats[i], lngs[i], accuracyMeters);
+            if (site.isPresent()) {
+                return site;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public WorkSiteIndex rebuild() {
+        return WorkSiteIndex.build(sites, 0.01);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WorkSiteIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,46 @@
+package com.grace.gracemanageservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link SecurityConfig} password encoder.
+ */
+class SecurityConfigTest {
+
+    private final PasswordEncoder encoder = new SecurityConfig().passwordEncoder(5, 250);
+
+    @Test
+    void encode_prefixesBCryptHashWithConfiguredCost() {
+        String hash = encoder.encode("secret");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void legacyUnprefixedHash_matchesAndIsUpgraded() {
+        String legacy = new BCryptPasswordEncoder(5).encode("secret");
+
+        assertThat(encoder.matches("secret", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    void lowerCostHash_isUpgraded() {
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+    }
+
+    @Test
+    void seededAdminHash_matchesSeededPassword() {
+        // Hash written by V14__dml_hash_admin_password.sql
+        String seeded = "{bcrypt}$2b$10$BGhNPciOFC2cnrKJ3M7TfOk3rlaBIPtST.Isj46ZLj6E0FOI2CBcW";
+
+        assertThat(encoder.matches("admin123", seeded)).isTrue();
+        assertThat(encoder.upgradeEncoding(seeded)).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package com.grace.gracemanageservice.domain.usecase;
+
+import com.grace.gracemanageservice.application.exception.ValidationException;
+import com.grace.gracemanageservice.application.service.PasswordVerificationService;
+import com.grace.gracemanageservice.application.service.PasswordVerificationService.PasswordCheck;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginUserUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordVerificationService passwordVerificationService;
+
+    @InjectMocks
+    private LoginUserUseCase loginUserUseCase;
+
+    @Test
+    void execute_shouldReturnUser_whenPasswordMatches() {
+        User user = user(true);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(passwordVerificationService.verify("secret", "hash")).thenReturn(new PasswordCheck(true, null));
+
+        assertSame(user, loginUserUseCase.execute("alice", "secret"));
+        verify(userRepository, never()).update(any(), any());
+    }
+
+    @Test
+    void execute_shouldStoreUpgradedHash_whenStoredHashIsOutdated() {
+        User user = user(true);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(passwordVerificationService.verify("secret", "hash"))
+                .thenReturn(new PasswordCheck(true, "{bcrypt}stronger"));
+
+        loginUserUseCase.execute("alice", "secret");
+
+        verify(userRepository).update(1L, new UserChanges().password("{bcrypt}stronger"));
+        assertEquals("{bcrypt}stronger", user.getPassword());
+    }
+
+    @Test
+    void execute_shouldStillLogIn_whenStoringUpgradedHashFails() {
+        User user = user(true);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(passwordVerificationService.verify("secret", "hash"))
+                .thenReturn(new PasswordCheck(true, "{bcrypt}stronger"));
+        when(userRepository.update(1L, new UserChanges().password("{bcrypt}stronger")))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertSame(user, loginUserUseCase.execute("alice", "secret"));
+        assertEquals("hash", user.getPassword());
+    }
+
+    @Test
+    void execute_shouldPayDummyHash_whenUsernameIsUnknown() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> loginUserUseCase.execute("ghost", "secret"));
+
+        assertEquals("Invalid username or password", ex.getMessage());
+        verify(passwordVerificationService).matchDummy("secret");
+    }
+
+    @Test
+    void execute_shouldRejectWrongPassword_evenForInactiveAccount() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user(false)));
+        when(passwordVerificationService.verify("wrong", "hash")).thenReturn(new PasswordCheck(false, null));
+
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> loginUserUseCase.execute("alice", "wrong"));
+
+        assertEquals("Invalid username or password", ex.getMessage());
+    }
+
+    @Test
+    void execute_shouldRejectInactiveAccount_whenPasswordMatches() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user(false)));
+        when(passwordVerificationService.verify("secret", "hash")).thenReturn(new PasswordCheck(true, null));
+
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> loginUserUseCase.execute("alice", "secret"));
+
+        assertEquals("Account is inactive", ex.getMessage());
+    }
+
+    private static User user(boolean active) {
+        return User.builder()
+                .id(1L)
+                .username("alice")
+                .password("hash")
+                .active(active)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.grace.gracemanageservice.domain.usecase;
 
 import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.entity.UserChanges;
 import com.grace.gracemanageservice.domain.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,7 +53,7 @@ class UpdateUserUseCaseTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(roleRepository.existsById(newRoleId)).thenReturn(true);
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.update(eq(userId), any(UserChanges.class))).thenReturn(true);
 
         // Act
         User result = updateUserUseCase.execute(userId, "New", "Name", "new@example.com", "admin", newDob, newRoleId,
@@ -64,7 +67,15 @@ class UpdateUserUseCaseTest {
         assertEquals(newDob, result.getDateOfBirth());
         assertEquals(newRoleId, result.getRoleId());
 
-        verify(userRepository).save(existingUser);
+        // Only the changed columns are written - no full-row save
+        verify(userRepository).update(userId, new UserChanges()
+                .firstName("New")
+                .lastName("Name")
+                .email("new@example.com")
+                .role("admin")
+                .dateOfBirth(newDob)
+                .roleId(newRoleId));
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -0,0 +1,35 @@
+package com.grace.gracemanageservice.infrastructure.persistence;
+
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PermissionCodeConverter} and how RoleEntity treats unknown stored codes.
+ */
+class PermissionCodeConverterTest {
+
+    private final PermissionCodeConverter converter = new PermissionCodeConverter();
+
+    @Test
+    void convertToEntityAttribute_unknownCode_isNull() {
+        assertThat(converter.convertToEntityAttribute("export_data")).isEqualTo(PermissionCode.EXPORT_DATA);
+        assertThat(converter.convertToEntityAttribute("retired_permission")).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void toDomain_skipsUnknownCodes() {
+        Set<PermissionCode> stored = new HashSet<>();
+        stored.add(PermissionCode.VIEW_ROLES);
+        stored.add(converter.convertToEntityAttribute("retired_permission"));
+
+        RoleEntity entity = RoleEntity.builder().id(5L).name("STAFF").permissions(stored).build();
+
+        assertThat(entity.toDomain().getPermissions()).containsExactly(PermissionCode.VIEW_ROLES);
+    }
+}
@@ -0,0 +1,119 @@
+package com.grace.gracemanageservice.infrastructure.persistence.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.nio.file.Path;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInArchiveJobTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 1);
+    private static final String SETTLED_QUERY = "SELECT DATEADD(month, 1, MAX(archive_month)) "
+            + "FROM T_CHECK_IN_ARCHIVE_MONTH WHERE archived_at <= DATEADD(millisecond, ?, SYSUTCDATETIME())";
+    private static final String LEFTOVER_QUERY =
+            "SELECT MIN(timestamp) FROM T_CHECK_IN_RECORD WHERE timestamp >= ? AND timestamp < ?";
+    private static final String RELEASE = "{call sp_releaseapplock(?, 'Session')}";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private CallableStatement lock;
+
+    @TempDir
+    Path directory;
+
+    private CheckInArchive archive;
+    private CheckInArchiveJob job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        archive = new CheckInArchive(jdbcTemplate, directory.toString());
+        job = new CheckInArchiveJob(jdbcTemplate, archive, true, 3, 3, 60_000);
+        // One partition per month, numbered by month, so every month is an exact partition
+        lenient().when(jdbcTemplate.queryForObject(startsWith("SELECT $PARTITION"), eq(Integer.class), any()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime time = invocation.<Timestamp>getArgument(2).toLocalDateTime();
+                    return time.getYear() * 12 + time.getMonthValue();
+                });
+        lenient().when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        lenient().when(connection.prepareCall(anyString())).thenReturn(lock);
+    }
+
+    @Test
+    void onApplicationReady_shouldEmptySettledMonthWithoutRewritingItsSegment() throws Exception {
+        // Arrange - January was published by an earlier run, more than two refresh intervals ago
+        job.publishMonth(MONTH);
+        assertTrue(archive.contains(MONTH));
+        verify(jdbcTemplate, never()).execute(startsWith("TRUNCATE TABLE"));
+        Timestamp february = Timestamp.valueOf(MONTH.plusMonths(1).atDay(1).atStartOfDay());
+        when(jdbcTemplate.queryForObject(SETTLED_QUERY, Timestamp.class, -120_000)).thenReturn(february);
+        when(jdbcTemplate.queryForObject(eq(LEFTOVER_QUERY), eq(Timestamp.class), any(), any()))
+                .thenReturn(Timestamp.valueOf(MONTH.atDay(15).atTime(8, 0)), (Timestamp) null);
+
+        // Act
+        job.onApplicationReady();
+
+        // Assert - January's rows are removed without writing the segment again, then the lock is released
+        verify(jdbcTemplate).execute("TRUNCATE TABLE T_CHECK_IN_RECORD WITH (PARTITIONS (" + (2025 * 12 + 1) + "))");
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verify(jdbcTemplate).queryForObject(LEFTOVER_QUERY, Timestamp.class,
+                Timestamp.valueOf(LocalDateTime.of(1900, 1, 1, 0, 0)), february);
+        verify(jdbcTemplate).queryForObject(LEFTOVER_QUERY, Timestamp.class, february, february);
+        verify(connection).prepareCall(RELEASE);
+    }
+
+    @Test
+    void onApplicationReady_withNothingSettled_shouldKeepLiveRows() {
+        // Arrange - published just now, so other nodes may still read January from the live table
+        job.publishMonth(MONTH);
+
+        // Act
+        job.onApplicationReady();
+
+        // Assert
+        verify(jdbcTemplate).queryForObject(SETTLED_QUERY, Timestamp.class, -120_000);
+        verify(jdbcTemplate, never()).queryForObject(eq(LEFTOVER_QUERY), eq(Timestamp.class), any(), any());
+        verify(jdbcTemplate, never()).execute(startsWith("TRUNCATE TABLE"));
+    }
+
+    @Test
+    void onApplicationReady_whenAnotherNodeHoldsTheLock_shouldSkip() throws Exception {
+        // Arrange
+        when(lock.getInt(1)).thenReturn(-1);
+        clearInvocations(jdbcTemplate);
+
+        // Act
+        job.onApplicationReady();
+
+        // Assert
+        verify(jdbcTemplate).execute(any(ConnectionCallback.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+        verify(connection, never()).prepareCall(RELEASE);
+    }
+}
@@ -0,0 +1,128 @@
+package com.grace.gracemanageservice.infrastructure.persistence.archive;
+
+import com.grace.gracemanageservice.domain.entity.CheckInRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInArchiveTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 1);
+    private static final String PUBLISH =
+            "INSERT INTO T_CHECK_IN_ARCHIVE_MONTH (archive_month, archived_at) VALUES (?, SYSUTCDATETIME())";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeSegment_shouldRoundTripRecordsPerUser() {
+        // Arrange
+        CheckInArchive archive = new CheckInArchive(jdbcTemplate, directory.toString());
+        List<CheckInRecord> rows = List.of(
+                record(1L, 1L, CheckInRecord.CheckInType.IN, MONTH.atDay(2).atTime(8, 0, 0, 123_456_700), "Office"),
+                record(2L, 1L, CheckInRecord.CheckInType.OUT, MONTH.atDay(2).atTime(17, 0), null),
+                record(3L, 2L, CheckInRecord.CheckInType.IN, MONTH.atDay(3).atTime(9, 0), "Kiosk"));
+
+        // Act
+        int users = archive.writeSegment(MONTH, sink -> rows.forEach(sink));
+        List<CheckInRecord> user1 = new ArrayList<>();
+        archive.forEach(1L, MONTH.atDay(1).atStartOfDay(), MONTH.atEndOfMonth().atTime(23, 59), user1::add);
+
+        // Assert
+        assertEquals(2, users);
+        assertEquals(rows.subList(0, 2), user1);
+        assertEquals(LocalDateTime.of(2025, 2, 1, 0, 0), archive.archivedBefore().orElseThrow());
+        assertTrue(Files.exists(directory.resolve("check-in-2025-01.seg")));
+        verify(jdbcTemplate).update(PUBLISH, Date.valueOf(MONTH.atDay(1)));
+    }
+
+    @Test
+    void forEach_shouldFilterByRangeAndSkipUnknownUsers() {
+        // Arrange
+        CheckInArchive archive = new CheckInArchive(jdbcTemplate, directory.toString());
+        List<CheckInRecord> rows = List.of(
+                record(1L, 1L, CheckInRecord.CheckInType.IN, MONTH.atDay(2).atTime(8, 0), null),
+                record(2L, 1L, CheckInRecord.CheckInType.OUT, MONTH.atDay(20).atTime(17, 0), null));
+        archive.writeSegment(MONTH, sink -> rows.forEach(sink));
+
+        // Act
+        List<CheckInRecord> ranged = new ArrayList<>();
+        archive.forEach(1L, MONTH.atDay(10).atStartOfDay(), LocalDateTime.of(2025, 6, 1, 0, 0), ranged::add);
+        List<CheckInRecord> unknown = new ArrayList<>();
+        archive.forEach(99L, MONTH.atDay(1).atStartOfDay(), MONTH.atEndOfMonth().atStartOfDay(), unknown::add);
+
+        // Assert
+        assertEquals(List.of(rows.get(1)), ranged);
+        assertTrue(unknown.isEmpty());
+    }
+
+    @Test
+    void refresh_shouldServeMonthPublishedByAnotherNode() {
+        // Arrange - both nodes share the directory; the other node publishes January
+        CheckInArchive thisNode = new CheckInArchive(jdbcTemplate, directory.toString());
+        new CheckInArchive(jdbcTemplate, directory.toString()).writeSegment(MONTH, sink ->
+                sink.accept(record(1L, 1L, CheckInRecord.CheckInType.IN, MONTH.atDay(2).atTime(8, 0), null)));
+        when(jdbcTemplate.queryForList(anyString(), eq(LocalDate.class))).thenReturn(List.of(MONTH.atDay(1)));
+
+        // Act
+        thisNode.refresh();
+
+        // Assert
+        assertTrue(thisNode.contains(MONTH));
+        assertEquals(LocalDateTime.of(2025, 2, 1, 0, 0), thisNode.archivedBefore().orElseThrow());
+        List<CheckInRecord> records = new ArrayList<>();
+        thisNode.forEach(1L, LocalDateTime.MIN, LocalDateTime.MAX, records::add);
+        assertEquals(1, records.size());
+    }
+
+    @Test
+    void writeSegment_shouldRejectUnorderedUsers() {
+        // Arrange
+        CheckInArchive archive = new CheckInArchive(jdbcTemplate, directory.toString());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> archive.writeSegment(MONTH, sink -> {
+            sink.accept(record(1L, 2L, CheckInRecord.CheckInType.IN, MONTH.atDay(2).atTime(8, 0), null));
+            sink.accept(record(2L, 1L, CheckInRecord.CheckInType.IN, MONTH.atDay(2).atTime(9, 0), null));
+        }));
+        assertFalse(archive.contains(MONTH));
+        assertTrue(archive.archivedBefore().isEmpty());
+        verify(jdbcTemplate, never()).update(eq(PUBLISH), any(Date.class));
+    }
+
+    private static CheckInRecord record(Long id, Long userId, CheckInRecord.CheckInType type,
+            LocalDateTime timestamp, String address) {
+        return CheckInRecord.builder()
+                .id(id)
+                .userId(userId)
+                .type(type)
+                .timestamp(timestamp)
+                .latitude(address != null ? 10.77 : null)
+                .longitude(address != null ? 106.69 : null)
+                .accuracy(null)
+                .address(address)
+                .build();
+    }
+}
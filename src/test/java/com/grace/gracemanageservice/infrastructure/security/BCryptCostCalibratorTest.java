@@ -0,0 +1,28 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link BCryptCostCalibrator}.
+ */
+class BCryptCostCalibratorTest {
+
+    @Test
+    void calibrate_withUnreachableTarget_fallsBackToMinimumCost() {
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ZERO, 6)).isEqualTo(BCryptCostCalibrator.MIN_STRENGTH);
+    }
+
+    @Test
+    void calibrate_withGenerousTarget_stopsAtMaximumCost() {
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofMinutes(1), 6)).isEqualTo(6);
+    }
+
+    @Test
+    void measure_growsWithCost() {
+        assertThat(BCryptCostCalibrator.measure(8)).isGreaterThan(BCryptCostCalibrator.measure(4));
+    }
+}
@@ -0,0 +1,74 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import com.grace.gracemanageservice.domain.entity.User;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link BitmaskPermissionEvaluator} and the one-argument hasPermission expression.
+ */
+class BitmaskPermissionEvaluatorTest {
+
+    private final BitmaskPermissionEvaluator evaluator = new BitmaskPermissionEvaluator();
+
+    @Test
+    void hasPermission_grantedCode_isTrue() {
+        Authentication authentication =
+            authenticate(EnumSet.of(PermissionCode.VIEW_STATISTICS, PermissionCode.EXPORT_DATA));
+
+        assertThat(evaluator.hasPermission(authentication, "view_statistics")).isTrue();
+        assertThat(evaluator.hasPermission(authentication, null, "export_data")).isTrue();
+    }
+
+    @Test
+    void hasPermission_missingOrUnknownCode_isFalse() {
+        Authentication authentication = authenticate(EnumSet.of(PermissionCode.VIEW_STATISTICS));
+
+        assertThat(evaluator.hasPermission(authentication, "export_data")).isFalse();
+        assertThat(evaluator.hasPermission(authentication, "no_such_permission")).isFalse();
+        assertThat(evaluator.hasPermission(authentication, (Object) null)).isFalse();
+    }
+
+    @Test
+    void hasPermission_principalWithoutMask_isFalse() {
+        Authentication authentication = new TestingAuthenticationToken("alice", "n/a", "view_statistics");
+
+        assertThat(evaluator.hasPermission(authentication, "view_statistics")).isFalse();
+        assertThat(evaluator.hasPermission(null, "view_statistics")).isFalse();
+    }
+
+    @Test
+    void expressionHandler_resolvesOneArgumentHasPermission() throws Exception {
+        PermissionExpressionHandler handler = new PermissionExpressionHandler(evaluator);
+        Authentication authentication = authenticate(EnumSet.of(PermissionCode.VIEW_STATISTICS));
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(Object.class.getMethod("toString"));
+        when(invocation.getThis()).thenReturn(new Object());
+        EvaluationContext context = handler.createEvaluationContext(() -> authentication, invocation);
+
+        Expression granted = handler.getExpressionParser().parseExpression("hasPermission('view_statistics')");
+        Expression denied = handler.getExpressionParser()
+            .parseExpression("hasRole('ADMIN') or hasPermission('export_data')");
+
+        assertThat(granted.getValue(context, Boolean.class)).isTrue();
+        assertThat(denied.getValue(context, Boolean.class)).isFalse();
+    }
+
+    private static Authentication authenticate(EnumSet<PermissionCode> permissions) {
+        User user = User.builder().id(1L).username("alice").role("user").active(true).build();
+        CustomUserDetails principal = new CustomUserDetails(user, permissions);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
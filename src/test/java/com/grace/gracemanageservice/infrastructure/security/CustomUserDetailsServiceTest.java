@@ -0,0 +1,163 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.application.cache.RolePermissionCache;
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CustomUserDetailsService} principal caching.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RolePermissionCache rolePermissionCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomUserDetailsService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new CustomUserDetailsService(userRepository, rolePermissionCache, meterRegistry, 60, 100);
+    }
+
+    @Test
+    void loadUserByUsername_grantsRoleAndPermissionAuthorities() {
+        givenUser(1L, "alice", 5L, true);
+        when(rolePermissionCache.permissionsOf(5L))
+            .thenReturn(EnumSet.of(PermissionCode.EXPORT_DATA, PermissionCode.VIEW_EMPLOYEES));
+
+        UserDetails details = service.loadUserByUsername("alice");
+
+        assertThat(details.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "export_data", "view_employees");
+    }
+
+    @Test
+    void loadUserByUsername_secondCall_isServedFromCache() {
+        givenUser(1L, "alice", null, true);
+
+        UserDetails first = service.loadUserByUsername("alice");
+        UserDetails second = service.loadUserByUsername("alice");
+
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findByUsername("alice");
+        assertThat(meterRegistry.get("security.principal.cache.requests").tag("result", "hit").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("security.principal.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("security.principal.load").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onUserChanged_dropsThatUsersPrincipal() {
+        givenUser(1L, "alice", null, true);
+        service.loadUserByUsername("alice");
+
+        // Deactivated - the next request must see it
+        givenUser(1L, "alice", null, false);
+        service.onUserChanged(new UserChangedEvent(1L));
+
+        assertThat(service.loadUserByUsername("alice").isEnabled()).isFalse();
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    @Test
+    void onRoleChanged_dropsPrincipalsHoldingThatRole() {
+        givenUser(1L, "alice", 5L, true);
+        givenUser(2L, "bob", 6L, true);
+        service.loadUserByUsername("alice");
+        service.loadUserByUsername("bob");
+
+        service.onRoleChanged(new RoleChangedEvent(5L));
+        service.loadUserByUsername("alice");
+        service.loadUserByUsername("bob");
+
+        verify(userRepository, times(2)).findByUsername("alice");
+        verify(userRepository, times(1)).findByUsername("bob");
+    }
+
+    @Test
+    void loadUserByUsername_overlappingInvalidation_isNotCached() {
+        // The change commits while the old row is being read
+        when(userRepository.findByUsername("alice")).thenAnswer(invocation -> {
+            service.onUserChanged(new UserChangedEvent(1L));
+            return Optional.of(user(1L, "alice", null, true));
+        });
+
+        service.loadUserByUsername("alice");
+        service.loadUserByUsername("alice");
+
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    @Test
+    void loadUserByUsername_reloadsPrincipalCachedBeforeStaleAfter() {
+        givenUser(1L, "alice", null, true);
+        service.loadUserByUsername("alice");
+
+        service.loadUserByUsername("alice", Instant.now().minusSeconds(60));
+        verify(userRepository, times(1)).findByUsername("alice");
+
+        // Changed (e.g. on another node) after the cached copy was loaded
+        service.loadUserByUsername("alice", Instant.now().plusSeconds(1));
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    @Test
+    void loadUserByUsername_withZeroTtl_neverCaches() {
+        service = new CustomUserDetailsService(userRepository, rolePermissionCache, meterRegistry, 0, 100);
+        givenUser(1L, "alice", null, true);
+
+        service.loadUserByUsername("alice");
+        service.loadUserByUsername("alice");
+
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    @Test
+    void loadUserByUsername_unknownUser_throws() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost"))
+            .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    private void givenUser(Long id, String username, Long roleId, boolean active) {
+        when(userRepository.findByUsername(username)).thenReturn(Optional.of(user(id, username, roleId, active)));
+    }
+
+    private static User user(Long id, String username, Long roleId, boolean active) {
+        return User.builder()
+            .id(id)
+            .username(username)
+            .password("hash")
+            .role("user")
+            .roleId(roleId)
+            .active(active)
+            .build();
+    }
+}
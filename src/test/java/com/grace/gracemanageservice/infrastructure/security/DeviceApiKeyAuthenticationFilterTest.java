@@ -0,0 +1,80 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link DeviceApiKeyAuthenticationFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeviceApiKeyAuthenticationFilterTest {
+
+    @Mock
+    private DeviceApiKeyRegistry deviceApiKeyRegistry;
+
+    @InjectMocks
+    private DeviceApiKeyAuthenticationFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validKeyOnCheckIn_authenticatesDevice() throws Exception {
+        when(deviceApiKeyRegistry.authenticate("gdk_valid"))
+            .thenReturn(DeviceApiKey.builder().id(7L).name("Lobby kiosk").build());
+
+        filter.doFilter(request("POST", "/api/v1/attendance/check-in", "gdk_valid"),
+            new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo(new DevicePrincipal(7L, "Lobby kiosk"));
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_DEVICE");
+    }
+
+    @Test
+    void unknownKey_leavesRequestUnauthenticated() throws Exception {
+        when(deviceApiKeyRegistry.authenticate("gdk_bad")).thenReturn(null);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("POST", "/api/v1/attendance/check-out", "gdk_bad"),
+            new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void keyOutsideRecordingEndpoints_isIgnored() throws Exception {
+        filter.doFilter(request("GET", "/api/v1/attendance/history/1", "gdk_valid"),
+            new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("POST", "/api/v1/users", "gdk_valid"),
+            new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(deviceApiKeyRegistry);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String deviceKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.addHeader(DeviceApiKeyAuthenticationFilter.DEVICE_KEY_HEADER, deviceKey);
+        return request;
+    }
+}
@@ -0,0 +1,131 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.application.exception.ResourceNotFoundException;
+import com.grace.gracemanageservice.domain.entity.DeviceApiKey;
+import com.grace.gracemanageservice.domain.repository.DeviceApiKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link DeviceApiKeyRegistry}.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeviceApiKeyRegistryTest {
+
+    private static final String SECRET = "DeviceKeySecretForTestsAtLeast32Bytes";
+
+    @Mock
+    private DeviceApiKeyRepository deviceApiKeyRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeviceApiKeyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new DeviceApiKeyRegistry(deviceApiKeyRepository, meterRegistry, SECRET, 60, 100);
+    }
+
+    @Test
+    void issue_storesOnlyTheKeyedHash() {
+        when(deviceApiKeyRepository.save(any(DeviceApiKey.class))).thenAnswer(invocation -> {
+            DeviceApiKey key = invocation.getArgument(0);
+            key.setId(7L);
+            return key;
+        });
+
+        DeviceApiKeyRegistry.IssuedDeviceKey issued = registry.issue("Lobby kiosk");
+
+        ArgumentCaptor<DeviceApiKey> saved = ArgumentCaptor.forClass(DeviceApiKey.class);
+        verify(deviceApiKeyRepository).save(saved.capture());
+        assertThat(issued.rawKey()).startsWith(DeviceApiKeyRegistry.KEY_PREFIX).hasSizeGreaterThan(40);
+        assertThat(saved.getValue().getKeyHash()).hasSize(64).isEqualTo(registry.hash(issued.rawKey()));
+        assertThat(saved.getValue().getKeyPrefix()).isEqualTo(issued.rawKey().substring(0, 12));
+        assertThat(saved.getValue().getKeyHash()).doesNotContain(issued.rawKey());
+    }
+
+    @Test
+    void hash_dependsOnTheServerSecret() {
+        DeviceApiKeyRegistry other =
+            new DeviceApiKeyRegistry(deviceApiKeyRepository, meterRegistry, SECRET + "-other", 60, 100);
+
+        assertThat(registry.hash("gdk_abc")).isEqualTo(registry.hash("gdk_abc"));
+        assertThat(other.hash("gdk_abc")).isNotEqualTo(registry.hash("gdk_abc"));
+    }
+
+    @Test
+    void constructor_withoutDedicatedSecret_failsFast() {
+        assertThatThrownBy(() -> new DeviceApiKeyRegistry(deviceApiKeyRepository, meterRegistry, "", 60, 100))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("security.device-keys.hmac-secret");
+        assertThatThrownBy(() -> new DeviceApiKeyRegistry(deviceApiKeyRepository, meterRegistry, "short", 60, 100))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void authenticate_secondCall_isServedFromCache() {
+        DeviceApiKey key = givenKey("gdk_valid", 7L);
+
+        assertThat(registry.authenticate("gdk_valid")).isSameAs(key);
+        assertThat(registry.authenticate("gdk_valid")).isSameAs(key);
+
+        verify(deviceApiKeyRepository, times(1)).findActiveByKeyHash(registry.hash("gdk_valid"));
+        assertThat(meterRegistry.get("security.device-key.requests").tag("result", "hit").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void authenticate_malformedKey_skipsTheDatabase() {
+        assertThat(registry.authenticate("not-a-device-key")).isNull();
+        assertThat(registry.authenticate(null)).isNull();
+
+        verifyNoInteractions(deviceApiKeyRepository);
+    }
+
+    @Test
+    void authenticate_unknownKey_returnsNull() {
+        when(deviceApiKeyRepository.findActiveByKeyHash(registry.hash("gdk_unknown"))).thenReturn(Optional.empty());
+
+        assertThat(registry.authenticate("gdk_unknown")).isNull();
+    }
+
+    @Test
+    void revoke_evictsCachedKey() {
+        givenKey("gdk_valid", 7L);
+        registry.authenticate("gdk_valid");
+        when(deviceApiKeyRepository.revoke(7L)).thenReturn(true);
+
+        registry.revoke(7L);
+        when(deviceApiKeyRepository.findActiveByKeyHash(registry.hash("gdk_valid"))).thenReturn(Optional.empty());
+
+        assertThat(registry.authenticate("gdk_valid")).isNull();
+    }
+
+    @Test
+    void revoke_unknownKey_throws() {
+        when(deviceApiKeyRepository.revoke(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> registry.revoke(99L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private DeviceApiKey givenKey(String rawKey, Long id) {
+        DeviceApiKey key = DeviceApiKey.builder()
+            .id(id)
+            .name("Lobby kiosk")
+            .keyHash(registry.hash(rawKey))
+            .build();
+        when(deviceApiKeyRepository.findActiveByKeyHash(key.getKeyHash())).thenReturn(Optional.of(key));
+        return key;
+    }
+}
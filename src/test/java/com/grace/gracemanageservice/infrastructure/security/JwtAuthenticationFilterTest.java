@@ -1,11 +1,13 @@
 package com.grace.gracemanageservice.infrastructure.security;
 
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -14,11 +16,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,18 +36,22 @@ class JwtAuthenticationFilterTest {
     @Mock
     private CustomUserDetailsService userDetailsService;
 
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Mock
     private FilterChain filterChain;
 
     @Mock
     private HttpServletResponse response;
 
-    @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @BeforeEach
     void setUp() {
         SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+            jwtTokenProvider, userDetailsService, tokenRevocationRegistry, false);
     }
 
     @Test
@@ -81,7 +87,7 @@ class JwtAuthenticationFilterTest {
         String token = "expired-token";
         request.addHeader("Authorization", "Bearer " + token);
 
-        when(jwtTokenProvider.isTokenExpired(token)).thenReturn(true);
+        when(jwtTokenProvider.verify(token)).thenThrow(new ExpiredJwtException(null, null, "expired"));
 
         // Filter throws BadCredentialsException for expired tokens
         assertThatThrownBy(() -> jwtAuthenticationFilter.doFilterInternal(request, response, filterChain))
@@ -90,8 +96,7 @@ class JwtAuthenticationFilterTest {
 
         // Filter should NOT call filterChain (returns early due to exception)
         verifyNoInteractions(filterChain);
-        verify(jwtTokenProvider).isTokenExpired(token);
-        verify(jwtTokenProvider, never()).validateAccessToken(anyString());
+        verify(jwtTokenProvider).verify(token);
         verifyNoInteractions(userDetailsService);
     }
 
@@ -103,9 +108,7 @@ class JwtAuthenticationFilterTest {
         String username = "alice";
         request.addHeader("Authorization", "Bearer " + token);
 
-        when(jwtTokenProvider.isTokenExpired(token)).thenReturn(false);
-        when(jwtTokenProvider.validateAccessToken(token)).thenReturn(true);
-        when(jwtTokenProvider.getUsernameFromToken(token)).thenReturn(username);
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken(username, "access"));
 
         UserDetails userDetails = new User(
             username,
@@ -120,30 +123,119 @@ class JwtAuthenticationFilterTest {
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
         assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(username);
 
-        verify(jwtTokenProvider).isTokenExpired(token);
-        verify(jwtTokenProvider).validateAccessToken(token);
-        verify(jwtTokenProvider).getUsernameFromToken(token);
+        // The token is verified exactly once per request
+        verify(jwtTokenProvider, times(1)).verify(token);
+        verifyNoMoreInteractions(jwtTokenProvider);
         verify(userDetailsService).loadUserByUsername(username);
     }
 
     @Test
-    void protectedEndpoint_withNonAccessToken_doesNotAuthenticate() throws Exception {
+    void protectedEndpoint_withInactiveUser_doesNotAuthenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/__test/whoami");
+        String token = "valid-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken("bob", "access"));
+        UserDetails disabled = User.withUsername("bob").password("n/a").authorities("ROLE_USER").disabled(true).build();
+        when(userDetailsService.loadUserByUsername("bob")).thenReturn(disabled);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void protectedEndpoint_withRefreshToken_doesNotAuthenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/__test/whoami");
+        String token = "refresh-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        when(jwtTokenProvider.verify(token)).thenReturn(verifiedToken("alice", "refresh"));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void protectedEndpoint_withInvalidSignature_doesNotAuthenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/__test/whoami");
+        String token = "tampered-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        when(jwtTokenProvider.verify(token)).thenThrow(new MalformedJwtException("bad signature"));
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void protectedEndpoint_withLoggedOutToken_doesNotAuthenticate() throws Exception {
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setRequestURI("/__test/whoami");
-        String token = "refresh-or-invalid";
+        String token = "logged-out-token";
         request.addHeader("Authorization", "Bearer " + token);
 
-        when(jwtTokenProvider.isTokenExpired(token)).thenReturn(false);
-        when(jwtTokenProvider.validateAccessToken(token)).thenReturn(false);
+        VerifiedToken verified = verifiedToken("alice", "access");
+        when(jwtTokenProvider.verify(token)).thenReturn(verified);
+        when(tokenRevocationRegistry.isTokenRevoked(verified)).thenReturn(true);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void statelessMode_buildsPrincipalFromClaimsWithoutLoadingUser() throws Exception {
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+            jwtTokenProvider, userDetailsService, tokenRevocationRegistry, true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/__test/whoami");
+        String token = "valid-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        VerifiedToken verified = verifiedToken("alice", "access");
+        when(jwtTokenProvider.verify(token)).thenReturn(verified);
+        when(tokenRevocationRegistry.isRevoked(verified)).thenReturn(false);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        verify(jwtTokenProvider).isTokenExpired(token);
-        verify(jwtTokenProvider).validateAccessToken(token);
-        verify(jwtTokenProvider, never()).getUsernameFromToken(anyString());
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("alice");
+        assertThat(authentication.getAuthorities()).extracting(Object::toString)
+            .containsExactlyInAnyOrder("ROLE_USER", "view_statistics");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void statelessMode_withRevokedUser_doesNotAuthenticate() throws Exception {
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+            jwtTokenProvider, userDetailsService, tokenRevocationRegistry, true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/__test/whoami");
+        String token = "stale-token";
+        request.addHeader("Authorization", "Bearer " + token);
+
+        VerifiedToken verified = verifiedToken("alice", "access");
+        when(jwtTokenProvider.verify(token)).thenReturn(verified);
+        when(tokenRevocationRegistry.isRevoked(verified)).thenReturn(true);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verifyNoInteractions(userDetailsService);
     }
 
@@ -161,5 +253,10 @@ class JwtAuthenticationFilterTest {
 
         verifyNoInteractions(jwtTokenProvider, userDetailsService);
     }
-}
 
+    private static VerifiedToken verifiedToken(String username, String type) {
+        Instant now = Instant.now();
+        return new VerifiedToken(username, 1L, null, "user", 2L, PermissionCode.VIEW_STATISTICS.getMask(), type,
+            "jti-1", now, now.plusSeconds(900));
+    }
+}
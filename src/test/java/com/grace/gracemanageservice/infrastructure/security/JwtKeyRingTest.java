@@ -0,0 +1,164 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.domain.entity.User;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtKeyRing} signing, kid-based verification and key rotation.
+ */
+class JwtKeyRingTest {
+
+    private static final String SECRET = "TestSecretKeyForJwtKeyRingMustBeAtLeast256BitsLong!!";
+
+    private final User user = User.builder()
+        .id(7L)
+        .username("alice")
+        .role("user")
+        .active(true)
+        .build();
+
+    @Test
+    void es256_roundTrip_putsKidInHeader() {
+        assertRoundTrip(JwtKeyRing.generate(SigningKeys.ES256, SECRET, false), "ES256");
+    }
+
+    @Test
+    void eddsa_roundTrip_putsKidInHeader() {
+        assertRoundTrip(JwtKeyRing.generate(SigningKeys.EDDSA, SECRET, false), "EdDSA");
+    }
+
+    @Test
+    void rotation_tokenSignedWithPreviousKey_stillVerifies(@TempDir Path keysDir) throws IOException {
+        writeKeyPair(keysDir, "old");
+        writeKeyPair(keysDir, "new");
+        JwtKeyRing before = ring(keysDir, "old", true);
+        JwtKeyRing after = ring(keysDir, "new", true);
+        String oldToken = new JwtTokenProvider(before, 0).generateAccessToken(user);
+
+        JwtTokenProvider provider = new JwtTokenProvider(after, 0);
+
+        assertThat(provider.verify(oldToken).username()).isEqualTo("alice");
+        assertThat(kidOf(provider.generateAccessToken(user))).isEqualTo("new");
+    }
+
+    @Test
+    void rotation_removedKey_isRejected(@TempDir Path keysDir) throws IOException {
+        writeKeyPair(keysDir, "old");
+        String oldToken = new JwtTokenProvider(ring(keysDir, "old", true), 0).generateAccessToken(user);
+        Files.delete(keysDir.resolve("old.key"));
+        Files.delete(keysDir.resolve("old.pub"));
+        writeKeyPair(keysDir, "new");
+
+        JwtTokenProvider provider = new JwtTokenProvider(ring(keysDir, "new", true), 0);
+
+        assertThatThrownBy(() -> provider.verify(oldToken)).isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    void hmacToken_acceptedOnlyWhileAcceptHmac() {
+        String legacy = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 0).generateAccessToken(user);
+
+        JwtTokenProvider accepting = new JwtTokenProvider(JwtKeyRing.generate(SigningKeys.EDDSA, SECRET, true), 0);
+        JwtTokenProvider strict = new JwtTokenProvider(JwtKeyRing.generate(SigningKeys.EDDSA, SECRET, false), 0);
+
+        assertThat(accepting.verify(legacy).username()).isEqualTo("alice");
+        assertThatThrownBy(() -> strict.verify(legacy)).isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    void tokenFromAnotherKeyPairWithSameKid_failsSignature(@TempDir Path keysDir) throws IOException {
+        writeKeyPair(keysDir, "k1");
+        String token = new JwtTokenProvider(ring(keysDir, "k1", false), 0).generateAccessToken(user);
+        writeKeyPair(keysDir, "k1");
+
+        JwtTokenProvider provider = new JwtTokenProvider(ring(keysDir, "k1", false), 0);
+
+        assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void constructor_activeKidWithoutPrivateKey_throws(@TempDir Path keysDir) throws IOException {
+        writeKeyPair(keysDir, "old");
+        Files.delete(keysDir.resolve("old.key"));
+
+        assertThatThrownBy(() -> ring(keysDir, "old", true)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void jwkSet_publishesEveryVerificationKey(@TempDir Path keysDir) throws IOException {
+        writeKeyPair(keysDir, "old");
+        writeKeyPair(keysDir, "new");
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) ring(keysDir, "new", true).jwkSet().get("keys");
+
+        assertThat(keys).extracting(jwk -> jwk.get("kid")).containsExactlyInAnyOrder("old", "new");
+        assertThat(keys.get(0))
+            .containsEntry("kty", "OKP")
+            .containsEntry("crv", "Ed25519")
+            .containsEntry("alg", "EdDSA")
+            .containsEntry("use", "sig")
+            .containsKey("x")
+            .doesNotContainKey("d");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void jwkSet_es256Key_hasCurveCoordinates() {
+        List<Map<String, Object>> keys =
+            (List<Map<String, Object>>) JwtKeyRing.generate(SigningKeys.ES256, SECRET, false).jwkSet().get("keys");
+
+        assertThat(keys).singleElement().satisfies(jwk -> assertThat(jwk)
+            .containsEntry("kty", "EC")
+            .containsEntry("crv", "P-256")
+            .containsKeys("x", "y"));
+    }
+
+    @Test
+    void jwkSet_hmacRing_isEmpty() {
+        assertThat(JwtKeyRing.hmac(SECRET).jwkSet()).isEqualTo(Map.of("keys", List.of()));
+    }
+
+    private void assertRoundTrip(JwtKeyRing keyRing, String algorithm) {
+        JwtTokenProvider provider = new JwtTokenProvider(keyRing, 0);
+
+        String jwt = provider.generateAccessToken(user);
+
+        assertThat(provider.verify(jwt).username()).isEqualTo("alice");
+        assertThat(kidOf(jwt)).isEqualTo(keyRing.activeKey().kid()).isNotBlank();
+        assertThat(Jwts.parser().keyLocator(keyRing::locate).build().parseSignedClaims(jwt).getHeader().getAlgorithm())
+            .isEqualTo(algorithm);
+    }
+
+    private static JwtKeyRing ring(Path keysDir, String activeKid, boolean acceptHmac) {
+        return new JwtKeyRing(SECRET, SigningKeys.EDDSA, keysDir.toString(), activeKid, acceptHmac);
+    }
+
+    private static String kidOf(String jwt) {
+        String header = new String(Base64.getUrlDecoder().decode(jwt.substring(0, jwt.indexOf('.'))));
+        return header.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1");
+    }
+
+    private static void writeKeyPair(Path keysDir, String kid) throws IOException {
+        KeyPair pair = SigningKeys.generate(SigningKeys.EDDSA);
+        Files.writeString(keysDir.resolve(kid + ".key"),
+            SigningKeys.toPem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+        Files.writeString(keysDir.resolve(kid + ".pub"),
+            SigningKeys.toPem("PUBLIC KEY", pair.getPublic().getEncoded()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import com.grace.gracemanageservice.domain.entity.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtTokenProvider} using real signed tokens.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "TestSecretKeyForJwtTokenProviderMustBeAtLeast256Bits!!";
+
+    private final User user = User.builder()
+        .id(7L)
+        .username("alice")
+        .email("alice@example.com")
+        .role("user")
+        .roleId(3L)
+        .active(true)
+        .build();
+
+    @Test
+    void verify_accessToken_returnsTypedClaims() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+
+        VerifiedToken token = provider.verify(provider.generateAccessToken(user));
+
+        assertThat(token.username()).isEqualTo("alice");
+        assertThat(token.userId()).isEqualTo(7L);
+        assertThat(token.email()).isEqualTo("alice@example.com");
+        assertThat(token.role()).isEqualTo("user");
+        assertThat(token.isAccessToken()).isTrue();
+        assertThat(token.isRefreshToken()).isFalse();
+    }
+
+    @Test
+    void verify_accessTokenWithPermissions_carriesRoleIdPermissionMaskAndId() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+
+        String jwt = provider.generateAccessToken(user,
+            EnumSet.of(PermissionCode.VIEW_STATISTICS, PermissionCode.EXPORT_DATA));
+
+        VerifiedToken token = provider.verify(jwt);
+
+        assertThat(token.roleId()).isEqualTo(3L);
+        assertThat(token.permissionMask())
+            .isEqualTo(PermissionCode.VIEW_STATISTICS.getMask() | PermissionCode.EXPORT_DATA.getMask());
+        assertThat(token.tokenId()).isNotBlank();
+        assertThat(provider.verify(provider.generateAccessToken(user)).tokenId()).isNotEqualTo(token.tokenId());
+    }
+
+    @Test
+    void verify_refreshToken_isTypedAsRefresh() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+
+        VerifiedToken token = provider.verify(provider.generateRefreshToken(user));
+
+        assertThat(token.isRefreshToken()).isTrue();
+        assertThat(token.email()).isNull();
+    }
+
+    @Test
+    void verify_repeatedToken_isServedFromCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+        String jwt = provider.generateAccessToken(user);
+
+        VerifiedToken first = provider.verify(jwt);
+        VerifiedToken second = provider.verify(jwt);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void verify_withCacheDisabled_verifiesEveryTime() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 0);
+        String jwt = provider.generateAccessToken(user);
+
+        assertThat(provider.verify(jwt)).isNotSameAs(provider.verify(jwt));
+    }
+
+    @Test
+    void verify_tamperedSignature_throws() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+        String jwt = provider.generateAccessToken(user);
+        provider.verify(jwt);
+
+        // Flip the first signature character - a cached verification of the original must not leak
+        int signatureStart = jwt.lastIndexOf('.') + 1;
+        char flipped = jwt.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tampered = jwt.substring(0, signatureStart) + flipped + jwt.substring(signatureStart + 1);
+
+        assertThatThrownBy(() -> provider.verify(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void verify_tokenSignedWithAnotherKey_throws() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+        String foreign = new JwtTokenProvider(JwtKeyRing.hmac(SECRET.replace('T', 'X')), 100).generateAccessToken(user);
+
+        assertThatThrownBy(() -> provider.verify(foreign)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void verify_expiredToken_throwsExpiredJwtException() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+        long now = System.currentTimeMillis();
+        String expired = Jwts.builder()
+            .subject("alice")
+            .claim("type", "access")
+            .issuedAt(new Date(now - 120_000))
+            .expiration(new Date(now - 60_000))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+            .compact();
+
+        assertThatThrownBy(() -> provider.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void verify_blankToken_throws() {
+        JwtTokenProvider provider = new JwtTokenProvider(JwtKeyRing.hmac(SECRET), 100);
+
+        assertThatThrownBy(() -> provider.verify(" ")).isInstanceOf(JwtException.class);
+    }
+}
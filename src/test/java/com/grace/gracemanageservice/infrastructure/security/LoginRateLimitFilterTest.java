@@ -0,0 +1,168 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LoginRateLimitFilter}.
+ */
+class LoginRateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new LoginRateLimitFilter(new ObjectMapper(), meterRegistry, true, 256,
+                new TokenBucketLimiter(3, 60, 100, 4), new TokenBucketLimiter(1, 60, 100, 4));
+    }
+
+    @Test
+    void login_forwardsRequestWithBodyIntact() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("10.0.0.1", "alice"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(forwardedBody).isEqualTo(body("alice"));
+    }
+
+    @Test
+    void login_rejectsUsernameOverLimit_fromAnyAddress() throws Exception {
+        filter.doFilter(login("10.0.0.1", "alice"), new MockHttpServletResponse(), new MockFilterChain());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login("10.0.0.2", "ALICE"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.get("security.rate-limit.rejected").tag("scope", "username").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void refresh_rejectsAddressOverLimit() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(refresh("10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(refresh("10.0.0.1"), response, new MockFilterChain());
+        MockHttpServletResponse otherClient = new MockHttpServletResponse();
+        filter.doFilter(refresh("10.0.0.2"), otherClient, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("security.rate-limit.rejected").tag("scope", "ip").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void login_rejectsOversizedBody_withOrWithoutContentLength() throws Exception {
+        MockHttpServletRequest declared = login("10.0.0.1", "a".repeat(300));
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/v1/auth/login") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setServletPath("/api/v1/auth/login");
+        chunked.setRemoteAddr("10.0.0.2");
+        chunked.setContent(body("b".repeat(300)).getBytes(StandardCharsets.UTF_8));
+
+        for (MockHttpServletRequest request : new MockHttpServletRequest[] {declared, chunked}) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, chain);
+
+            assertThat(response.getStatus()).isEqualTo(413);
+            assertThat(chain.getRequest()).isNull();
+        }
+    }
+
+    @Test
+    void clientsBehindLoadBalancer_getTheirOwnBuckets() throws Exception {
+        // What server.forward-headers-strategy=native installs, as a servlet filter
+        RemoteIpFilter remoteIp = new RemoteIpFilter();
+        remoteIp.init(new MockFilterConfig());
+        for (int i = 0; i < 3; i++) {
+            remoteIp.doFilter(behindBalancer("203.0.113.7"), new MockHttpServletResponse(), throughFilter());
+        }
+
+        MockHttpServletResponse throttled = new MockHttpServletResponse();
+        remoteIp.doFilter(behindBalancer("203.0.113.7"), throttled, throughFilter());
+        MockHttpServletResponse otherClient = new MockHttpServletResponse();
+        remoteIp.doFilter(behindBalancer("198.51.100.20"), otherClient, throughFilter());
+
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void otherEndpoints_areNotThrottled() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/me");
+            request.setServletPath("/api/v1/auth/me");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private static MockHttpServletRequest login(String address, String username) {
+        MockHttpServletRequest request = post("/api/v1/auth/login", address);
+        request.setContent(body(username).getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest refresh(String address) {
+        MockHttpServletRequest request = post("/api/v1/auth/refresh", address);
+        request.setContent("{\"refreshToken\":\"token\"}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockFilterChain throughFilter() {
+        HttpServlet controller = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+            }
+        };
+        return new MockFilterChain(controller, filter);
+    }
+
+    private static MockHttpServletRequest behindBalancer(String clientAddress) {
+        MockHttpServletRequest request = refresh("10.1.0.4");
+        request.addHeader("X-Forwarded-For", clientAddress);
+        return request;
+    }
+
+    private static MockHttpServletRequest post(String path, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        request.setRemoteAddr(address);
+        request.setContentType("application/json");
+        return request;
+    }
+
+    private static String body(String username) {
+        return "{\"username\":\"" + username + "\",\"password\":\"secret\"}";
+    }
+}
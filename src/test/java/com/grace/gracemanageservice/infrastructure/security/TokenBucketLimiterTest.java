@@ -0,0 +1,141 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit and contention tests for {@link TokenBucketLimiter}.
+ */
+class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void tryAcquire_allowsBurstUpToCapacityThenReportsWait() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 60, 100, 4, now::get);
+
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isZero();
+        assertThat(limiter.tryAcquire("alice")).isZero();
+
+        // One token per second at 60 per minute
+        assertThat(limiter.tryAcquire("alice")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("bob")).isZero();
+    }
+
+    @Test
+    void tryAcquire_refillsOverTime() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60, 100, 4, now::get);
+        limiter.tryAcquire("alice");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        assertThat(limiter.tryAcquire("alice")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(600));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertThat(limiter.tryAcquire("alice")).isZero();
+    }
+
+    @Test
+    void tryAcquire_dropsBucketsIdleLongEnoughToBeFull() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 60, 100, 1, now::get);
+        limiter.tryAcquire("alice");
+        limiter.tryAcquire("bob");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire("carol");
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_keepsAtMostMaxEntries() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 60, 64, 8, now::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("client-" + i);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    void tryAcquire_underContention_neverGrantsMoreThanCapacity() throws Exception {
+        // Time frozen: exactly capacity tokens per key may ever be granted
+        int capacity = 50;
+        int keys = 8;
+        int threads = 16;
+        int attemptsPerThread = 5_000;
+        TokenBucketLimiter limiter = new TokenBucketLimiter(capacity, 1, 1_000, 4, now::get);
+        AtomicInteger[] granted = new AtomicInteger[keys];
+        for (int k = 0; k < keys; k++) {
+            granted[k] = new AtomicInteger();
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            pool.execute(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    int key = (i + offset) % keys;
+                    if (limiter.tryAcquire("user-" + key) == 0) {
+                        granted[key].incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        for (AtomicInteger count : granted) {
+            assertThat(count.get()).isEqualTo(capacity);
+        }
+    }
+
+    @Test
+    void tryAcquire_underContentionWithRealClock_staysWithinRate() throws Exception {
+        // 600 per minute = 10 per second on top of the burst
+        TokenBucketLimiter limiter = new TokenBucketLimiter(20, 600, 10_000, 16);
+        AtomicInteger granted = new AtomicInteger();
+        AtomicInteger distinctKeys = new AtomicInteger();
+        long startedAt = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        for (int t = 0; t < 16; t++) {
+            pool.execute(() -> {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+                while (System.nanoTime() < deadline) {
+                    if (limiter.tryAcquire("hot-key") == 0) {
+                        granted.incrementAndGet();
+                    }
+                    // Churn through cold keys so the stripes also evict while contended
+                    limiter.tryAcquire("cold-" + distinctKeys.incrementAndGet());
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        assertThat(granted.get()).isBetween(20, 20 + (int) Math.ceil(elapsedSeconds * 10) + 1);
+        assertThat(limiter.size()).isLessThanOrEqualTo(10_000);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.grace.gracemanageservice.infrastructure.security;
+
+import com.grace.gracemanageservice.application.event.RoleChangedEvent;
+import com.grace.gracemanageservice.application.event.UserChangedEvent;
+import com.grace.gracemanageservice.domain.entity.TokenRevocation;
+import com.grace.gracemanageservice.domain.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link TokenRevocationRegistry}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationRegistryTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtTokenProvider.getRefreshTokenExpirationSeconds()).thenReturn(7 * 24 * 3600L);
+        registry = new TokenRevocationRegistry(tokenRevocationRepository, jwtTokenProvider, 0.01);
+    }
+
+    @Test
+    void isRevoked_withNothingRevoked_returnsFalse() {
+        assertThat(registry.isRevoked(token(1L, 2L, "jti", Instant.now()))).isFalse();
+    }
+
+    @Test
+    void onUserChanged_revokesThatUsersEarlierTokensOnly() {
+        VerifiedToken before = token(1L, 2L, "a", Instant.now().minusSeconds(60));
+        VerifiedToken otherUser = token(9L, 2L, "b", Instant.now().minusSeconds(60));
+
+        registry.onUserChanged(new UserChangedEvent(1L));
+
+        assertThat(registry.isRevoked(before)).isTrue();
+        assertThat(registry.isRevoked(otherUser)).isFalse();
+        assertThat(registry.isRevoked(token(1L, 2L, "c", Instant.now().plusSeconds(5)))).isFalse();
+        // User revocations only concern stale claims, not the token itself
+        assertThat(registry.isTokenRevoked(before)).isFalse();
+        verify(tokenRevocationRepository).save(any(TokenRevocation.class));
+    }
+
+    @Test
+    void userRevokedAt_reportsLatestChangeOfThatUserOnly() {
+        Instant before = Instant.now();
+
+        registry.onUserChanged(new UserChangedEvent(1L));
+
+        assertThat(registry.userRevokedAt(1L)).isAfterOrEqualTo(before);
+        assertThat(registry.userRevokedAt(9L)).isNull();
+        assertThat(registry.userRevokedAt(null)).isNull();
+    }
+
+    @Test
+    void onRoleChanged_revokesTokensCarryingThatRole() {
+        Instant issuedAt = Instant.now().minusSeconds(60);
+
+        registry.onRoleChanged(new RoleChangedEvent(2L));
+
+        assertThat(registry.isRevoked(token(1L, 2L, "a", issuedAt))).isTrue();
+        assertThat(registry.isRevoked(token(1L, 3L, "b", issuedAt))).isFalse();
+        assertThat(registry.isRevoked(token(1L, null, "c", issuedAt))).isFalse();
+    }
+
+    @Test
+    void revokeToken_revokesOnlyThatToken() {
+        VerifiedToken loggedOut = token(1L, 2L, "logged-out", Instant.now());
+
+        registry.revokeToken(loggedOut);
+
+        assertThat(registry.isTokenRevoked(loggedOut)).isTrue();
+        assertThat(registry.isRevoked(loggedOut)).isTrue();
+        assertThat(registry.isTokenRevoked(token(1L, 2L, "other", Instant.now()))).isFalse();
+    }
+
+    @Test
+    void refresh_mergesOtherNodesRevocationsWithLocalOnes() {
+        Instant now = Instant.now();
+        registry.revokeToken(token(1L, 2L, "local", now));
+        when(tokenRevocationRepository.findUnexpired(any())).thenReturn(List.of(
+            TokenRevocation.token("remote", now, now.plusSeconds(900)),
+            TokenRevocation.user(5L, now, now.plusSeconds(900))));
+
+        // The reload did not see the local row yet - it must not be dropped
+        registry.refresh();
+
+        assertThat(registry.isTokenRevoked(token(1L, 2L, "local", now))).isTrue();
+        assertThat(registry.isTokenRevoked(token(1L, 2L, "remote", now))).isTrue();
+        assertThat(registry.isRevoked(token(5L, 2L, "x", now.minusSeconds(1)))).isTrue();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    void refresh_dropsExpiredRevocations() {
+        Instant now = Instant.now();
+        when(tokenRevocationRepository.findUnexpired(any())).thenReturn(
+            List.of(TokenRevocation.token("short", now.minusSeconds(60), now.plusMillis(50))));
+        registry.refresh();
+        assertThat(registry.size()).isEqualTo(1);
+
+        await(100);
+        when(tokenRevocationRepository.findUnexpired(any())).thenReturn(List.of());
+        registry.refresh();
+
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void isRevoked_withManyRevocations_hasNoFalseNegatives() {
+        Instant now = Instant.now();
+        List<TokenRevocation> revocations = new ArrayList<>();
+        for (long userId = 0; userId < 5_000; userId += 2) {
+            revocations.add(TokenRevocation.user(userId, now, now.plusSeconds(900)));
+        }
+        when(tokenRevocationRepository.findUnexpired(any())).thenReturn(revocations);
+        registry.refresh();
+
+        Instant issuedAt = now.minusSeconds(1);
+        for (long userId = 0; userId < 5_000; userId++) {
+            assertThat(registry.isRevoked(token(userId, null, null, issuedAt))).isEqualTo(userId % 2 == 0);
+        }
+    }
+
+    private static VerifiedToken token(Long userId, Long roleId, String tokenId, Instant issuedAt) {
+        return new VerifiedToken("user" + userId, userId, null, "user", roleId, 0L, "access", tokenId,
+            issuedAt, issuedAt.plusSeconds(900));
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.grace.gracemanageservice.presentation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.application.exception.ValidationException;
 import com.grace.gracemanageservice.application.service.AttendanceApplicationService;
+import com.grace.gracemanageservice.application.service.AttendanceDailyService;
+import com.grace.gracemanageservice.application.service.AttendanceExportService;
+import com.grace.gracemanageservice.application.service.CheckInIngestionService;
 import com.grace.gracemanageservice.presentation.request.CheckInRequest;
 import com.grace.gracemanageservice.presentation.response.ApiResponse;
 import com.grace.gracemanageservice.presentation.response.AttendanceStatusResponse;
@@ -9,12 +14,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +42,18 @@ class AttendanceControllerTest {
     @Mock
     private AttendanceApplicationService attendanceService;
 
+    @Mock
+    private CheckInIngestionService checkInIngestionService;
+
+    @Mock
+    private AttendanceDailyService attendanceDailyService;
+
+    @Mock
+    private AttendanceExportService attendanceExportService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private AttendanceController attendanceController;
 
@@ -71,6 +99,25 @@ class AttendanceControllerTest {
         verify(attendanceService).checkOut(request);
     }
 
+    @Test
+    void checkIn_shouldUseGroupCommitWhenEnabled() {
+        // Arrange
+        CheckInRequest request = new CheckInRequest(1L, 10.776589, 106.696540, 5.0, "Test Address");
+        CheckInRecordResponse expectedResponse = new CheckInRecordResponse(
+                3L, 1L, "IN", LocalDateTime.now(), 10.776589, 106.696540, 5.0, "Test Address");
+
+        when(checkInIngestionService.isEnabled()).thenReturn(true);
+        when(checkInIngestionService.checkIn(request)).thenReturn(expectedResponse);
+
+        // Act
+        ResponseEntity<ApiResponse<CheckInRecordResponse>> result = attendanceController.checkIn(request);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(expectedResponse, result.getBody().getData());
+        verifyNoInteractions(attendanceService);
+    }
+
     @Test
     void getStatus_shouldReturnCurrentStatus() {
         // Arrange
@@ -138,4 +185,72 @@ class AttendanceControllerTest {
 
         verify(attendanceService).getHistory(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamHistory_shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime time = LocalDateTime.of(2026, 1, 5, 8, 30);
+        doAnswer(invocation -> {
+            Consumer<CheckInRecordResponse> sink = invocation.getArgument(3);
+            sink.accept(new CheckInRecordResponse(1L, 1L, "IN", time, 10.5, 106.5, null, "Office"));
+            sink.accept(new CheckInRecordResponse(2L, 1L, "OUT", time.plusHours(9), null, null, null, null));
+            return null;
+        }).when(attendanceService).streamHistory(eq(userId), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(Consumer.class));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = attendanceController.streamHistory(userId, null, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        // Assert
+        verify(attendanceService).requireUser(userId);
+        assertEquals(MediaType.APPLICATION_NDJSON, result.getHeaders().getContentType());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"userId\":1,\"type\":\"IN\",\"timestamp\":\"2026-01-05T08:30\","
+                + "\"latitude\":10.5,\"longitude\":106.5,\"accuracy\":null,\"address\":\"Office\"}", lines[0]);
+        assertEquals("OUT", objectMapper.readTree(lines[1]).get("type").asText());
+    }
+
+    @Test
+    void export_withGzipAccepted_shouldCompressBody() throws Exception {
+        // Arrange
+        LocalDate startDate = LocalDate.of(2026, 1, 1);
+        LocalDate endDate = LocalDate.of(2026, 1, 31);
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = LocalDate.of(2026, 2, 1).atStartOfDay();
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("id,user_id\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(attendanceExportService).export(eq(start), eq(end), eq(AttendanceExportService.Format.CSV),
+                any(OutputStream.class));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = attendanceController.export(
+                startDate, endDate, "csv", "gzip, deflate");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        // Assert
+        verify(attendanceExportService).validateRange(start, end);
+        assertEquals("gzip", result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("text/csv", result.getHeaders().getContentType().toString());
+        assertTrue(result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)
+                .contains("attendance-2026-01-01-2026-01-31.csv"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("id,user_id\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void export_withUnknownFormat_shouldFailBeforeStreaming() {
+        assertThrows(ValidationException.class, () -> attendanceController.export(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "xlsx", null));
+
+        verifyNoInteractions(attendanceExportService);
+    }
 }
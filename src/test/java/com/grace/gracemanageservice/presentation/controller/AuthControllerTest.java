@@ -0,0 +1,130 @@
+package com.grace.gracemanageservice.presentation.controller;
+
+import com.grace.gracemanageservice.application.dto.LoginResponseDTO;
+import com.grace.gracemanageservice.application.dto.RefreshTokenResponseDTO;
+import com.grace.gracemanageservice.domain.entity.PermissionCode;
+import com.grace.gracemanageservice.domain.entity.User;
+import com.grace.gracemanageservice.domain.usecase.LoginUserUseCase;
+import com.grace.gracemanageservice.infrastructure.security.CustomUserDetails;
+import com.grace.gracemanageservice.infrastructure.security.CustomUserDetailsService;
+import com.grace.gracemanageservice.infrastructure.security.JwtTokenProvider;
+import com.grace.gracemanageservice.infrastructure.security.TokenRevocationRegistry;
+import com.grace.gracemanageservice.infrastructure.security.VerifiedToken;
+import com.grace.gracemanageservice.presentation.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    @Mock
+    private LoginUserUseCase loginUserUseCase;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @InjectMocks
+    private AuthController authController;
+
+    @Test
+    void getCurrentUser_servesUserFromPrincipalCache() {
+        VerifiedToken token = token("access");
+        Instant changedAt = Instant.now().minusSeconds(30);
+        when(jwtTokenProvider.verify("jwt")).thenReturn(token);
+        when(tokenRevocationRegistry.userRevokedAt(1L)).thenReturn(changedAt);
+        when(userDetailsService.loadUserByUsername("alice", changedAt)).thenReturn(principal(true, Set.of()));
+
+        ResponseEntity<ApiResponse<LoginResponseDTO.UserInfo>> response = authController.getCurrentUser("Bearer jwt");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Alice", response.getBody().getData().getFirstName());
+    }
+
+    @Test
+    void getCurrentUser_rejectsInactiveUser() {
+        when(jwtTokenProvider.verify("jwt")).thenReturn(token("access"));
+        when(userDetailsService.loadUserByUsername("alice", null)).thenReturn(principal(false, Set.of()));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, authController.getCurrentUser("Bearer jwt").getStatusCode());
+    }
+
+    @Test
+    void getCurrentUser_rejectsUnknownUser() {
+        when(jwtTokenProvider.verify("jwt")).thenReturn(token("access"));
+        when(userDetailsService.loadUserByUsername("alice", null)).thenThrow(new UsernameNotFoundException("alice"));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, authController.getCurrentUser("Bearer jwt").getStatusCode());
+    }
+
+    @Test
+    void getCurrentUser_rejectsLoggedOutToken() {
+        VerifiedToken token = token("access");
+        when(jwtTokenProvider.verify("jwt")).thenReturn(token);
+        when(tokenRevocationRegistry.isTokenRevoked(token)).thenReturn(true);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, authController.getCurrentUser("Bearer jwt").getStatusCode());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void refresh_mintsAccessTokenFromCachedPrincipal() {
+        Set<PermissionCode> permissions = EnumSet.of(PermissionCode.EXPORT_DATA);
+        CustomUserDetails principal = principal(true, permissions);
+        when(jwtTokenProvider.verify("refresh")).thenReturn(token("refresh"));
+        when(userDetailsService.loadUserByUsername("alice", null)).thenReturn(principal);
+        when(jwtTokenProvider.generateAccessToken(principal.getUser(), permissions)).thenReturn("new-access");
+
+        ResponseEntity<ApiResponse<RefreshTokenResponseDTO>> response = authController.refresh("Bearer refresh");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("new-access", response.getBody().getData().getAccessToken());
+    }
+
+    @Test
+    void refresh_rejectsInactiveUser() {
+        when(jwtTokenProvider.verify("refresh")).thenReturn(token("refresh"));
+        when(userDetailsService.loadUserByUsername("alice", null)).thenReturn(principal(false, Set.of()));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, authController.refresh("Bearer refresh").getStatusCode());
+        verify(jwtTokenProvider, never()).generateAccessToken(any(), any());
+    }
+
+    private static VerifiedToken token(String type) {
+        Instant now = Instant.now();
+        return new VerifiedToken("alice", 1L, "alice@grace.com", "user", 5L, 0L, type, "jti", now,
+                now.plusSeconds(900));
+    }
+
+    private static CustomUserDetails principal(boolean active, Set<PermissionCode> permissions) {
+        User user = User.builder()
+                .id(1L)
+                .username("alice")
+                .email("alice@grace.com")
+                .firstName("Alice")
+                .lastName("Nguyen")
+                .role("user")
+                .roleId(5L)
+                .active(active)
+                .build();
+        return new CustomUserDetails(user, permissions);
+    }
+}
@@ -0,0 +1,46 @@
+package com.grace.gracemanageservice.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grace.gracemanageservice.infrastructure.security.JwtKeyRing;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwksControllerTest {
+
+    @Test
+    void jwks_servesSerializedKeySetWithCacheHeaders() throws Exception {
+        JwtKeyRing keyRing = mock(JwtKeyRing.class);
+        when(keyRing.jwkSet()).thenReturn(Map.of("keys", List.of(Map.of("kid", "k1", "kty", "OKP"))));
+
+        JwksController controller = new JwksController(keyRing, new ObjectMapper(), 300);
+        ResponseEntity<String> response = controller.jwks();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"kid\":\"k1\""));
+        assertEquals("max-age=300, public", response.getHeaders().getCacheControl());
+        assertNotNull(response.getHeaders().getETag());
+        // Built once at startup, not per request
+        assertSame(response.getBody(), controller.jwks().getBody());
+        verify(keyRing, times(1)).jwkSet();
+    }
+
+    @Test
+    void jwks_etagChangesWithKeySet() throws Exception {
+        JwtKeyRing before = mock(JwtKeyRing.class);
+        JwtKeyRing after = mock(JwtKeyRing.class);
+        when(before.jwkSet()).thenReturn(Map.of("keys", List.of(Map.of("kid", "old"))));
+        when(after.jwkSet()).thenReturn(Map.of("keys", List.of(Map.of("kid", "new"))));
+
+        String beforeEtag = new JwksController(before, new ObjectMapper(), 300).jwks().getHeaders().getETag();
+        String afterEtag = new JwksController(after, new ObjectMapper(), 300).jwks().getHeaders().getETag();
+
+        assertNotEquals(beforeEtag, afterEtag);
+    }
+}
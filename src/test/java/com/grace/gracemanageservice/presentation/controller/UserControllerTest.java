@@ -3,9 +3,11 @@ package com.grace.gracemanageservice.presentation.controller;
 import com.grace.gracemanageservice.application.dto.UserDTO;
 import com.grace.gracemanageservice.application.mapper.UserMapper;
 import com.grace.gracemanageservice.application.service.UserApplicationService;
+import com.grace.gracemanageservice.application.service.UserImportService;
 import com.grace.gracemanageservice.presentation.request.CreateUserRequest;
 import com.grace.gracemanageservice.presentation.request.UpdateUserRequest;
 import com.grace.gracemanageservice.presentation.response.ApiResponse;
+import com.grace.gracemanageservice.presentation.response.UserImportResponse;
 import com.grace.gracemanageservice.presentation.response.UserResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,8 +17,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -34,6 +39,9 @@ class UserControllerTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserImportService userImportService;
+
     @InjectMocks
     private UserController userController;
 
@@ -124,4 +132,23 @@ class UserControllerTest {
 
         verify(userApplicationService).updateUser(eq(userId), eq(request));
     }
+
+    @Test
+    void importUsers_shouldPickFormatFromContentType() throws Exception {
+        // Arrange
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        UserImportResponse response = new UserImportResponse(2, 1,
+                List.of(new UserImportResponse.RowError(3, "email", "Email already exists")));
+        when(userImportService.importUsers(body, UserImportService.Format.CSV)).thenReturn(response);
+
+        // Act
+        ResponseEntity<ApiResponse<UserImportResponse>> result =
+                userController.importUsers("text/csv;charset=UTF-8", body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertNotNull(result.getBody());
+        assertEquals(response, result.getBody().getData());
+        assertEquals("Import processed: 2 created, 1 rejected", result.getBody().getMessage());
+    }
 }